@@ -4,9 +4,15 @@ import { useNotification } from '../contexts/NotificationContext';
 import ConfirmationDialog from './ConfirmationDialog';
 import './CustomExtensions.css';
 
+const PAGE_SIZE = 100;
+
 const CustomExtensions = ({ refreshTrigger, onUpdate, isAuthenticated, onLoginRequired }) => {
   const [extensions, setExtensions] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [customCount, setCustomCount] = useState(0);
+  const [maxCount, setMaxCount] = useState(200);
   const [loading, setLoading] = useState(true);
+  const [loadingMore, setLoadingMore] = useState(false);
   const { showNotification } = useNotification();
 
   const [isConfirmDialogOpen, setIsConfirmDialogOpen] = useState(false);
@@ -16,8 +22,11 @@ const CustomExtensions = ({ refreshTrigger, onUpdate, isAuthenticated, onLoginRe
   const fetchExtensions = async () => {
     try {
       setLoading(true);
-      const response = await extensionApi.getCustomExtensions();
-      setExtensions(response.data.data);
+      const page = (await extensionApi.getCustomExtensionPage(PAGE_SIZE)).data.data;
+      setExtensions(page.items);
+      setNextCursor(page.nextCursor);
+      setCustomCount(page.customCount);
+      setMaxCount(page.maxCount);
     } catch (error) {
       console.error('커스텀 확장자 조회 실패:', error);
       showNotification('커스텀 확장자 조회에 실패했습니다.', 'error');
@@ -26,6 +35,23 @@ const CustomExtensions = ({ refreshTrigger, onUpdate, isAuthenticated, onLoginRe
     }
   };
 
+  // 다음 페이지를 이어 붙임
+  const fetchMore = async () => {
+    if (!nextCursor || loadingMore) return;
+    try {
+      setLoadingMore(true);
+      const page = (await extensionApi.getCustomExtensionPage(PAGE_SIZE, nextCursor)).data.data;
+      setExtensions(prev => [...prev, ...page.items]);
+      setNextCursor(page.nextCursor);
+      setCustomCount(page.customCount);
+    } catch (error) {
+      console.error('커스텀 확장자 조회 실패:', error);
+      showNotification('커스텀 확장자 조회에 실패했습니다.', 'error');
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   const handleDeleteClick = (id) => {
     if (!isAuthenticated) {
       showNotification('확장자를 삭제하려면 로그인이 필요합니다.', 'warning');
@@ -44,6 +70,7 @@ const CustomExtensions = ({ refreshTrigger, onUpdate, isAuthenticated, onLoginRe
     try {
       await extensionApi.deleteCustomExtension(extensionToDeleteId);
       setExtensions(extensions.filter(ext => ext.id !== extensionToDeleteId));
+      setCustomCount(count => Math.max(count - 1, 0));
       showNotification('확장자가 삭제되었습니다.', 'success');
       if (onUpdate) onUpdate();
     } catch (error) {
@@ -90,7 +117,7 @@ const CustomExtensions = ({ refreshTrigger, onUpdate, isAuthenticated, onLoginRe
       <div className="custom-extensions-header">
         <h2>커스텀 확장자</h2>
         <span className="custom-extensions-count">
-          {extensions.length} / 200
+          {customCount} / {maxCount}
         </span>
       </div>
 
@@ -115,6 +142,12 @@ const CustomExtensions = ({ refreshTrigger, onUpdate, isAuthenticated, onLoginRe
         )}
       </div>
 
+      {nextCursor && (
+        <button onClick={fetchMore} className="custom-extensions-more" disabled={loadingMore}>
+          {loadingMore ? '로딩중...' : '더 보기'}
+        </button>
+      )}
+
       <ConfirmationDialog
         isOpen={isConfirmDialogOpen}
         onClose={cancelDelete}
@@ -1,26 +1,35 @@
-import React, { useState, useEffect } from 'react';
-import { extensionApi } from '../services/api';
+import React, { useState, useEffect, useRef } from 'react';
+import { extensionApi, statsApi } from '../services/api';
 import './ExtensionHistory.css';
 
 const ExtensionHistory = () => {
   const [extensions, setExtensions] = useState([]);
   const [loading, setLoading] = useState(true);
   const [filter, setFilter] = useState('all'); // all, fixed, custom, blocked
+  const [hourStats, setHourStats] = useState(null); // 최근 1시간 검사 통계
+  const versionRef = useRef(null); // 마지막으로 받은 스냅샷 버전
+  const extensionsRef = useRef([]);
 
-  const fetchExtensions = async () => {
+  const fetchExtensions = async (silent = false) => {
     try {
-      setLoading(true);
-      const [fixedRes, customRes] = await Promise.all([
-        extensionApi.getFixedExtensions(),
-        extensionApi.getCustomExtensions()
+      if (!silent) setLoading(true);
+      const [snapshotRes, statsRes] = await Promise.all([
+        extensionApi.getSnapshot(versionRef.current),
+        statsApi.getCheckStats(100).catch(() => null)
       ]);
       
-      const allExtensions = [
-        ...fixedRes.data.data,
-        ...customRes.data.data
-      ].sort((a, b) => new Date(b.updatedAt) - new Date(a.updatedAt));
+      // 처음에는 전체 목록, 이후에는 받은 버전 이후의 변경분만 기존 목록에 반영
+      const snapshot = snapshotRes.data.data;
+      const byId = new Map(snapshot.full ? [] : extensionsRef.current.map(ext => [ext.id, ext]));
+      snapshot.extensions.forEach(ext => byId.set(ext.id, ext));
+      snapshot.deleted.forEach(deleted => byId.delete(deleted.id));
+      const allExtensions = [...byId.values()]
+        .sort((a, b) => new Date(b.updatedAt) - new Date(a.updatedAt));
       
+      versionRef.current = snapshot.version;
+      extensionsRef.current = allExtensions;
       setExtensions(allExtensions);
+      setHourStats(statsRes ? statsRes.data.data.find(stats => stats.window === '1h') : null);
     } catch (error) {
       console.error('확장자 히스토리 조회 실패:', error);
     } finally {
@@ -30,7 +39,9 @@ const ExtensionHistory = () => {
 
   useEffect(() => {
     fetchExtensions();
-    // 자동 새로고침 제거 - 사용자 액션에만 반응
+    // 다른 관리자의 변경도 스트림으로 받아 로딩 표시 없이 다시 조회 (연결이 끊기면 EventSource가 재접속)
+    const source = extensionApi.subscribePolicyChanges(() => fetchExtensions(true));
+    return () => source.close();
   }, []);
 
   const filteredExtensions = extensions.filter(ext => {
@@ -41,6 +52,10 @@ const ExtensionHistory = () => {
     return true;
   });
 
+  const blockedCounts = new Map(
+    (hourStats ? hourStats.topBlocked : []).map(item => [item.extension, item.count])
+  );
+
   const getActionText = (ext) => {
     if (ext.fixed) {
       return ext.blocked ? '차단됨' : '차단 해제됨';
@@ -82,6 +97,11 @@ const ExtensionHistory = () => {
     <div className="extension-history">
       <div className="history-header">
         <h2>확장자 관리 기록</h2>
+        {hourStats && (
+          <span className="history-stats-summary">
+            최근 1시간 검사 {hourStats.total}건 · 차단 {hourStats.blocked}건
+          </span>
+        )}
         <div className="history-filters">
           <button 
             className={filter === 'all' ? 'active' : ''} 
@@ -145,6 +165,11 @@ const ExtensionHistory = () => {
                     {ext.updatedByName}
                   </span>
                 )}
+                {blockedCounts.has(ext.extension) && (
+                  <span className="history-blocked-count">
+                    최근 1시간 {blockedCounts.get(ext.extension)}회 차단
+                  </span>
+                )}
                 <span className="history-time">{formatDate(ext.updatedAt)}</span>
               </div>
             </div>
@@ -1,13 +1,42 @@
-import React, { useState } from 'react';
+import React, { useState, useEffect } from 'react';
 import { extensionApi } from '../services/api';
 import { useNotification } from '../contexts/NotificationContext';
 import './ExtensionInput.css';
 
+const KIND_LABELS = { FIXED: '고정', CUSTOM: '커스텀', KNOWN: '미등록' };
+
 const ExtensionInput = ({ onAdd }) => {
   const [extension, setExtension] = useState('');
   const [error, setError] = useState('');
+  const [suggestions, setSuggestions] = useState([]);
   const { showNotification } = useNotification();
 
+  // 입력이 멈추면 접두어 검색 (이미 등록된 확장자를 추가 전에 보여줌)
+  useEffect(() => {
+    const prefix = extension.trim().replace('.', '');
+    if (!prefix || !/^[a-zA-Z0-9]+$/.test(prefix)) {
+      setSuggestions([]);
+      return undefined;
+    }
+    let cancelled = false;
+    const timer = setTimeout(async () => {
+      try {
+        const response = await extensionApi.searchExtensions(prefix);
+        if (!cancelled) setSuggestions(response.data.data);
+      } catch (err) {
+        if (!cancelled) setSuggestions([]);
+      }
+    }, 150);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [extension]);
+
+  const exactMatch = suggestions.find(
+    hit => hit.kind !== 'KNOWN' && hit.extension === extension.trim().replace('.', '').toLowerCase()
+  );
+
   const validateExtension = (value) => {
     if (!value.trim()) return '확장자를 입력해주세요';
     if (value.length > 20) return '최대 20자까지 입력 가능합니다';
@@ -30,6 +59,7 @@ const ExtensionInput = ({ onAdd }) => {
       const response = await extensionApi.addCustomExtension(extension);
       setExtension('');
       setError('');
+      setSuggestions([]);
       onAdd(response.data.data);
       showNotification('확장자가 추가되었습니다.', 'success');
     } catch (err) {
@@ -62,6 +92,30 @@ const ExtensionInput = ({ onAdd }) => {
             className="extension-input-field"
           />
           {error && <div style={{ color: '#fa5252', fontSize: '13px', marginTop: '8px' }}>{error}</div>}
+          {!error && exactMatch && (
+            <div className="extension-input-duplicate">
+              이미 등록된 {KIND_LABELS[exactMatch.kind]} 확장자입니다{exactMatch.blocked ? ' (차단됨)' : ''}
+            </div>
+          )}
+          {suggestions.length > 0 && !exactMatch && (
+            <ul className="extension-suggestions">
+              {suggestions.map(hit => (
+                <li
+                  key={hit.extension}
+                  className="extension-suggestion"
+                  onMouseDown={(e) => {
+                    e.preventDefault();
+                    setExtension(hit.extension);
+                  }}
+                >
+                  <span className="extension-suggestion-name">.{hit.extension}</span>
+                  <span className={`extension-suggestion-kind ${hit.kind.toLowerCase()}`}>
+                    {KIND_LABELS[hit.kind]}{hit.blocked ? ' · 차단' : ''}
+                  </span>
+                </li>
+              ))}
+            </ul>
+          )}
         </div>
         <button type="submit" className="extension-input-button">
           추가
@@ -23,7 +23,7 @@ const FixedExtensions = ({ onUpdate, isAuthenticated, onLoginRequired }) => {
     }
   };
 
-  const handleToggle = async (id, currentStatus) => {
+  const handleToggle = async (id, currentStatus, version) => {
     if (!isAuthenticated) {
       showNotification('확장자를 수정하려면 로그인이 필요합니다.', 'warning');
       setIsLoginDialogOpen(true);
@@ -31,14 +31,48 @@ const FixedExtensions = ({ onUpdate, isAuthenticated, onLoginRequired }) => {
     }
 
     try {
-      await extensionApi.updateFixedExtension(id, !currentStatus);
-      setExtensions(extensions.map(ext =>
-        ext.id === id ? { ...ext, blocked: !currentStatus } : ext
-      ));
+      const response = await extensionApi.updateFixedExtension(id, !currentStatus, version);
+      const updated = response.data.data;
+      setExtensions(extensions.map(ext => (ext.id === id ? updated : ext)));
       if (onUpdate) onUpdate();
       showNotification('고정 확장자가 수정되었습니다.', 'success');
     } catch (error) {
       console.error('고정 확장자 업데이트 실패:', error);
+      if (error.response?.status === 409 && error.response.data?.data) {
+        // 다른 사용자가 먼저 바꿈: 현재 상태로 맞추고 알림
+        const current = error.response.data.data;
+        setExtensions(extensions.map(ext => (ext.id === id ? current : ext)));
+        showNotification(error.response.data.message, 'warning');
+      } else if (error.response?.status === 401 || error.response?.status === 403) {
+        showNotification('로그인이 필요합니다.', 'error');
+        setIsLoginDialogOpen(true);
+      } else {
+        showNotification('고정 확장자 업데이트에 실패했습니다: ' + (error.response?.data?.message || error.message), 'error');
+      }
+    }
+  };
+
+  // 모든 고정 확장자를 한 번에 차단/해제 (요청 한 번)
+  const handleSetAll = async (isBlocked) => {
+    if (!isAuthenticated) {
+      showNotification('확장자를 수정하려면 로그인이 필요합니다.', 'warning');
+      setIsLoginDialogOpen(true);
+      return;
+    }
+
+    const ids = extensions.filter(ext => ext.blocked !== isBlocked).map(ext => ext.id);
+    if (ids.length === 0) return;
+
+    try {
+      await extensionApi.updateFixedExtensions(ids, isBlocked);
+      // 바뀐 행은 서버에서 버전이 1 올라감
+      setExtensions(extensions.map(ext =>
+        ids.includes(ext.id) ? { ...ext, blocked: isBlocked, version: ext.version + 1 } : ext
+      ));
+      if (onUpdate) onUpdate();
+      showNotification(`고정 확장자 ${ids.length}개가 수정되었습니다.`, 'success');
+    } catch (error) {
+      console.error('고정 확장자 일괄 업데이트 실패:', error);
       if (error.response?.status === 401 || error.response?.status === 403) {
         showNotification('로그인이 필요합니다.', 'error');
         setIsLoginDialogOpen(true);
@@ -76,6 +110,10 @@ const FixedExtensions = ({ onUpdate, isAuthenticated, onLoginRequired }) => {
         <p className="fixed-extensions-description">
           자주 차단하는 확장자입니다. 체크하면 해당 확장자가 차단됩니다.
         </p>
+        <div className="fixed-extensions-actions">
+          <button onClick={() => handleSetAll(true)} className="fixed-extensions-action">전체 차단</button>
+          <button onClick={() => handleSetAll(false)} className="fixed-extensions-action">전체 해제</button>
+        </div>
       </div>
 
       <div className="fixed-extensions-grid">
@@ -83,7 +121,7 @@ const FixedExtensions = ({ onUpdate, isAuthenticated, onLoginRequired }) => {
           <div
             key={ext.id}
             className={`fixed-extension-item ${ext.blocked ? 'blocked' : ''}`}
-            onClick={() => handleToggle(ext.id, ext.blocked)}
+            onClick={() => handleToggle(ext.id, ext.blocked, ext.version)}
           >
             <label className="fixed-extension-label">
               <input
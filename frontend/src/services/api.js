@@ -49,20 +49,37 @@ api.interceptors.response.use(
 
 export const extensionApi = {
   getFixedExtensions: () => api.get('/extensions/fixed'),
-  updateFixedExtension: (id, isBlocked) => 
-    api.patch(`/extensions/fixed/${id}/block?isBlocked=${isBlocked}`),
+  // version 을 보내면 그 사이 다른 변경이 있을 때 409와 현재 상태({ data })를 받음
+  updateFixedExtension: (id, isBlocked, version) =>
+    api.patch(`/extensions/fixed/${id}/block`, null, { params: { isBlocked, version } }),
+  // 고정 확장자 차단 상태 일괄 변경 ({ version, count })
+  updateFixedExtensions: (ids, isBlocked) =>
+    api.patch('/extensions/fixed/block', null, { params: { ids: ids.join(','), isBlocked } }),
   getCustomExtensions: () => api.get('/extensions/custom'),
+  // 커스텀 확장자 키셋 페이지 ({ items, nextCursor, customCount, maxCount }, nextCursor 가 null 이면 마지막 페이지)
+  getCustomExtensionPage: (size, cursor) =>
+    api.get('/extensions/custom', { params: { size, cursor } }),
   addCustomExtension: (extension) => 
     api.post(`/extensions/custom?extension=${extension}`),
   deleteCustomExtension: (id) => api.delete(`/extensions/custom/${id}`),
+  // 커스텀 확장자 일괄 삭제 ({ version, count })
+  deleteCustomExtensions: (ids) => api.delete('/extensions/custom', { params: { ids: ids.join(',') } }),
   getBlockedExtensions: () => api.get('/extensions/blocked'),
-  getAllExtensions: () => api.get('/extensions/fixed').then(fixed => 
-    api.get('/extensions/custom').then(custom => ({
-      data: {
-        data: [...fixed.data.data, ...custom.data.data]
-      }
-    }))
-  ),
+  // 확장자 접두어 검색 ([{ id, extension, kind: FIXED|CUSTOM|KNOWN, blocked }])
+  searchExtensions: (prefix, limit = 8) => api.get('/extensions/search', { params: { prefix, limit } }),
+  // 정책 변경 스트림 구독 (커밋된 추가/삭제/차단 변경마다 onChange 호출, 반환한 EventSource는 호출한 쪽에서 close)
+  subscribePolicyChanges: (onChange) => {
+    const source = new EventSource(`${api.defaults.baseURL}/extensions/stream`, { withCredentials: true });
+    source.addEventListener('policy', event => onChange(JSON.parse(event.data)));
+    return source;
+  },
+  // 고정 + 커스텀 전체 또는 sinceVersion 이후 변경분 ({ version, full, extensions, deleted })
+  getSnapshot: (sinceVersion) => api.get('/extensions/snapshot', { params: { sinceVersion } }),
+  getAllExtensions: () => api.get('/extensions/snapshot').then(snapshot => ({
+    data: {
+      data: snapshot.data.data.extensions
+    }
+  })),
 };
 
 export const authApi = {
@@ -72,4 +89,11 @@ export const authApi = {
 
 export const fileApi = {
   checkFileExtension: (file) => api.post('/files/check', file, { headers: { 'Content-Type': 'multipart/form-data' } }),
+  checkFilenames: (filenames) => api.post('/files/check/batch', filenames),
+  checkFiles: (formData, failFast = false) => api.post('/files/check/multi', formData, { params: { failFast }, headers: { 'Content-Type': 'multipart/form-data' } }),
+};
+
+export const statsApi = {
+  // 최근 1m / 1h / 24h 검사 통계와 차단 상위 확장자
+  getCheckStats: (top = 10) => api.get('/stats/checks', { params: { top } }),
 };
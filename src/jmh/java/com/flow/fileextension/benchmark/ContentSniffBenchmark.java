@@ -0,0 +1,61 @@
+package com.flow.fileextension.benchmark;
+
+import com.flow.fileextension.service.ContentSignature;
+import com.flow.fileextension.service.ContentSignatureInspector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 크기별 내용 검사 비용
+ * sniff는 크기와 관계없이 일정해야 하고, readAll(기존 getBytes() 방식)은 크기에 비례한다.
+ * MB당 비용 = 결과(us/op) / sizeMb
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentSniffBenchmark {
+
+    @Param({"1", "16", "128"})
+    public int sizeMb;
+
+    private byte[] content;
+    private ContentSignatureInspector inspector;
+
+    @Setup
+    public void setUp() {
+        content = new byte[sizeMb * 1024 * 1024];
+        content[0] = 'M';
+        content[1] = 'Z';
+        content[0x3C] = (byte) 0x80;
+        content[0x80] = 'P';
+        content[0x81] = 'E';
+        inspector = new ContentSignatureInspector(true, 4096);
+    }
+
+    @Benchmark
+    public ContentSignature sniff() throws IOException {
+        return inspector.inspect(new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public ContentSignature readAll() throws IOException {
+        byte[] all = new ByteArrayInputStream(content).readAllBytes();
+        return inspector.detect(all, all.length);
+    }
+}
@@ -0,0 +1,93 @@
+package com.flow.fileextension.benchmark;
+
+import com.flow.fileextension.global.util.ExtensionValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExtensionValidator 메서드별 호출 1회당 비용 (파일명 분포별)
+ * 매 호출마다 분포의 다음 이름을 쓰므로 같은 이름만 반복할 때의 분기 예측/캐시 효과가 빠진다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExtensionValidatorBenchmark {
+
+    private static final int MASK = FilenameDistribution.SIZE - 1;
+
+    private static final Set<String> BLOCKED = Set.of("bat", "cmd", "com", "cpl", "exe", "scr", "js", "sh");
+
+    @Param({"TYPICAL", "LONG", "MANY_DOTS", "UNICODE", "NO_EXTENSION"})
+    public FilenameDistribution distribution;
+
+    private String[] filenames;
+
+    // extractAllExtensions 결과 구간들 (normalize, validate 입력)
+    private String[] extensions;
+
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        filenames = distribution.filenames();
+
+        List<String> parts = new ArrayList<>();
+        for (String filename : filenames) {
+            for (String part : ExtensionValidator.extractAllExtensions(filename)) {
+                parts.add(part);
+            }
+        }
+        // 확장자가 없는 분포는 파일명 자체를 입력으로 사용 (등록 요청에 이름을 잘못 넣는 경우)
+        List<String> source = parts.isEmpty() ? List.of(filenames) : parts;
+        extensions = new String[FilenameDistribution.SIZE];
+        for (int i = 0; i < extensions.length; i++) {
+            extensions[i] = source.get(i % source.size());
+        }
+    }
+
+    @Benchmark
+    public String[] extractAllExtensions() {
+        return ExtensionValidator.extractAllExtensions(filenames[cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public String normalize() {
+        return ExtensionValidator.normalize(extensions[cursor++ & MASK]);
+    }
+
+    @Benchmark
+    public boolean hasBlockedExtension() {
+        return ExtensionValidator.hasBlockedExtension(filenames[cursor++ & MASK], BLOCKED);
+    }
+
+    /**
+     * 정규식 형식 검증 (실패 시 예외 생성 비용 포함)
+     */
+    @Benchmark
+    public void validate(Blackhole blackhole) {
+        try {
+            ExtensionValidator.validate(extensions[cursor++ & MASK]);
+            blackhole.consume(true);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.flow.fileextension.benchmark;
+
+import com.flow.fileextension.domain.audit.service.CheckEventWriter;
+import com.flow.fileextension.domain.extension.policy.BlockPolicyHolder;
+import com.flow.fileextension.domain.extension.policy.ExtensionCatalog;
+import com.flow.fileextension.domain.extension.policy.TenantPolicyRegistry;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.global.decisionlog.DecisionLog;
+import com.flow.fileextension.global.metrics.FileCheckMetrics;
+import com.flow.fileextension.service.ArchiveInspector;
+import com.flow.fileextension.service.CheckStatistics;
+import com.flow.fileextension.service.ContentSignatureInspector;
+import com.flow.fileextension.service.FileCheckExecutor;
+import com.flow.fileextension.service.FileCheckService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileCheckService.isFileExtensionBlocked 전체 경로 (정책 스냅샷 + 파일명 검사 + 내용 검사)
+ * 저장소는 차단 확장자명 조회만 응답하는 메모리 스텁이므로 DB 비용은 빠지고 검사 로직 비용만 남는다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileCheckServiceBenchmark {
+
+    private static final int MASK = FilenameDistribution.SIZE - 1;
+
+    private static final List<String> BLOCKED = List.of("bat", "cmd", "com", "cpl", "exe", "scr", "js", "sh");
+
+    @Param({"TYPICAL", "LONG", "MANY_DOTS", "UNICODE", "NO_EXTENSION"})
+    public FilenameDistribution distribution;
+
+    // false: 파일명만 검사, true: 앞부분 매직 바이트와 압축 파일 검사까지
+    @Param({"false", "true"})
+    public boolean contentInspection;
+
+    private MultipartFile[] files;
+    private FileCheckService fileCheckService;
+    private FileCheckExecutor fileCheckExecutor;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ContentSignatureInspector contentSignatureInspector = new ContentSignatureInspector(contentInspection, 4096);
+        ArchiveInspector archiveInspector = new ArchiveInspector(contentSignatureInspector, contentInspection, 3, 10000, 100, 1L << 30, true);
+        fileCheckExecutor = new FileCheckExecutor(1, false);
+        BlockPolicyHolder blockPolicyHolder = new BlockPolicyHolder(inMemoryRepository(), new ExtensionCatalog());
+        // 실제 운영과 같은 비용을 재도록 히스토그램을 쓰는 레지스트리에 지표 기록
+        FileCheckMetrics fileCheckMetrics = new FileCheckMetrics(new SimpleMeterRegistry(), blockPolicyHolder, 50);
+        fileCheckService = new FileCheckService(TenantPolicyRegistry.globalOnly(blockPolicyHolder),
+                contentSignatureInspector, archiveInspector, fileCheckExecutor, fileCheckMetrics,
+                DecisionLog.disabled(), CheckEventWriter.disabled(), new CheckStatistics(256));
+
+        Random random = new Random(42);
+        String[] filenames = distribution.filenames();
+        files = new MultipartFile[filenames.length];
+        for (int i = 0; i < filenames.length; i++) {
+            byte[] content = new byte[1024];
+            random.nextBytes(content);
+            files[i] = new InMemoryMultipartFile(filenames[i], content);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fileCheckExecutor.shutdown();
+    }
+
+    @Benchmark
+    public boolean isFileExtensionBlocked() {
+        return fileCheckService.isFileExtensionBlocked(files[cursor++ & MASK]);
+    }
+
+    /**
+     * findBlockedExtensionNames만 응답하는 ExtensionRepository 스텁
+     */
+    private static ExtensionRepository inMemoryRepository() {
+        return (ExtensionRepository) Proxy.newProxyInstance(
+                ExtensionRepository.class.getClassLoader(),
+                new Class<?>[]{ExtensionRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findBlockedExtensionNames")) {
+                        return BLOCKED;
+                    }
+                    if (method.getDeclaringClass() == Object.class) {
+                        return switch (method.getName()) {
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            case "equals" -> proxy == args[0];
+                            default -> "InMemoryExtensionRepository";
+                        };
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static class InMemoryMultipartFile implements MultipartFile {
+
+        private final String filename;
+        private final byte[] content;
+
+        InMemoryMultipartFile(String filename, byte[] content) {
+            this.filename = filename;
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return filename;
+        }
+
+        @Override
+        public String getContentType() {
+            return "application/octet-stream";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
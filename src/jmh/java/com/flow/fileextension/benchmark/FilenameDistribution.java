@@ -0,0 +1,100 @@
+package com.flow.fileextension.benchmark;
+
+import java.util.Random;
+
+/**
+ * 벤치마크용 파일명 분포 (고정 시드로 생성하므로 실행마다 같은 이름 집합)
+ */
+public enum FilenameDistribution {
+
+    // 흔한 업로드: 이름 + 확장자 1~2개, 일부는 차단 확장자
+    TYPICAL {
+        @Override
+        String generate(Random random) {
+            String name = word(random, 4 + random.nextInt(12));
+            String ext = pick(random, COMMON_EXTENSIONS);
+            return random.nextInt(5) == 0 ? name + "." + ext + "." + pick(random, COMMON_EXTENSIONS) : name + "." + ext;
+        }
+    },
+
+    // 200자 이상 긴 이름 (공백, 버전 표기 포함)
+    LONG {
+        @Override
+        String generate(Random random) {
+            StringBuilder name = new StringBuilder();
+            while (name.length() < 200 + random.nextInt(56)) {
+                name.append(word(random, 3 + random.nextInt(8))).append(random.nextBoolean() ? ' ' : '_');
+            }
+            return name + "v" + random.nextInt(10) + "." + pick(random, COMMON_EXTENSIONS);
+        }
+    },
+
+    // 점이 많은 이름 (버전, 날짜, 이중 확장자 위장)
+    MANY_DOTS {
+        @Override
+        String generate(Random random) {
+            StringBuilder name = new StringBuilder(word(random, 6));
+            int segments = 10 + random.nextInt(30);
+            for (int i = 0; i < segments; i++) {
+                name.append('.').append(random.nextInt(3) == 0 ? pick(random, COMMON_EXTENSIONS) : word(random, 1 + random.nextInt(4)));
+            }
+            return name.toString();
+        }
+    },
+
+    // 한글, 일본어, 악센트, 이모지 이름과 대소문자가 섞인 확장자
+    UNICODE {
+        @Override
+        String generate(Random random) {
+            String name = pick(random, UNICODE_NAMES) + random.nextInt(1000);
+            String ext = pick(random, COMMON_EXTENSIONS);
+            return name + "." + (random.nextBoolean() ? ext.toUpperCase() : ext) + (random.nextInt(4) == 0 ? ".백업" : "");
+        }
+    },
+
+    // 확장자 없는 이름 (README, Makefile 등)
+    NO_EXTENSION {
+        @Override
+        String generate(Random random) {
+            return random.nextBoolean() ? pick(random, BARE_NAMES) : word(random, 4 + random.nextInt(20));
+        }
+    };
+
+    public static final int SIZE = 1024;
+
+    private static final String[] COMMON_EXTENSIONS = {
+            "pdf", "jpg", "jpeg", "png", "docx", "xlsx", "pptx", "txt", "zip", "gz", "tar", "hwp", "csv", "mp4",
+            "exe", "bat", "sh", "js"
+    };
+    private static final String[] UNICODE_NAMES = {
+            "보고서", "회의록_최종", "請求書", "写真", "Été_résumé", "naïve café", "📄문서", "Отчёт", "데이터 분석 결과"
+    };
+    private static final String[] BARE_NAMES = {"README", "Makefile", "LICENSE", "Dockerfile", "CHANGELOG", ".gitignore"};
+
+    abstract String generate(Random random);
+
+    /**
+     * 분포별 이름 SIZE개 (2의 거듭제곱이므로 인덱스를 & (SIZE - 1) 로 순환)
+     */
+    public String[] filenames() {
+        Random random = new Random(31L * ordinal() + 7);
+        String[] names = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            names[i] = generate(random);
+        }
+        return names;
+    }
+
+    private static String word(Random random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            int r = random.nextInt(36);
+            chars[i] = r < 26 ? (char) ((random.nextInt(4) == 0 ? 'A' : 'a') + r) : (char) ('0' + r - 26);
+        }
+        return new String(chars);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,61 @@
+package com.flow.fileextension.benchmark;
+
+import com.flow.fileextension.global.util.ExtensionMatcher;
+import com.flow.fileextension.global.util.ExtensionValidator;
+import com.flow.fileextension.global.util.FilenameScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일명 확장자 검사 1회당 비용 비교
+ * split + normalize 방식(기존 FileCheckService)과 FilenameScanner 방식을 비교한다.
+ * gc 프로파일러의 gc.alloc.rate.norm 값이 검사 1회당 할당 바이트이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilenameScanBenchmark {
+
+    private static final Set<String> BLOCKED = Set.of("bat", "cmd", "com", "cpl", "exe", "scr", "js", "sh");
+
+    @Param({"document.pdf", "report.tar.gz.exe", "My.Document.v1.0.FINAL.docx", "README"})
+    public String filename;
+
+    private ExtensionMatcher matcher;
+
+    @Setup
+    public void setUp() {
+        matcher = ExtensionMatcher.of(BLOCKED);
+    }
+
+    @Benchmark
+    public String splitAndNormalize() {
+        for (String ext : ExtensionValidator.extractAllExtensions(filename)) {
+            String normalized = ExtensionValidator.normalize(ext);
+            if (BLOCKED.contains(normalized)) {
+                return normalized;
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String scanner() {
+        return FilenameScanner.findFirst(filename, matcher);
+    }
+}
@@ -0,0 +1,31 @@
+package com.flow.fileextension.controller;
+
+import com.flow.fileextension.dto.CheckStatsDto;
+import com.flow.fileextension.global.response.ApiResponse;
+import com.flow.fileextension.service.CheckStatistics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/stats")
+@RequiredArgsConstructor
+public class CheckStatsController {
+
+    private final CheckStatistics checkStatistics;
+
+    /**
+     * 최근 1분 / 1시간 / 24시간 검사 수, 차단 수, 초당 비율과 차단 상위 확장자
+     * 예: GET /api/stats/checks?top=10 (top 최대 100)
+     */
+    @GetMapping("/checks")
+    public ResponseEntity<ApiResponse<List<CheckStatsDto>>> getCheckStats(
+            @RequestParam(value = "top", defaultValue = "10") int top) {
+        return ResponseEntity.ok(ApiResponse.success(checkStatistics.snapshot(top)));
+    }
+}
@@ -1,15 +1,19 @@
 package com.flow.fileextension.controller;
 
+import com.flow.fileextension.dto.FileCheckResultDto;
 import com.flow.fileextension.global.response.ApiResponse;
 import com.flow.fileextension.service.FileCheckService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/files")
 @RequiredArgsConstructor
@@ -29,4 +33,40 @@ public class FileCheckController {
             return ResponseEntity.internalServerError().body(ApiResponse.error("파일 확장자 확인 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
+
+    /**
+     * 파일 검사 결과 상세 (차단 확장자, 압축 파일 내부 항목, 차단 사유 포함)
+     * 예: POST /api/files/check?detail=true
+     */
+    @PostMapping(value = "/check", params = "detail=true")
+    public ResponseEntity<ApiResponse<FileCheckResultDto>> checkFileDetail(@RequestParam("file") MultipartFile file) {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("파일을 선택해주세요."));
+        }
+        try {
+            return ResponseEntity.ok(ApiResponse.success(fileCheckService.check(file)));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(ApiResponse.error("파일 확장자 확인 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 여러 파일 병렬 검사 (한 요청에 files 파트 여러 개)
+     * failFast=true 이면 첫 차단 파일에서 나머지 검사를 중단하고 검사하지 않은 파일은 skipped 로 표시
+     */
+    @PostMapping("/check/multi")
+    public ResponseEntity<ApiResponse<List<FileCheckResultDto>>> checkFiles(
+            @RequestParam(value = "files", required = false) List<MultipartFile> files,
+            @RequestParam(value = "failFast", defaultValue = "false") boolean failFast) {
+        return ResponseEntity.ok(ApiResponse.success(fileCheckService.checkFiles(files, failFast)));
+    }
+
+    /**
+     * 파일명 목록 일괄 검사 (파일 업로드 없이 이름만 전송)
+     * 요청 본문: ["a.exe", "b.pdf", ...]
+     */
+    @PostMapping("/check/batch")
+    public ResponseEntity<ApiResponse<List<FileCheckResultDto>>> checkFilenames(@RequestBody List<String> filenames) {
+        return ResponseEntity.ok(ApiResponse.success(fileCheckService.checkFilenames(filenames)));
+    }
 }
@@ -0,0 +1,74 @@
+package com.flow.fileextension.domain.audit.entity;
+
+import com.flow.fileextension.dto.FileCheckResultDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파일 검사 판정 감사 기록
+ * 기록 스레드가 묶어서 INSERT 하므로 IDENTITY 대신 SEQUENCE(allocationSize 50)로 id를 미리 받아 JDBC 배치가 가능하게 한다.
+ * (시퀀스가 없는 MySQL에서는 Hibernate가 check_events_seq 테이블로 대신함)
+ */
+@Entity
+@Table(name = "check_events", indexes = {
+        @Index(name = "idx_check_events_checked_at", columnList = "checked_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CheckEvent {
+
+    public static final int FILENAME_MAX_LENGTH = 255;
+    public static final int REASON_MAX_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "check_event_seq")
+    @SequenceGenerator(name = "check_event_seq", sequenceName = "check_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(length = FILENAME_MAX_LENGTH)
+    private String filename;
+
+    @Column(name = "matched_extension", length = 20)
+    private String matchedExtension;
+
+    @Column(nullable = false)
+    private boolean blocked;
+
+    @Column(length = REASON_MAX_LENGTH)
+    private String reason;
+
+    // 비로그인 검사는 null (사용자 삭제와 무관하게 기록을 남기도록 FK 없이 id만 저장)
+    @Column(name = "user_id")
+    private Long userId;
+
+    // 판정에 쓴 전역 정책의 DB 리비전 (policy_revision, 조직 규칙은 tenant_extension_rules.updated_at 과 checked_at 으로 대조)
+    @Column(name = "policy_version", nullable = false)
+    private long policyVersion;
+
+    @Column(name = "checked_at", nullable = false, updatable = false)
+    private LocalDateTime checkedAt;
+
+    private CheckEvent(String filename, String matchedExtension, boolean blocked, String reason,
+                       Long userId, long policyVersion, LocalDateTime checkedAt) {
+        this.filename = filename;
+        this.matchedExtension = matchedExtension;
+        this.blocked = blocked;
+        this.reason = reason;
+        this.userId = userId;
+        this.policyVersion = policyVersion;
+        this.checkedAt = checkedAt;
+    }
+
+    public static CheckEvent of(FileCheckResultDto result, Long userId, long policyVersion, LocalDateTime checkedAt) {
+        return new CheckEvent(truncate(result.getFilename(), FILENAME_MAX_LENGTH), result.getMatchedExtension(),
+                result.isBlocked(), truncate(result.getReason(), REASON_MAX_LENGTH), userId, policyVersion, checkedAt);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
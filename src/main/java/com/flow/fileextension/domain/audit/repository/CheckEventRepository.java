@@ -0,0 +1,12 @@
+package com.flow.fileextension.domain.audit.repository;
+
+import com.flow.fileextension.domain.audit.entity.CheckEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CheckEventRepository extends JpaRepository<CheckEvent, Long> {
+
+    // 사용자별 검사 기록 수
+    long countByUserId(Long userId);
+}
@@ -0,0 +1,248 @@
+package com.flow.fileextension.domain.audit.service;
+
+import com.flow.fileextension.domain.audit.entity.CheckEvent;
+import com.flow.fileextension.domain.audit.repository.CheckEventRepository;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import com.flow.fileextension.global.security.SessionUser;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 검사 감사 기록 저장
+ * 요청 스레드는 메모리 큐에 넣기만 하고, 전용 스레드가 batch-size 개가 모이거나 flush-interval 이 지나면
+ * 한 트랜잭션에서 JDBC 배치로 INSERT 한다.
+ * 큐가 가득 차면 요청 스레드가 offer-timeout 만큼 기다리고(backpressure), 그래도 자리가 없으면 버리고 dropped 를 올린다.
+ * offer-timeout 은 호출 한 번(record/recordAll) 전체의 대기 한도이므로, 여러 건을 기록해도 요청 스레드는 그 이상 붙잡히지 않는다.
+ * 종료 시에는 큐에 남은 기록을 모두 저장한 뒤 멈춘다.
+ *
+ * <pre>
+ * check.audit.written    저장한 기록 수
+ * check.audit.dropped    큐가 가득 차 버린 기록 수
+ * check.audit.failed     저장 중 오류로 잃은 기록 수
+ * check.audit.pending    저장 대기 중인 기록 수
+ * </pre>
+ */
+@Slf4j
+@Component
+public class CheckEventWriter {
+
+    private static final long MAX_POLL_MILLIS = 100;
+
+    private final CheckEventRepository checkEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final BlockingQueue<CheckEvent> queue;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public CheckEventWriter(
+            CheckEventRepository checkEventRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry registry,
+            @Value("${file-check.audit.enabled:true}") boolean enabled,
+            @Value("${file-check.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${file-check.audit.batch-size:500}") int batchSize,
+            @Value("${file-check.audit.flush-interval-ms:1000}") long flushIntervalMillis,
+            @Value("${file-check.audit.offer-timeout-ms:100}") long offerTimeoutMillis) {
+        this.checkEventRepository = checkEventRepository;
+        this.transactionTemplate = transactionManager != null ? new TransactionTemplate(transactionManager) : null;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        if (registry != null) {
+            FunctionCounter.builder("check.audit.written", written, AtomicLong::get)
+                    .description("저장한 검사 감사 기록 수")
+                    .register(registry);
+            FunctionCounter.builder("check.audit.dropped", dropped, AtomicLong::get)
+                    .description("큐가 가득 차 버린 검사 감사 기록 수")
+                    .register(registry);
+            FunctionCounter.builder("check.audit.failed", failed, AtomicLong::get)
+                    .description("저장 오류로 잃은 검사 감사 기록 수")
+                    .register(registry);
+            Gauge.builder("check.audit.pending", queue, BlockingQueue::size)
+                    .description("저장 대기 중인 검사 감사 기록 수")
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 아무것도 저장하지 않는 인스턴스 (스프링 컨텍스트 밖에서 서비스를 직접 만들 때)
+     */
+    public static CheckEventWriter disabled() {
+        return new CheckEventWriter(null, null, null, false, 1, 1, 0, 0);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::writeLoop, "check-audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 검사 결과 1건 기록 (요청 스레드에서 호출, 사용자는 현재 세션에서 조회)
+     * @param policyRevision 판정에 쓴 정책의 DB 리비전 (인스턴스나 재시작과 무관하게 같은 정책을 가리킴)
+     */
+    public void record(FileCheckResultDto result, long policyRevision) {
+        record(result, currentUserId(), policyRevision);
+    }
+
+    /**
+     * 사용자 없이 1건 기록 (CSRF 검증을 거치지 않은 요청이 세션 사용자 이름으로 기록을 남기지 못하도록)
+     */
+    public void recordUnattributed(FileCheckResultDto result, long policyRevision) {
+        record(result, null, policyRevision);
+    }
+
+    /**
+     * 한 요청의 검사 결과 여러 건 기록 (검사하지 않은 skipped 결과는 제외)
+     */
+    public void recordAll(List<FileCheckResultDto> results, long policyRevision) {
+        if (!enabled) {
+            return;
+        }
+        Long userId = currentUserId();
+        LocalDateTime checkedAt = LocalDateTime.now();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        boolean expired = false;
+        for (FileCheckResultDto result : results) {
+            if (Boolean.TRUE.equals(result.getSkipped())) {
+                continue;
+            }
+            // 한 번 대기 시간을 다 쓰면 나머지는 기다리지 않고 버림
+            if (expired) {
+                dropped.incrementAndGet();
+                continue;
+            }
+            expired = !enqueue(CheckEvent.of(result, userId, policyRevision, checkedAt), deadline);
+        }
+    }
+
+    private void record(FileCheckResultDto result, Long userId, long policyRevision) {
+        if (!enabled) {
+            return;
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(offerTimeoutMillis);
+        enqueue(CheckEvent.of(result, userId, policyRevision, LocalDateTime.now()), deadline);
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive()) {
+            log.warn("검사 감사 기록 저장이 끝나지 않았습니다 (남은 기록 {}건)", queue.size());
+        }
+        writerThread = null;
+    }
+
+    /**
+     * deadline(System.nanoTime 기준)까지 남은 시간만 기다려 큐에 넣음
+     * @return 넣었으면 true, 자리가 없어 버렸으면 false
+     */
+    private boolean enqueue(CheckEvent event, long deadline) {
+        try {
+            if (queue.offer(event, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+
+    private void writeLoop() {
+        List<CheckEvent> batch = new ArrayList<>(batchSize);
+        long deadline = 0;
+        while (true) {
+            long waitMillis = batch.isEmpty() ? MAX_POLL_MILLIS
+                    : Math.max(0, Math.min(MAX_POLL_MILLIS, deadline - System.currentTimeMillis()));
+            CheckEvent event;
+            try {
+                event = queue.poll(waitMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // 종료 요청으로 보고 남은 기록 저장 후 끝냄
+                running = false;
+                event = null;
+            }
+            if (event != null) {
+                if (batch.isEmpty()) {
+                    deadline = System.currentTimeMillis() + flushIntervalMillis;
+                }
+                batch.add(event);
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+
+            boolean stopping = !running;
+            if (!batch.isEmpty() && (batch.size() >= batchSize || System.currentTimeMillis() >= deadline || stopping)) {
+                flush(batch);
+                batch.clear();
+            }
+            if (stopping && batch.isEmpty() && queue.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private void flush(List<CheckEvent> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> checkEventRepository.saveAll(batch));
+            written.addAndGet(batch.size());
+        } catch (RuntimeException e) {
+            failed.addAndGet(batch.size());
+            log.error("검사 감사 기록 {}건 저장 실패", batch.size(), e);
+        }
+    }
+
+    private static Long currentUserId() {
+        SessionUser sessionUser = SessionUser.current();
+        return sessionUser != null ? sessionUser.getId() : null;
+    }
+}
@@ -1,25 +1,45 @@
 package com.flow.fileextension.domain.extension.controller;
 
+import com.flow.fileextension.domain.extension.dto.BulkMutationResponseDto;
+import com.flow.fileextension.domain.extension.dto.CustomExtensionPageDto;
 import com.flow.fileextension.domain.extension.dto.ExtensionRequestDto;
 import com.flow.fileextension.domain.extension.dto.ExtensionResponseDto;
+import com.flow.fileextension.domain.extension.dto.ExtensionSearchHitDto;
+import com.flow.fileextension.domain.extension.dto.PolicyApplyRequestDto;
+import com.flow.fileextension.domain.extension.dto.PolicyDiffDto;
+import com.flow.fileextension.domain.extension.dto.PolicySnapshotDto;
+import com.flow.fileextension.domain.extension.dto.TenantRuleDto;
+import com.flow.fileextension.domain.extension.event.PolicyChangeBroadcaster;
+import com.flow.fileextension.domain.extension.policy.BlockPolicyHolder;
+import com.flow.fileextension.domain.extension.policy.ExtensionSearchIndex;
 import com.flow.fileextension.domain.extension.service.ExtensionService;
+import com.flow.fileextension.domain.extension.service.TenantPolicyService;
 import com.flow.fileextension.domain.user.entity.User;
 import com.flow.fileextension.domain.user.repository.UserRepository;
+import com.flow.fileextension.global.constants.ApiHeaders;
 import com.flow.fileextension.global.response.ApiResponse;
 import com.flow.fileextension.global.security.SessionUser;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -28,7 +48,13 @@ import java.util.List;
 @Validated
 public class ExtensionController {
 
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
     private final ExtensionService extensionService;
+    private final TenantPolicyService tenantPolicyService;
+    private final BlockPolicyHolder blockPolicyHolder;
+    private final ExtensionSearchIndex extensionSearchIndex;
+    private final PolicyChangeBroadcaster policyChangeBroadcaster;
     private final UserRepository userRepository;
     private final HttpSession httpSession;
 
@@ -36,36 +62,116 @@ public class ExtensionController {
      * 고정 확장자 목록 조회
      */
     @GetMapping("/fixed")
-    public ResponseEntity<ApiResponse<List<ExtensionResponseDto>>> getAllFixedExtensions() {
-        return ResponseEntity.ok(ApiResponse.success(extensionService.getAllFixedExtensions()));
+    public ResponseEntity<ApiResponse<List<ExtensionResponseDto>>> getAllFixedExtensions(WebRequest webRequest) {
+        return conditionalList(webRequest, extensionService::getAllFixedExtensions);
     }
 
     /**
      * 커스텀 확장자 목록 조회
      */
     @GetMapping("/custom")
-    public ResponseEntity<ApiResponse<List<ExtensionResponseDto>>> getAllCustomExtensions() {
-        return ResponseEntity.ok(ApiResponse.success(extensionService.getAllCustomExtensions()));
+    public ResponseEntity<ApiResponse<List<ExtensionResponseDto>>> getAllCustomExtensions(WebRequest webRequest) {
+        return conditionalList(webRequest, extensionService::getAllCustomExtensions);
+    }
+
+    /**
+     * 커스텀 확장자 페이지 조회 (예: ?size=100&cursor=pdf&prefix=x&blocked=true)
+     * 확장자명 순으로 cursor 다음부터 size 개를 반환하고, 응답의 nextCursor 로 다음 페이지를 요청한다.
+     */
+    @GetMapping(value = "/custom", params = "size")
+    public ResponseEntity<ApiResponse<CustomExtensionPageDto>> getCustomExtensionPage(
+            @RequestParam int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) Boolean blocked) {
+        try {
+            CustomExtensionPageDto response = extensionService.getCustomExtensionPage(cursor, prefix, blocked, size);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
     }
 
     /**
      * 차단된 확장자 목록 조회 (고정 + 커스텀)
      */
     @GetMapping("/blocked")
-    public ResponseEntity<ApiResponse<List<ExtensionResponseDto>>> getAllBlockedExtensions() {
-        return ResponseEntity.ok(ApiResponse.success(extensionService.getAllBlockedExtensions()));
+    public ResponseEntity<ApiResponse<List<ExtensionResponseDto>>> getAllBlockedExtensions(WebRequest webRequest) {
+        return conditionalList(webRequest, extensionService::getAllBlockedExtensions);
+    }
+
+    /**
+     * 확장자 접두어 검색 (자동완성, 비로그인 허용)
+     * 등록된 확장자와 잘 알려진 확장자 중 prefix 로 시작하는 것을 확장자명 순으로 반환한다 (DB 조회 없음).
+     * 각 결과의 kind 는 FIXED/CUSTOM/KNOWN(미등록), blocked 는 현재 차단 여부다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<ExtensionSearchHitDto>>> searchExtensions(
+            @RequestParam @NotBlank(message = "검색할 확장자를 입력해주세요")
+            @Size(max = 20, message = "확장자는 최대 20자까지 가능합니다")
+            @Pattern(regexp = "^[a-zA-Z0-9]+$", message = "확장자는 영문과 숫자만 가능합니다")
+            String prefix,
+            @RequestParam(defaultValue = "10")
+            @Min(value = 1, message = "검색 개수는 1 이상이어야 합니다")
+            @Max(value = 50, message = "검색 개수는 최대 50개까지 가능합니다")
+            int limit) {
+        return ResponseEntity.ok(ApiResponse.success(extensionSearchIndex.search(prefix.toLowerCase(), limit)));
+    }
+
+    /**
+     * 정책 스냅샷 조회 (고정 + 커스텀을 한 번에)
+     * sinceVersion 없이 부르면 전체 목록과 version 을, 이후 받은 version 을 sinceVersion 으로 보내면 그 뒤 변경분과 삭제 목록만 반환한다.
+     */
+    @GetMapping("/snapshot")
+    public ResponseEntity<ApiResponse<PolicySnapshotDto>> getSnapshot(
+            @RequestParam(required = false) Long sinceVersion) {
+        return ResponseEntity.ok(ApiResponse.success(extensionService.getSnapshot(sinceVersion)));
+    }
+
+    /**
+     * 정책 변경 스트림 (Server-Sent Events, 비로그인 허용)
+     * 접속 직후 version 이벤트로 현재 버전을, 이후 변경이 커밋될 때마다 policy 이벤트를 보낸다.
+     * 예: event: policy / data: {"type":"ADDED","id":12,"extension":"zip","fixed":false,"blocked":true,"version":"..."}
+     * 연결 수는 로그인 사용자별, 비로그인이면 접속 주소별로 제한한다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPolicyChanges(HttpServletRequest request) {
+        SessionUser sessionUser = SessionUser.current();
+        String client = sessionUser != null ? "user:" + sessionUser.getId() : "addr:" + request.getRemoteAddr();
+        return policyChangeBroadcaster.subscribe(client);
     }
 
     /**
      * 고정 확장자 차단 상태 변경
+     * version 을 함께 보내면 그 버전일 때만 바꾸고, 다른 사용자가 먼저 바꿨으면 409와 현재 상태를 반환한다.
      */
     @PatchMapping("/fixed/{id}/block")
     public ResponseEntity<ApiResponse<ExtensionResponseDto>> updateBlockStatus(
             @PathVariable Long id,
+            @RequestParam Boolean isBlocked,
+            @RequestParam(required = false) Long version) {
+        try {
+            User currentUser = getCurrentUser();
+            ExtensionResponseDto response = extensionService.updateBlockStatus(id, isBlocked, version, currentUser);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 고정 확장자 차단 상태 일괄 변경 (예: ?ids=1,2,3&isBlocked=false)
+     * 한 트랜잭션, UPDATE 한 문장으로 처리하고 변경 후 정책 버전을 반환한다.
+     */
+    @PatchMapping("/fixed/block")
+    public ResponseEntity<ApiResponse<BulkMutationResponseDto>> updateBlockStatuses(
+            @RequestParam List<Long> ids,
             @RequestParam Boolean isBlocked) {
         try {
             User currentUser = getCurrentUser();
-            ExtensionResponseDto response = extensionService.updateBlockStatus(id, isBlocked, currentUser);
+            BulkMutationResponseDto response = extensionService.updateBlockStatuses(ids, isBlocked, currentUser);
             return ResponseEntity.ok(ApiResponse.success(response));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
@@ -107,33 +213,162 @@ public class ExtensionController {
         }
     }
 
+    /**
+     * 커스텀 확장자 일괄 삭제 (예: ?ids=10,11)
+     * 한 트랜잭션, DELETE 한 문장으로 처리하고 변경 후 정책 버전을 반환한다.
+     */
+    @DeleteMapping("/custom")
+    public ResponseEntity<ApiResponse<BulkMutationResponseDto>> deleteCustomExtensions(@RequestParam List<Long> ids) {
+        try {
+            User currentUser = getCurrentUser();
+            return ResponseEntity.ok(ApiResponse.success(extensionService.deleteCustomExtensions(ids, currentUser)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 원하는 정책 전체를 한 번에 적용 (JSON)
+     * 현재 정책과의 차이만 한 트랜잭션으로 반영하고 적용한 차이를 반환한다. dryRun=true 이면 차이만 계산한다.
+     * 빈 목록(커스텀 확장자 전체 삭제)은 clearAll=true 를 함께 보낸 경우에만 적용한다.
+     */
+    @PutMapping(value = "/policy", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<PolicyDiffDto>> applyPolicy(
+            @RequestBody PolicyApplyRequestDto request,
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            @RequestParam(defaultValue = "false") boolean clearAll) {
+        return applyPolicyRequest(request, dryRun, clearAll);
+    }
+
+    /**
+     * 원하는 정책 전체를 한 번에 적용 (CSV, 한 줄에 "확장자[,차단여부]")
+     */
+    @PutMapping(value = "/policy", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ApiResponse<PolicyDiffDto>> applyPolicyCsv(
+            @RequestBody String csv,
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            @RequestParam(defaultValue = "false") boolean clearAll) {
+        try {
+            return applyPolicyRequest(PolicyApplyRequestDto.fromCsv(csv), dryRun, clearAll);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 내 조직의 확장자 규칙 목록 (전역 정책 위에 덮어쓰는 규칙만)
+     */
+    @GetMapping("/tenant")
+    public ResponseEntity<ApiResponse<List<TenantRuleDto>>> getTenantRules() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(tenantPolicyService.getRules(getCurrentTenantId())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 내 조직의 확장자 규칙 추가/변경 (isBlocked=false 이면 전역 차단을 이 조직에서만 허용)
+     */
+    @PutMapping("/tenant/{extension}")
+    public ResponseEntity<ApiResponse<TenantRuleDto>> setTenantRule(
+            @PathVariable String extension,
+            @RequestParam Boolean isBlocked) {
+        try {
+            TenantRuleDto response = tenantPolicyService.setRule(getCurrentTenantId(), extension, isBlocked);
+            return ResponseEntity.ok(ApiResponse.success(response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 내 조직의 확장자 규칙 삭제 (전역 정책을 따름)
+     */
+    @DeleteMapping("/tenant/{extension}")
+    public ResponseEntity<ApiResponse<Void>> deleteTenantRule(@PathVariable String extension) {
+        try {
+            tenantPolicyService.deleteRule(getCurrentTenantId(), extension);
+            return ResponseEntity.ok(ApiResponse.success(null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<ApiResponse<PolicyDiffDto>> applyPolicyRequest(PolicyApplyRequestDto request, boolean dryRun,
+                                                                        boolean clearAll) {
+        try {
+            User currentUser = getCurrentUser();
+            return ResponseEntity.ok(ApiResponse.success(
+                    extensionService.applyPolicy(request, dryRun, clearAll, currentUser)));
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+
+    /**
+     * 정책 버전 태그를 ETag로 쓰는 조건부 목록 응답
+     * If-None-Match 가 현재 태그와 같으면 DB 조회 없이 304를 반환하고, 브라우저가 매번 재검증하도록 no-cache 로 내려준다.
+     */
+    private ResponseEntity<ApiResponse<List<ExtensionResponseDto>>> conditionalList(
+            WebRequest webRequest, Supplier<List<ExtensionResponseDto>> loader) {
+        // 조회 전에 태그를 읽어야 조회 도중 커밋된 변경이 이전 태그로 캐시되지 않음
+        String versionTag = blockPolicyHolder.versionTag();
+        if (versionTag == null) {
+            return ResponseEntity.ok(ApiResponse.success(loader.get()));
+        }
+
+        String etag = "\"" + versionTag + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(ApiHeaders.POLICY_VERSION, versionTag)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(ApiHeaders.POLICY_VERSION, versionTag)
+                .body(ApiResponse.success(loader.get()));
+    }
+
     /**
      * 현재 로그인한 사용자 ID 조회
      */
     private Long getCurrentUserId() {
         SessionUser sessionUser = (SessionUser) httpSession.getAttribute("user");
         if (sessionUser == null) {
-            log.warn("세션에 사용자 정보가 없습니다. 비로그인 상태로 처리합니다.");
+            log.debug("세션에 사용자 정보가 없습니다. 비로그인 상태로 처리합니다.");
             return null;
         }
-        
-        log.info("세션 사용자 정보: id={}, name={}",
-                sessionUser.getId(), sessionUser.getName());
-        
+
         return sessionUser.getId();
     }
     
+    /**
+     * 현재 로그인한 사용자의 조직 ID (비로그인 또는 조직 없음이면 null)
+     */
+    private Long getCurrentTenantId() {
+        SessionUser sessionUser = (SessionUser) httpSession.getAttribute("user");
+        return sessionUser != null ? sessionUser.getTenantId() : null;
+    }
+    
     /**
      * 현재 로그인한 사용자 조회 (기존 호환성 유지)
      */
     private User getCurrentUser() {
         SessionUser sessionUser = (SessionUser) httpSession.getAttribute("user");
         if (sessionUser == null) {
-            log.warn("세션에 사용자 정보가 없습니다. 비로그인 상태로 처리합니다.");
+            log.debug("세션에 사용자 정보가 없습니다. 비로그인 상태로 처리합니다.");
             return null;
         }
-        
-        log.info("세션 사용자 정보: id={}, name={}", sessionUser.getId(), sessionUser.getName());
 
         return userRepository.findByEmail(sessionUser.getEmail())
                 .orElseGet(() -> {
@@ -0,0 +1,16 @@
+package com.flow.fileextension.domain.extension.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 변경 결과
+ * version 은 변경 후 정책 리비전 (바뀐 확장자가 없으면 현재 리비전), count 는 실제로 바뀐 확장자 수다.
+ */
+@Getter
+@AllArgsConstructor
+public class BulkMutationResponseDto {
+
+    private long version;
+    private int count;
+}
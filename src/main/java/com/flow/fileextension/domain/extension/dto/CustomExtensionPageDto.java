@@ -0,0 +1,21 @@
+package com.flow.fileextension.domain.extension.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커스텀 확장자 키셋 페이지
+ * nextCursor 를 다음 요청의 cursor 로 보내면 이어서 조회하고, null 이면 마지막 페이지다.
+ * customCount 와 maxCount 는 전체 커스텀 확장자 수와 최대 개수 (COUNT 없이 카운터 행에서 읽음).
+ */
+@Getter
+@AllArgsConstructor
+public class CustomExtensionPageDto {
+
+    private List<ExtensionResponseDto> items;
+    private String nextCursor;
+    private long customCount;
+    private int maxCount;
+}
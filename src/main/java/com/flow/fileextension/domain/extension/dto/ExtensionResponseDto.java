@@ -28,6 +28,9 @@ public class ExtensionResponseDto {
     private String updatedByName;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // 행 버전 (차단 상태 변경 시 그대로 보내면 그 사이 다른 변경이 있을 때 409)
+    private long version;
     
     public static ExtensionResponseDto from(Extension extension) {
         return ExtensionResponseDto.builder()
@@ -39,6 +42,7 @@ public class ExtensionResponseDto {
                 .updatedByName(extension.getUpdatedBy() != null ? extension.getUpdatedBy().getName() : null)
                 .createdAt(extension.getCreatedAt())
                 .updatedAt(extension.getUpdatedAt())
+                .version(extension.getVersion())
                 .build();
     }
 }
@@ -0,0 +1,30 @@
+package com.flow.fileextension.domain.extension.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 확장자 접두어 검색 결과 한 건
+ * kind 가 KNOWN 이면 등록되지 않은 잘 알려진 확장자(카탈로그)이며 id 는 null 이다.
+ */
+@Getter
+@AllArgsConstructor
+public class ExtensionSearchHitDto {
+
+    public enum Kind {
+        FIXED, CUSTOM, KNOWN
+    }
+
+    private Long id;
+    private String extension;
+    private Kind kind;
+    private boolean blocked;
+
+    public static ExtensionSearchHitDto known(String extension) {
+        return new ExtensionSearchHitDto(null, extension, Kind.KNOWN, false);
+    }
+
+    public static ExtensionSearchHitDto registered(Long id, String extension, boolean fixed, boolean blocked) {
+        return new ExtensionSearchHitDto(id, extension, fixed ? Kind.FIXED : Kind.CUSTOM, blocked);
+    }
+}
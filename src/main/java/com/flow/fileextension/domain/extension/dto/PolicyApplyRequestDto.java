@@ -0,0 +1,84 @@
+package com.flow.fileextension.domain.extension.dto;
+
+import com.flow.fileextension.global.constants.ErrorMessages;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원하는 정책 전체 (PUT /api/extensions/policy)
+ * 목록에 있는 확장자는 blocked 값으로 맞추고, 목록에 없는 고정 확장자는 허용으로, 목록에 없는 커스텀 확장자는 삭제한다.
+ * 목록에만 있는 확장자는 커스텀 확장자로 추가한다.
+ *
+ * <pre>
+ * JSON: {"extensions":[{"extension":"exe","blocked":true},{"extension":"zip"}]}
+ * CSV : extension,blocked   (머리글, # 주석, 빈 줄은 무시하고 blocked 를 생략하면 차단)
+ *       exe,true
+ *       zip
+ * </pre>
+ * 빈 목록은 커스텀 확장자 전체 삭제가 되므로 clearAll=true 를 함께 보낸 경우에만 적용된다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyApplyRequestDto {
+
+    private static final String CSV_HEADER = "extension";
+
+    private List<Entry> extensions;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String extension;
+
+        // 생략하면 차단
+        private Boolean blocked;
+
+        public boolean isBlockedOrDefault() {
+            return blocked == null || blocked;
+        }
+    }
+
+    /**
+     * CSV 본문 파싱 (한 줄에 "확장자[,차단여부]")
+     */
+    public static PolicyApplyRequestDto fromCsv(String csv) {
+        List<Entry> entries = new ArrayList<>();
+        if (csv == null) {
+            return new PolicyApplyRequestDto(entries);
+        }
+
+        for (String line : csv.split("\\R")) {
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            int comma = trimmed.indexOf(',');
+            String extension = (comma < 0 ? trimmed : trimmed.substring(0, comma)).strip();
+            if (entries.isEmpty() && extension.equalsIgnoreCase(CSV_HEADER)) {
+                continue;
+            }
+            Boolean blocked = comma < 0 ? null : parseBlocked(trimmed.substring(comma + 1).strip());
+            entries.add(new Entry(extension, blocked));
+        }
+        return new PolicyApplyRequestDto(entries);
+    }
+
+    private static Boolean parseBlocked(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.equalsIgnoreCase("true") || value.equals("1")) {
+            return true;
+        }
+        if (value.equalsIgnoreCase("false") || value.equals("0")) {
+            return false;
+        }
+        throw new IllegalArgumentException(ErrorMessages.POLICY_INVALID_BLOCKED + ": " + value);
+    }
+}
@@ -0,0 +1,36 @@
+package com.flow.fileextension.domain.extension.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 정책 일괄 적용 결과 (현재 정책과 원하는 정책의 차이)
+ * dryRun 이면 계산만 하고 적용하지 않으며, version 은 적용 후(dryRun 이면 현재) 정책 리비전이다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PolicyDiffDto {
+
+    private long version;
+    private boolean dryRun;
+
+    // 새로 추가한 커스텀 확장자
+    private List<String> added;
+
+    // 삭제한 커스텀 확장자
+    private List<String> deleted;
+
+    // 허용 → 차단으로 바꾼 확장자
+    private List<String> blocked;
+
+    // 차단 → 허용으로 바꾼 확장자
+    private List<String> unblocked;
+
+    public int getChangeCount() {
+        return added.size() + deleted.size() + blocked.size() + unblocked.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.flow.fileextension.domain.extension.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 확장자 정책 스냅샷 (GET /api/extensions/snapshot)
+ * full 이면 extensions 가 전체 목록이고, 아니면 sinceVersion 이후 추가/변경된 확장자와 삭제된 확장자만 담는다.
+ * 클라이언트는 받은 version 을 다음 요청의 sinceVersion 으로 보낸다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PolicySnapshotDto {
+
+    private long version;
+    private boolean full;
+
+    // 전체 목록 또는 추가/변경된 확장자 (id 기준으로 덮어쓰면 됨)
+    private List<ExtensionResponseDto> extensions;
+
+    // sinceVersion 이후 삭제된 확장자 (full 이면 빈 목록)
+    private List<DeletedExtension> deleted;
+
+    @Getter
+    @AllArgsConstructor
+    public static class DeletedExtension {
+        private Long id;
+        private String extension;
+        private long version;
+    }
+}
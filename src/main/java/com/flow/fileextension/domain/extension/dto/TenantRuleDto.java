@@ -0,0 +1,33 @@
+package com.flow.fileextension.domain.extension.dto;
+
+import com.flow.fileextension.domain.extension.entity.TenantExtensionRule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조직별 확장자 규칙 (blocked=false 는 전역 차단을 이 조직에서만 허용)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TenantRuleDto {
+
+    private Long id;
+    private Long tenantId;
+    private String extension;
+    private boolean blocked;
+    private LocalDateTime updatedAt;
+
+    public static TenantRuleDto from(TenantExtensionRule rule) {
+        return TenantRuleDto.builder()
+                .id(rule.getId())
+                .tenantId(rule.getTenantId())
+                .extension(rule.getExtension())
+                .blocked(rule.isBlocked())
+                .updatedAt(rule.getUpdatedAt())
+                .build();
+    }
+}
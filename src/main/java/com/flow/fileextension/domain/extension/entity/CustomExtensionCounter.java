@@ -0,0 +1,33 @@
+package com.flow.fileextension.domain.extension.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 커스텀 확장자 개수 카운터 (행 하나)
+ * 추가는 "count < 최대값" 조건부 증가 한 문장으로 자리를 확보하므로, 동시에 추가해도 최대 개수를 넘지 않고 매번 COUNT 하지 않는다.
+ * 삭제하면 같은 트랜잭션에서 줄이고, 롤백되면 함께 되돌아간다.
+ */
+@Entity
+@Table(name = "custom_extension_counter")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CustomExtensionCounter {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "custom_count", nullable = false)
+    private long customCount;
+
+    public static CustomExtensionCounter of(long customCount) {
+        CustomExtensionCounter counter = new CustomExtensionCounter();
+        counter.id = ID;
+        counter.customCount = customCount;
+        return counter;
+    }
+}
@@ -10,7 +10,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "extensions")
+@Table(name = "extensions", indexes = {
+        @Index(name = "idx_extensions_revision", columnList = "revision"),
+        // 커스텀 확장자 키셋 페이지 (is_fixed = false and extension > ? order by extension)
+        @Index(name = "idx_extensions_fixed_extension", columnList = "is_fixed, extension"),
+        @Index(name = "idx_extensions_blocked", columnList = "is_blocked")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Extension {
@@ -36,6 +41,15 @@ public class Extension {
     @JoinColumn(name = "updated_by")
     private User updatedBy;
 
+    // 마지막으로 바뀐 정책 리비전 (PolicyRevision, 변경분 동기화용)
+    @Column(nullable = false)
+    private long revision;
+
+    // 행 버전 (낙관적 잠금, 조건부 UPDATE 의 WHERE version = ? 로 동시 수정 충돌 감지)
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -96,6 +110,10 @@ public class Extension {
         this.updatedBy = updatedBy;
     }
 
+    public void markRevision(long revision) {
+        this.revision = revision;
+    }
+
     public void updateUpdatedBy(User updatedBy) {
         this.updatedBy = updatedBy;
     }
@@ -0,0 +1,51 @@
+package com.flow.fileextension.domain.extension.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제된 커스텀 확장자 기록
+ * 변경분 동기화(snapshot?sinceVersion=N)에서 N 이후 삭제된 확장자를 알려주기 위해 남긴다.
+ */
+@Entity
+@Table(name = "extension_tombstones", indexes = {
+        @Index(name = "idx_extension_tombstones_revision", columnList = "revision")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExtensionTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 삭제된 확장자의 id (extensions 행은 지워지므로 FK 없이 값만 저장)
+    @Column(name = "extension_id", nullable = false)
+    private Long extensionId;
+
+    @Column(length = 20, nullable = false)
+    private String extension;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Column(name = "deleted_at", nullable = false, updatable = false)
+    private LocalDateTime deletedAt;
+
+    public static ExtensionTombstone of(Extension extension, long revision) {
+        ExtensionTombstone tombstone = new ExtensionTombstone();
+        tombstone.extensionId = extension.getId();
+        tombstone.extension = extension.getExtension();
+        tombstone.revision = revision;
+        return tombstone;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.deletedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,80 @@
+package com.flow.fileextension.domain.extension.entity;
+
+import com.flow.fileextension.domain.extension.event.PolicyChangedEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정책 변경 기록 (outbox)
+ * 확장자 변경과 같은 트랜잭션에서 저장되므로 커밋된 변경은 반드시 한 행을 남기고, 롤백된 변경은 남기지 않는다.
+ * 각 인스턴스의 PolicyChangePoller 가 id 순으로 읽어 다른 인스턴스에서 생긴 변경이면 로컬 정책 캐시를 무효화한다.
+ */
+@Entity
+@Table(name = "policy_change", indexes = {
+        @Index(name = "idx_policy_change_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PolicyChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private long revision;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PolicyChangedEvent.Type type;
+
+    // 확장자 id (조직 규칙 변경이면 규칙 id)
+    @Column(name = "extension_id")
+    private Long extensionId;
+
+    @Column(length = 20, nullable = false)
+    private String extension;
+
+    @Column(nullable = false)
+    private boolean fixed;
+
+    @Column(nullable = false)
+    private boolean blocked;
+
+    // 조직 규칙 변경이면 조직 id
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
+    // 변경을 만든 인스턴스 (BlockPolicyHolder.instanceId)
+    @Column(name = "instance_id", length = 20, nullable = false)
+    private String instanceId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static PolicyChange of(PolicyChangedEvent event, long revision, String instanceId) {
+        PolicyChange change = new PolicyChange();
+        change.revision = revision;
+        change.type = event.getType();
+        change.extensionId = event.getId();
+        change.extension = event.getExtension();
+        change.fixed = event.isFixed();
+        change.blocked = event.isBlocked();
+        change.tenantId = event.getTenantId();
+        change.instanceId = instanceId;
+        return change;
+    }
+
+    public PolicyChangedEvent toEvent() {
+        return PolicyChangedEvent.of(type, extensionId, extension, fixed, blocked, tenantId).withRevision(revision);
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,38 @@
+package com.flow.fileextension.domain.extension.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 확장자 정책 리비전 카운터 (행 하나)
+ * 확장자 추가/삭제/차단 변경마다 같은 트랜잭션에서 1씩 올리고, 바뀐 확장자와 삭제 기록에 그 값을 남긴다.
+ * 증가가 행 잠금으로 직렬화되므로 커밋된 리비전 N 이하의 변경은 모두 이미 커밋되어 있다 (since 이후 변경 조회가 빠뜨리지 않음).
+ */
+@Entity
+@Table(name = "policy_revision")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PolicyRevision {
+
+    public static final long ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long revision;
+
+    // 이 리비전 이하의 삭제 기록(extension_tombstones)은 보관 기간이 지나 정리됨 (since 가 이보다 작으면 전체 목록을 내려야 함)
+    @Column(name = "tombstone_horizon", nullable = false)
+    private long tombstoneHorizon;
+
+    public static PolicyRevision initial() {
+        PolicyRevision policyRevision = new PolicyRevision();
+        policyRevision.id = ID;
+        policyRevision.revision = 0;
+        policyRevision.tombstoneHorizon = 0;
+        return policyRevision;
+    }
+}
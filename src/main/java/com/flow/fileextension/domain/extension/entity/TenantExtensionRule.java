@@ -0,0 +1,55 @@
+package com.flow.fileextension.domain.extension.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조직별 확장자 규칙
+ * 전역 정책(extensions) 위에 덮어쓰며, blocked=true 이면 해당 조직에서만 차단, false 이면 전역에서 차단된 확장자도 허용한다.
+ */
+@Entity
+@Table(name = "tenant_extension_rules", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_tenant_extension_rules_tenant_extension", columnNames = {"tenant_id", "extension"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TenantExtensionRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(length = 20, nullable = false)
+    private String extension;
+
+    @Column(nullable = false)
+    private boolean blocked;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static TenantExtensionRule of(Long tenantId, String extension, boolean blocked) {
+        TenantExtensionRule rule = new TenantExtensionRule();
+        rule.tenantId = tenantId;
+        rule.extension = extension;
+        rule.blocked = blocked;
+        return rule;
+    }
+
+    public void updateBlocked(boolean blocked) {
+        this.blocked = blocked;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,290 @@
+package com.flow.fileextension.domain.extension.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.fileextension.domain.extension.policy.BlockPolicyHolder;
+import com.flow.fileextension.global.constants.ErrorMessages;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 정책 변경 SSE 스트림 (GET /api/extensions/stream)
+ * 연결은 비동기 서블릿으로 유지되어 대기 중에는 스레드를 쓰지 않는다.
+ * 변경이 커밋되면 이벤트를 한 번만 직렬화해 구독자별 작은 큐에 넣고, 전송은 구독자마다 가상 스레드가 맡아
+ * 느린 구독자가 변경 요청이나 다른 구독자를 막지 않는다. 큐가 가득 찬 구독자는 연결을 끊고(클라이언트가 재접속 후 목록을 다시 조회),
+ * 메모리를 무한정 쌓지 않는다.
+ * 비로그인 구독을 허용하므로 전체 연결 수와 함께 클라이언트(로그인 사용자 또는 접속 주소)별 연결 수도 제한하며,
+ * 자리는 원자적으로 먼저 확보하고 실패하면 되돌린다.
+ *
+ * <pre>
+ * policy.stream.subscribers   현재 연결 수
+ * policy.stream.shed          큐가 가득 차 끊은 연결 수
+ * </pre>
+ */
+@Slf4j
+@Component
+public class PolicyChangeBroadcaster {
+
+    static final String POLICY_EVENT = "policy";
+    static final String VERSION_EVENT = "version";
+
+    private final BlockPolicyHolder blockPolicyHolder;
+    private final ObjectMapper objectMapper;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerClient;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final long heartbeatMillis;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // 확보한 자리 수 (구독 등록 전에 먼저 올리므로 subscribers 크기보다 클 수 있음)
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Map<String, Integer> clientCounts = new ConcurrentHashMap<>();
+    private final AtomicLong shed = new AtomicLong();
+    private final ExecutorService senders =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("policy-stream-", 1).factory());
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "policy-stream-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public PolicyChangeBroadcaster(
+            BlockPolicyHolder blockPolicyHolder,
+            ObjectMapper objectMapper,
+            MeterRegistry registry,
+            @Value("${policy-stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${policy-stream.max-subscribers-per-client:8}") int maxSubscribersPerClient,
+            @Value("${policy-stream.queue-capacity:16}") int queueCapacity,
+            @Value("${policy-stream.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${policy-stream.heartbeat-ms:30000}") long heartbeatMillis) {
+        this.blockPolicyHolder = blockPolicyHolder;
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerClient = maxSubscribersPerClient;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.heartbeatMillis = heartbeatMillis;
+
+        Gauge.builder("policy.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("정책 변경 스트림 연결 수")
+                .register(registry);
+        FunctionCounter.builder("policy.stream.shed", shed, AtomicLong::get)
+                .description("전송 큐가 가득 차 끊은 정책 변경 스트림 연결 수")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        // 프록시가 유휴 연결을 끊지 않도록, 끊긴 연결은 전송 실패로 정리되도록 주기적으로 주석 줄을 보냄
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+        senders.shutdown();
+    }
+
+    /**
+     * 새 구독 (접속 직후 현재 버전을 보내므로 클라이언트는 가진 ETag와 비교해 목록 재조회 여부를 정함)
+     *
+     * @param client 연결 수를 셀 클라이언트 (로그인 사용자 또는 접속 주소)
+     */
+    public SseEmitter subscribe(String client) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, ErrorMessages.STREAM_TOO_MANY_SUBSCRIBERS);
+        }
+        if (!reserveClientSlot(client)) {
+            subscriberCount.decrementAndGet();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, ErrorMessages.STREAM_TOO_MANY_PER_CLIENT);
+        }
+
+        Subscriber subscriber;
+        try {
+            subscriber = new Subscriber(createEmitter(), client);
+        } catch (RuntimeException e) {
+            releaseSlot(client);
+            throw e;
+        }
+        SseEmitter emitter = subscriber.emitter;
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> unregister(subscriber));
+
+        String version = blockPolicyHolder.versionTag();
+        String json = toJson(Map.of("version", version));
+        subscriber.offer(SseEmitter.event().name(VERSION_EVENT).id(version).data(json));
+        return emitter;
+    }
+
+    /**
+     * 확장자 변경이 커밋된 뒤 모든 구독자에게 전달 (롤백된 변경은 보내지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        // 조직 규칙은 다른 조직 구독자에게 보이지 않도록 스트림으로 내보내지 않음
+        if (subscribers.isEmpty() || event.getTenantId() != null) {
+            return;
+        }
+        String version = Long.toString(event.getRevision());
+        String json = toJson(PolicyChangeMessage.of(event, version));
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().name(POLICY_EVENT).id(version).data(json));
+        }
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    public long getShedCount() {
+        return shed.get();
+    }
+
+    private boolean reserveClientSlot(String client) {
+        AtomicBoolean reserved = new AtomicBoolean();
+        clientCounts.compute(client, (key, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= maxSubscribersPerClient) {
+                return count;
+            }
+            reserved.set(true);
+            return current + 1;
+        });
+        return reserved.get();
+    }
+
+    private void releaseSlot(String client) {
+        clientCounts.computeIfPresent(client, (key, count) -> count <= 1 ? null : count - 1);
+        subscriberCount.decrementAndGet();
+    }
+
+    /**
+     * 완료, 오류, 끊기 중 어느 경로로 와도 자리는 한 번만 반환
+     */
+    private void unregister(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            releaseSlot(subscriber.client);
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(SseEmitter.event().comment("ping"));
+        }
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("정책 변경 이벤트를 직렬화할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 구독자 하나 (전송 대기 큐 + 큐를 비우는 가상 스레드 최대 하나)
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String client;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, String client) {
+            this.emitter = emitter;
+            this.client = client;
+        }
+
+        /**
+         * 호출 스레드를 막지 않음 (큐가 가득 차면 연결을 끊음)
+         */
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                shed.incrementAndGet();
+                close();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                while (true) {
+                    SseEmitter.SseEventBuilder event;
+                    while (!closed.get() && (event = queue.poll()) != null) {
+                        emitter.send(event);
+                    }
+                    draining.set(false);
+                    // 플래그를 내린 사이에 들어온 이벤트는 여기서 이어서 보냄
+                    if (closed.get() || queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 종료된 연결
+                draining.set(false);
+                close();
+            }
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            unregister(this);
+            queue.clear();
+            // 전송 중인 스레드가 느린 소켓에 막혀 있을 수 있으므로 종료도 호출 스레드가 아닌 곳에서 처리
+            execute(emitter::complete);
+        }
+
+        private void execute(Runnable task) {
+            try {
+                senders.execute(task);
+            } catch (RejectedExecutionException e) {
+                // 애플리케이션 종료 중
+            }
+        }
+    }
+}
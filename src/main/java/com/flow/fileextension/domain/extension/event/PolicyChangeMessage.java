@@ -0,0 +1,27 @@
+package com.flow.fileextension.domain.extension.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 정책 변경 스트림으로 보내는 이벤트 본문
+ * 예: {"type":"BLOCK_CHANGED","id":3,"extension":"exe","fixed":true,"blocked":true,"version":"1x3k9a2b-12"}
+ */
+@Getter
+@AllArgsConstructor
+public class PolicyChangeMessage {
+
+    private final PolicyChangedEvent.Type type;
+    private final Long id;
+    private final String extension;
+    private final boolean fixed;
+    private final boolean blocked;
+
+    // 변경 이후 정책 버전 태그 (목록 조회 ETag와 같은 값)
+    private final String version;
+
+    public static PolicyChangeMessage of(PolicyChangedEvent event, String version) {
+        return new PolicyChangeMessage(event.getType(), event.getId(), event.getExtension(),
+                event.isFixed(), event.isBlocked(), version);
+    }
+}
@@ -0,0 +1,72 @@
+package com.flow.fileextension.domain.extension.event;
+
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.entity.TenantExtensionRule;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 확장자 변경 이벤트 (ExtensionService 에서 발행, 커밋 이후 구독자에게 전달)
+ * tenantId 가 있으면 조직 규칙 변경이며, 해당 조직 밖으로는 내보내지 않는다.
+ * 발행되는 이벤트에는 변경이 기록된 정책 리비전이 담겨, 구독자가 늦게 도착한 이전 변경을 가려낼 수 있다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PolicyChangedEvent {
+
+    public enum Type {
+        ADDED, DELETED, BLOCK_CHANGED, TENANT_RULE_CHANGED, TENANT_RULE_DELETED
+    }
+
+    private final Type type;
+    private final Long id;
+    private final String extension;
+    private final boolean fixed;
+    private final boolean blocked;
+
+    // 조직 규칙 변경이면 조직 id, 전역 정책 변경이면 null
+    private final Long tenantId;
+
+    // 변경이 기록된 정책 리비전 (PolicyChangeRecorder 가 기록할 때 채움, 조직 규칙 변경은 그 시점의 리비전)
+    private final long revision;
+
+    public static PolicyChangedEvent added(Extension extension) {
+        return of(Type.ADDED, extension);
+    }
+
+    public static PolicyChangedEvent deleted(Extension extension) {
+        return of(Type.DELETED, extension);
+    }
+
+    public static PolicyChangedEvent blockChanged(Extension extension) {
+        return of(Type.BLOCK_CHANGED, extension);
+    }
+
+    public static PolicyChangedEvent tenantRuleChanged(TenantExtensionRule rule) {
+        return new PolicyChangedEvent(Type.TENANT_RULE_CHANGED, rule.getId(), rule.getExtension(),
+                false, rule.isBlocked(), rule.getTenantId(), 0);
+    }
+
+    public static PolicyChangedEvent tenantRuleDeleted(TenantExtensionRule rule) {
+        return new PolicyChangedEvent(Type.TENANT_RULE_DELETED, rule.getId(), rule.getExtension(),
+                false, rule.isBlocked(), rule.getTenantId(), 0);
+    }
+
+    // 다른 인스턴스가 기록한 변경(PolicyChange)을 다시 이벤트로 만들 때
+    public static PolicyChangedEvent of(Type type, Long id, String extension, boolean fixed, boolean blocked, Long tenantId) {
+        return new PolicyChangedEvent(type, id, extension, fixed, blocked, tenantId, 0);
+    }
+
+    /**
+     * 같은 변경에 기록된 리비전을 붙인 이벤트
+     */
+    public PolicyChangedEvent withRevision(long revision) {
+        return new PolicyChangedEvent(type, id, extension, fixed, blocked, tenantId, revision);
+    }
+
+    private static PolicyChangedEvent of(Type type, Extension extension) {
+        return new PolicyChangedEvent(type, extension.getId(), extension.getExtension(),
+                extension.isFixed(), extension.isBlocked(), null, 0);
+    }
+}
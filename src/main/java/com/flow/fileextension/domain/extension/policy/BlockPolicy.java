@@ -0,0 +1,148 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.global.util.FilenameScanner;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+
+/**
+ * 차단 확장자 정책의 불변 스냅샷
+ * 한 번 생성되면 변경되지 않으므로 여러 요청 스레드가 잠금 없이 공유한다.
+ * 확장자 문자열은 공용 {@link ExtensionCatalog}에 두고 정책은 차단된 카탈로그 id의 비트셋만 가지므로,
+ * 조직별 정책이 많아도 정책 하나의 크기는 (카탈로그 크기 / 8) 바이트 정도다.
+ */
+@Getter
+public final class BlockPolicy {
+
+    private final long version;
+    // 이 정책을 읽을 때의 DB 정책 리비전 (policy_revision, 인스턴스와 재시작에 관계없이 같은 값이 같은 전역 정책, 모르면 0)
+    private final long revision;
+    private final int blockedCount;
+
+    @Getter(AccessLevel.NONE)
+    private final ExtensionCatalog.Snapshot catalog;
+
+    @Getter(AccessLevel.NONE)
+    private final BitSet blocked;
+
+    // 파일명 검사마다 람다를 만들지 않도록 한 번만 생성
+    @Getter(AccessLevel.NONE)
+    private final IntPredicate blockedId;
+
+    private BlockPolicy(long version, long revision, ExtensionCatalog.Snapshot catalog, BitSet blocked) {
+        this.version = version;
+        this.revision = revision;
+        this.catalog = catalog;
+        this.blocked = blocked;
+        this.blockedCount = blocked.cardinality();
+        this.blockedId = blocked::get;
+    }
+
+    /**
+     * 차단 확장자 목록으로 생성 (정책 전용 카탈로그 사용)
+     */
+    public static BlockPolicy of(long version, Collection<String> blockedExtensions) {
+        List<String> names = List.copyOf(new LinkedHashSet<>(blockedExtensions));
+        return compile(version, ExtensionCatalog.Snapshot.of(names), names);
+    }
+
+    /**
+     * 공용 카탈로그 기준으로 생성 (catalog 는 blockedExtensions 를 모두 포함해야 함)
+     */
+    public static BlockPolicy compile(long version, ExtensionCatalog.Snapshot catalog, Collection<String> blockedExtensions) {
+        return compile(version, 0, catalog, blockedExtensions);
+    }
+
+    /**
+     * 공용 카탈로그 기준으로 생성하며 DB 정책 리비전을 함께 기록 (감사 기록에 남길 버전)
+     */
+    public static BlockPolicy compile(long version, long revision, ExtensionCatalog.Snapshot catalog,
+                                      Collection<String> blockedExtensions) {
+        BitSet bits = new BitSet(catalog.size());
+        for (String extension : blockedExtensions) {
+            bits.set(catalog.idOf(extension));
+        }
+        return new BlockPolicy(version, revision, catalog, bits);
+    }
+
+    /**
+     * 이 정책의 차단 비트를 catalog 에서 그대로 쓸 수 있는지 (카탈로그가 압축되지 않았는지)
+     */
+    public boolean sharesCatalog(ExtensionCatalog.Snapshot catalog) {
+        return catalog.extendsSnapshot(this.catalog);
+    }
+
+    /**
+     * 이 정책에 확장자별 차단/허용을 덮어쓴 새 정책 (조직별 정책)
+     * catalog 가 이 정책의 카탈로그와 계보가 다르면(압축 이후) 차단 확장자를 이름으로 옮긴다.
+     * @param catalog 이 정책의 차단 확장자와 overrides 의 확장자를 모두 포함하는 스냅샷
+     */
+    public BlockPolicy withOverrides(ExtensionCatalog.Snapshot catalog, Map<String, Boolean> overrides) {
+        BitSet bits;
+        if (sharesCatalog(catalog)) {
+            bits = (BitSet) blocked.clone();
+        } else {
+            bits = new BitSet(catalog.size());
+            blocked.stream().forEach(id -> bits.set(catalog.idOf(this.catalog.name(id))));
+        }
+        overrides.forEach((extension, isBlocked) -> bits.set(catalog.idOf(extension), isBlocked));
+        return new BlockPolicy(version, revision, catalog, bits);
+    }
+
+    /**
+     * 차단 확장자 목록 (조회/로그용, 호출할 때마다 새로 만듦)
+     */
+    public Set<String> getBlockedExtensions() {
+        Set<String> names = new LinkedHashSet<>();
+        blocked.stream().forEach(id -> names.add(catalog.name(id)));
+        return names;
+    }
+
+    /**
+     * 정규화된 확장자의 차단 여부
+     */
+    public boolean isBlocked(String normalizedExtension) {
+        int id = catalog.idOf(normalizedExtension);
+        return id >= 0 && blocked.get(id);
+    }
+
+    /**
+     * 후보 확장자 중 처음으로 차단된 확장자를 반환 (내용 기반 판별 결과 등)
+     * @return 차단된 확장자, 없으면 null
+     */
+    public String findFirstBlocked(Collection<String> normalizedExtensions) {
+        for (String extension : normalizedExtensions) {
+            if (isBlocked(extension)) {
+                return extension;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 파일명의 모든 확장자(이중 확장자 포함) 중 처음으로 차단된 확장자를 반환
+     * 카탈로그 조회 테이블로 구간의 id를 찾고 비트 하나만 확인한다.
+     * @return 차단된 확장자, 없으면 null
+     */
+    public String findBlockedExtension(String filename) {
+        if (blockedCount == 0) {
+            return null;
+        }
+        int id = FilenameScanner.findFirstIndex(filename, catalog.matcher(), blockedId);
+        return id >= 0 ? catalog.name(id) : null;
+    }
+
+    /**
+     * 비트셋 크기 (정책 하나가 차지하는 대략의 바이트 수)
+     */
+    public int sizeInBytes() {
+        return (blocked.length() + Long.SIZE - 1) / Long.SIZE * Long.BYTES;
+    }
+}
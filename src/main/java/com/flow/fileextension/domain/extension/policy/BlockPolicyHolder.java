@@ -0,0 +1,178 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.domain.extension.entity.PolicyRevision;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.repository.PolicyRevisionRepository;
+import com.flow.fileextension.domain.extension.repository.TenantExtensionRuleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 차단 정책 스냅샷 보관소
+ * 파일 검사는 DB 조회 없이 현재 스냅샷만 읽고, 확장자 변경이 커밋되면 스냅샷을 무효화한다.
+ * 무효화 이후 첫 검사 요청이 한 번만 DB에서 다시 읽어 새 스냅샷으로 교체한다.
+ * 조직 규칙만 바뀐 경우는 TenantPolicyRegistry 가 해당 조직만 무효화하므로 이 버전은 바뀌지 않는다.
+ */
+@Slf4j
+@Component
+public class BlockPolicyHolder {
+
+    private final ExtensionRepository extensionRepository;
+    private final ExtensionCatalog extensionCatalog;
+    private final TenantExtensionRuleRepository tenantExtensionRuleRepository;
+    private final PolicyRevisionRepository policyRevisionRepository;
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<BlockPolicy> snapshot = new AtomicReference<>();
+    // 인스턴스마다 다른 값 (변경 기록에 남겨 이 인스턴스의 변경과 다른 인스턴스의 변경을 구분)
+    // 인스턴스마다 다른 값 (재시작 후나 다른 인스턴스의 같은 버전 번호가 다른 정책을 가리키지 않도록 버전 태그에 포함)
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+    // synchronized 안에서 JDBC 대기를 하면 가상 스레드가 캐리어 스레드를 붙잡으므로 ReentrantLock 사용
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    @Autowired
+    public BlockPolicyHolder(ExtensionRepository extensionRepository, ExtensionCatalog extensionCatalog,
+                             TenantExtensionRuleRepository tenantExtensionRuleRepository,
+                             PolicyRevisionRepository policyRevisionRepository) {
+        this.extensionRepository = extensionRepository;
+        this.extensionCatalog = extensionCatalog;
+        this.tenantExtensionRuleRepository = tenantExtensionRuleRepository;
+        this.policyRevisionRepository = policyRevisionRepository;
+    }
+
+    /**
+     * 조직 규칙과 리비전 없이 전역 정책만 쓰는 인스턴스 (Spring 컨텍스트 밖 벤치마크용)
+     */
+    public BlockPolicyHolder(ExtensionRepository extensionRepository, ExtensionCatalog extensionCatalog) {
+        this(extensionRepository, extensionCatalog, null, null);
+    }
+
+    /**
+     * 현재 차단 정책 조회
+     */
+    public BlockPolicy current() {
+        // 쓰기 트랜잭션 안에서는 커밋 전 변경사항이 보여야 하므로 캐시를 거치지 않는다
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return load(version.get());
+        }
+
+        BlockPolicy policy = snapshot.get();
+        return policy != null ? policy : reload();
+    }
+
+    /**
+     * 현재 전역 정책 버전 (확장자 변경이 커밋될 때마다 증가, 조직 규칙 변경으로는 바뀌지 않음)
+     */
+    public long currentVersion() {
+        return version.get();
+    }
+
+    /**
+     * 캐시 검증용 정책 버전 태그 (ETag, X-Policy-Version 헤더 값)
+     * 현재 스냅샷의 DB 리비전(policy_revision)이므로 /snapshot 의 version 과 같고, 인스턴스와 재시작에 관계없이
+     * 같은 정책이면 같은 값이다. 스냅샷이 캐시되어 있으면 DB를 조회하지 않는다.
+     * 쓰기 트랜잭션 안에서는 커밋 전 변경이 아직 리비전에 반영되지 않았으므로 null
+     */
+    public String versionTag() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return null;
+        }
+        return Long.toString(current().getRevision());
+    }
+
+    /**
+     * 이 인스턴스 식별값 (변경 기록(PolicyChange)에 남겨 다른 인스턴스의 변경만 골라 반영하는 데 씀)
+     */
+    public String instanceId() {
+        return epoch;
+    }
+
+    /**
+     * 확장자 변경 시 호출
+     * 트랜잭션 안이면 커밋 이후에, 아니면 즉시 스냅샷을 무효화한다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                }
+            });
+            return;
+        }
+        evict();
+    }
+
+    private void evict() {
+        version.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    private BlockPolicy reload() {
+        reloadLock.lock();
+        try {
+            BlockPolicy policy = snapshot.get();
+            if (policy != null) {
+                return policy;
+            }
+
+            long loadingVersion = version.get();
+            BlockPolicy loaded = loadCompacted(loadingVersion);
+            snapshot.set(loaded);
+
+            // 조회 도중 변경이 커밋되었다면 방금 넣은 스냅샷은 이미 오래된 것이므로 다시 비운다
+            if (version.get() != loadingVersion) {
+                snapshot.compareAndSet(loaded, null);
+            } else {
+                log.info("차단 정책 스냅샷 갱신: version={}, 차단 확장자 {}개", loadingVersion, loaded.getBlockedCount());
+            }
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 스냅샷을 새로 만들 때 카탈로그도 살아 있는 확장자(전역 차단 + 조직 규칙)만 남도록 압축
+     * 삭제되거나 허용으로 바뀐 확장자가 카탈로그와 조회 테이블에 계속 쌓이지 않게 한다.
+     */
+    private BlockPolicy loadCompacted(long loadingVersion) {
+        long revision = currentRevision();
+        List<String> blockedExtensions = extensionRepository.findBlockedExtensionNames();
+        Set<String> live = new LinkedHashSet<>(blockedExtensions);
+        if (tenantExtensionRuleRepository != null) {
+            live.addAll(tenantExtensionRuleRepository.findDistinctExtensions());
+        }
+        return BlockPolicy.compile(loadingVersion, revision, extensionCatalog.compact(live), blockedExtensions);
+    }
+
+    private BlockPolicy load(long loadingVersion) {
+        long revision = currentRevision();
+        List<String> blockedExtensions = extensionRepository.findBlockedExtensionNames();
+        return BlockPolicy.compile(loadingVersion, revision, extensionCatalog.intern(blockedExtensions), blockedExtensions);
+    }
+
+    /**
+     * 확장자보다 먼저 읽음 (사이에 커밋된 변경은 무효화로 이 스냅샷을 버리게 하므로, 보관되는 스냅샷의 리비전은 내용과 일치)
+     */
+    private long currentRevision() {
+        return policyRevisionRepository != null
+                ? policyRevisionRepository.findRevision(PolicyRevision.ID).orElse(0L)
+                : 0L;
+    }
+}
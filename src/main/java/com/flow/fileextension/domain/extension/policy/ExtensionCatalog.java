@@ -0,0 +1,149 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.global.util.ExtensionMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 확장자 문자열을 int id로 바꾸는 공용 카탈로그
+ * 전역 정책과 모든 조직 정책이 같은 id 체계를 쓰므로 정책 하나는 차단된 id의 비트셋만 가지면 된다.
+ * id는 한 번 부여되면 바뀌지 않고, 처음 보는 확장자가 들어올 때만 조회 테이블을 새로 만들어 교체한다(드묾).
+ * 더 이상 쓰이지 않는 확장자가 쌓이지 않도록 전역 정책을 다시 읽을 때 살아 있는 확장자만으로 압축하며, 이때만 id가 새로 매겨진다.
+ * 검사 경로는 잠금 없이 현재 스냅샷만 읽는다.
+ */
+@Component
+public class ExtensionCatalog {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Snapshot snapshot = Snapshot.of(List.of());
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 정규화된 확장자들을 등록하고, 모두 포함하는 스냅샷을 반환
+     */
+    public Snapshot intern(Collection<String> extensions) {
+        Snapshot current = snapshot;
+        if (current.containsAll(extensions)) {
+            return current;
+        }
+
+        lock.lock();
+        try {
+            current = snapshot;
+            Set<String> added = new LinkedHashSet<>();
+            for (String extension : extensions) {
+                if (current.idOf(extension) < 0) {
+                    added.add(extension);
+                }
+            }
+            if (added.isEmpty()) {
+                return current;
+            }
+            List<String> names = new ArrayList<>(current.size() + added.size());
+            names.addAll(current.names);
+            names.addAll(added);
+            snapshot = new Snapshot(List.copyOf(names), current.lineage);
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 살아 있는 확장자(전역 차단 + 조직 규칙)만 남긴 카탈로그로 교체하고 반환
+     * 이미 그 확장자들만 가지고 있으면 그대로 둔다. 압축 전 스냅샷으로 컴파일한 정책은 자기 스냅샷을 쥐고 있으므로 계속 올바르게 동작한다.
+     */
+    public Snapshot compact(Collection<String> liveExtensions) {
+        lock.lock();
+        try {
+            Set<String> live = new LinkedHashSet<>(liveExtensions);
+            Snapshot current = snapshot;
+            if (current.size() == live.size() && current.containsAll(live)) {
+                return current;
+            }
+            snapshot = Snapshot.of(List.copyOf(live));
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 카탈로그의 불변 스냅샷 (같은 계보 안에서는 이전 스냅샷이 항상 이후 스냅샷의 앞부분, 압축하면 새 계보)
+     */
+    public static final class Snapshot {
+
+        private final List<String> names;
+        private final Map<String, Integer> ids;
+        private final ExtensionMatcher matcher;
+        // 같은 객체를 가진 스냅샷끼리만 id가 호환됨
+        private final Object lineage;
+
+        private Snapshot(List<String> names, Object lineage) {
+            this.names = names;
+            this.lineage = lineage;
+            this.ids = new HashMap<>(names.size() * 2);
+            for (int i = 0; i < names.size(); i++) {
+                ids.put(names.get(i), i);
+            }
+            this.matcher = ExtensionMatcher.of(names);
+        }
+
+        /**
+         * 중복 없는 정규화된 확장자 목록으로 생성 (목록 순서가 id)
+         */
+        public static Snapshot of(List<String> names) {
+            return new Snapshot(List.copyOf(names), new Object());
+        }
+
+        /**
+         * other 의 id가 이 스냅샷에서도 같은 확장자를 가리키는지 (같은 계보이고 other 가 앞부분)
+         */
+        public boolean extendsSnapshot(Snapshot other) {
+            return lineage == other.lineage && names.size() >= other.names.size();
+        }
+
+        /**
+         * @return 확장자 id, 없으면 -1
+         */
+        public int idOf(String extension) {
+            Integer id = ids.get(extension);
+            return id != null ? id : -1;
+        }
+
+        public String name(int id) {
+            return names.get(id);
+        }
+
+        public int size() {
+            return names.size();
+        }
+
+        /**
+         * 파일명 구간 조회용 테이블 (위치 = id)
+         */
+        public ExtensionMatcher matcher() {
+            return matcher;
+        }
+
+        private boolean containsAll(Collection<String> extensions) {
+            for (String extension : extensions) {
+                if (!ids.containsKey(extension)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
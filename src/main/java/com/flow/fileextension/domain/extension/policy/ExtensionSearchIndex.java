@@ -0,0 +1,170 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.domain.extension.dto.ExtensionSearchHitDto;
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.event.PolicyChangedEvent;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 확장자 접두어 검색 색인 (자동완성용)
+ * 등록된 확장자 전체와 잘 알려진 확장자 카탈로그(known-extensions.txt)를 확장자명 순으로 메모리에 두고,
+ * 접두어 검색은 DB 없이 정렬된 맵에서 접두어 위치를 찾아(O(log n)) 일치하는 동안만 읽는다.
+ * 기동 시 한 번 DB에서 만들고, 이후에는 커밋된 변경 이벤트(다른 인스턴스 변경 포함)로 해당 항목만 고친다.
+ * 이벤트는 도착 순서가 보장되지 않으므로 항목마다 마지막으로 반영한 리비전을 두고, 그보다 이전 리비전의 이벤트는 버린다.
+ * 삭제된 확장자도 삭제 리비전을 가진 빈 항목으로 남겨 늦게 도착한 이전 추가 이벤트가 되살리지 못하게 한다.
+ */
+@Slf4j
+@Component
+public class ExtensionSearchIndex {
+
+    private static final String CATALOG_RESOURCE = "known-extensions.txt";
+
+    private final ExtensionRepository extensionRepository;
+    private final Set<String> knownExtensions;
+
+    // 쓰기(재생성, 이벤트 반영)끼리만 잠그고 검색은 잠금 없이 읽음
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile ConcurrentSkipListMap<String, IndexEntry> entries;
+
+    // 삭제 표시로 남은 항목 수 (쓰기 잠금 안에서만 변경)
+    private volatile int deletedCount;
+
+    public ExtensionSearchIndex(ExtensionRepository extensionRepository) {
+        this(extensionRepository, loadCatalog());
+    }
+
+    ExtensionSearchIndex(ExtensionRepository extensionRepository, Collection<String> knownExtensions) {
+        this.extensionRepository = extensionRepository;
+        this.knownExtensions = Set.copyOf(knownExtensions);
+        this.entries = build(List.of());
+    }
+
+    /**
+     * DB의 확장자 전체로 색인을 다시 만듦 (기동 시)
+     * 잠금을 잡은 채 읽고 교체하므로, 그 사이 커밋된 변경 이벤트는 교체 이후에 다시 반영된다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        writeLock.lock();
+        try {
+            entries = build(extensionRepository.findAllWithoutUsers());
+            deletedCount = 0;
+            log.info("확장자 검색 색인 생성: {}개 (카탈로그 {}개 포함)", entries.size(), knownExtensions.size());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 확장자 변경이 커밋된 뒤 해당 항목만 반영 (조직 규칙은 색인 대상이 아님)
+     * 항목에 반영된 리비전보다 이전 리비전의 이벤트는 늦게 도착한 것이므로 무시한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPolicyChanged(PolicyChangedEvent event) {
+        if (event.getTenantId() != null) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            String extension = event.getExtension();
+            IndexEntry current = entries.get(extension);
+            if (current != null && event.getRevision() < current.revision()) {
+                return;
+            }
+            IndexEntry next;
+            switch (event.getType()) {
+                case ADDED, BLOCK_CHANGED -> next = new IndexEntry(ExtensionSearchHitDto.registered(
+                        event.getId(), extension, event.isFixed(), event.isBlocked()), event.getRevision());
+                case DELETED -> next = new IndexEntry(
+                        knownExtensions.contains(extension) ? ExtensionSearchHitDto.known(extension) : null,
+                        event.getRevision());
+                default -> {
+                    return;
+                }
+            }
+            entries.put(extension, next);
+            deletedCount += (next.isDeleted() ? 1 : 0) - (current != null && current.isDeleted() ? 1 : 0);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 정규화된 접두어로 시작하는 확장자를 확장자명 순으로 최대 limit 개
+     */
+    public List<ExtensionSearchHitDto> search(String prefix, int limit) {
+        List<ExtensionSearchHitDto> hits = new ArrayList<>(Math.min(limit, 64));
+        for (Map.Entry<String, IndexEntry> entry : entries.tailMap(prefix, true).entrySet()) {
+            if (hits.size() >= limit || !entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (!entry.getValue().isDeleted()) {
+                hits.add(entry.getValue().hit());
+            }
+        }
+        return hits;
+    }
+
+    public int size() {
+        return entries.size() - deletedCount;
+    }
+
+    private ConcurrentSkipListMap<String, IndexEntry> build(List<Extension> extensions) {
+        ConcurrentSkipListMap<String, IndexEntry> built = new ConcurrentSkipListMap<>();
+        knownExtensions.forEach(extension -> built.put(extension, new IndexEntry(ExtensionSearchHitDto.known(extension), 0)));
+        for (Extension extension : extensions) {
+            built.put(extension.getExtension(), new IndexEntry(ExtensionSearchHitDto.registered(
+                    extension.getId(), extension.getExtension(), extension.isFixed(), extension.isBlocked()),
+                    extension.getRevision()));
+        }
+        return built;
+    }
+
+    /**
+     * 색인 항목과 마지막으로 반영한 리비전 (hit 이 null 이면 삭제된 확장자)
+     */
+    private record IndexEntry(ExtensionSearchHitDto hit, long revision) {
+
+        boolean isDeleted() {
+            return hit == null;
+        }
+    }
+
+    private static Set<String> loadCatalog() {
+        Set<String> names = new TreeSet<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(CATALOG_RESOURCE).getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String name = line.trim();
+                if (!name.isEmpty() && !name.startsWith("#")) {
+                    names.add(name.toLowerCase());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("확장자 카탈로그를 읽을 수 없습니다: " + CATALOG_RESOURCE, e);
+        }
+        return names;
+    }
+}
@@ -0,0 +1,176 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.domain.extension.entity.PolicyChange;
+import com.flow.fileextension.domain.extension.repository.PolicyChangeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 다른 인스턴스의 정책 변경 반영
+ * policy_change 테이블을 poll-interval 마다 마지막으로 읽은 id 이후만 조회하고(인덱스 범위 조회 한 번),
+ * 다른 인스턴스가 남긴 변경이 있으면 로컬 차단 정책 스냅샷(조직 규칙 변경이면 그 조직의 정책만)을 무효화한 뒤
+ * 변경 이벤트를 다시 발행해 이 인스턴스의 SSE 구독자에게도 전달한다.
+ * 자기 인스턴스의 변경은 커밋 시점에 이미 반영했으므로 건너뛴다.
+ *
+ * <pre>
+ * policy.sync.poll        조회 1회 소요 시간
+ * policy.sync.lag         다른 인스턴스의 변경이 저장된 뒤 이 인스턴스에 반영되기까지 (인스턴스 간 시계 차이 포함)
+ * policy.sync.applied     반영한 다른 인스턴스 변경 수
+ * policy.sync.failures    조회 실패 수
+ * </pre>
+ */
+@Slf4j
+@Component
+public class PolicyChangePoller {
+
+    private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(10);
+
+    private final PolicyChangeRepository policyChangeRepository;
+    private final BlockPolicyHolder blockPolicyHolder;
+    private final TenantPolicyRegistry tenantPolicyRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final Duration retention;
+
+    private final Timer pollTimer;
+    private final Timer lagTimer;
+    private final AtomicLong applied = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "policy-change-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 폴러 스레드에서만 읽고 씀
+    private long lastSeenId;
+
+    public PolicyChangePoller(
+            PolicyChangeRepository policyChangeRepository,
+            BlockPolicyHolder blockPolicyHolder,
+            TenantPolicyRegistry tenantPolicyRegistry,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry registry,
+            @Value("${policy-sync.enabled:true}") boolean enabled,
+            @Value("${policy-sync.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${policy-sync.batch-size:500}") int batchSize,
+            @Value("${policy-sync.retention-hours:24}") long retentionHours) {
+        this.policyChangeRepository = policyChangeRepository;
+        this.blockPolicyHolder = blockPolicyHolder;
+        this.tenantPolicyRegistry = tenantPolicyRegistry;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.retention = Duration.ofHours(retentionHours);
+
+        this.pollTimer = Timer.builder("policy.sync.poll")
+                .description("정책 변경 기록 조회 1회 소요 시간")
+                .register(registry);
+        this.lagTimer = Timer.builder("policy.sync.lag")
+                .description("다른 인스턴스의 정책 변경이 이 인스턴스에 반영되기까지 걸린 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        FunctionCounter.builder("policy.sync.applied", applied, AtomicLong::get)
+                .description("반영한 다른 인스턴스의 정책 변경 수")
+                .register(registry);
+        FunctionCounter.builder("policy.sync.failures", failures, AtomicLong::get)
+                .description("정책 변경 기록 조회 실패 수")
+                .register(registry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("정책 변경 동기화 비활성화");
+            return;
+        }
+        scheduler.execute(() -> lastSeenId = policyChangeRepository.findMaxId().orElse(0L));
+        scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::cleanup,
+                CLEANUP_INTERVAL.toMillis(), CLEANUP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("정책 변경 동기화 시작: {}ms 간격, 인스턴스 {}", pollIntervalMillis, blockPolicyHolder.instanceId());
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public long getAppliedCount() {
+        return applied.get();
+    }
+
+    void poll() {
+        long start = System.nanoTime();
+        try {
+            List<PolicyChange> changes = policyChangeRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastSeenId, PageRequest.of(0, batchSize));
+            if (changes.isEmpty()) {
+                return;
+            }
+            lastSeenId = changes.get(changes.size() - 1).getId();
+
+            String instanceId = blockPolicyHolder.instanceId();
+            List<PolicyChange> remote = changes.stream()
+                    .filter(change -> !instanceId.equals(change.getInstanceId()))
+                    .toList();
+            if (remote.isEmpty()) {
+                return;
+            }
+
+            // 이벤트에 실리는 버전 태그가 새 버전이 되도록 먼저 무효화
+            if (remote.stream().anyMatch(change -> change.getTenantId() == null)) {
+                blockPolicyHolder.invalidate();
+            }
+            remote.stream()
+                    .map(PolicyChange::getTenantId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(tenantPolicyRegistry::invalidate);
+            LocalDateTime now = LocalDateTime.now();
+            for (PolicyChange change : remote) {
+                Duration lag = Duration.between(change.getCreatedAt(), now);
+                lagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+                eventPublisher.publishEvent(change.toEvent());
+            }
+            applied.addAndGet(remote.size());
+            log.debug("다른 인스턴스의 정책 변경 {}건 반영 (마지막 id {})", remote.size(), lastSeenId);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            log.warn("정책 변경 기록 조회 실패: {}", e.getMessage());
+        } finally {
+            pollTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void cleanup() {
+        try {
+            int deleted = policyChangeRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+            if (deleted > 0) {
+                log.debug("보관 기간이 지난 정책 변경 기록 {}건 삭제", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("정책 변경 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.domain.extension.entity.TenantExtensionRule;
+import com.flow.fileextension.domain.extension.repository.TenantExtensionRuleRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * 조직별 차단 정책 조회
+ * 조직 정책 = 전역 정책 + 조직 규칙(tenant_extension_rules) 덮어쓰기이며, 공용 카탈로그 id의 비트셋으로 컴파일해 둔다.
+ * 최근에 쓰인 조직 정책만 cache-size 개까지 보관하고(LRU), 전역 정책 버전이나 그 조직의 버전이 바뀌면 다음 조회 때 다시 컴파일한다.
+ * 조직 규칙 변경은 그 조직의 버전만 올리고 그 조직의 정책만 버리므로 전역 정책, 다른 조직 정책, ETag 는 그대로다.
+ * 조직이 없으면(null) 전역 정책을 그대로 쓴다.
+ *
+ * <pre>
+ * tenant.policy.cache.size        보관 중인 조직 정책 수
+ * tenant.policy.compilations      조직 정책 컴파일 수 (캐시 미스 + 버전 변경)
+ * tenant.policy.evictions         LRU로 밀려난 조직 정책 수
+ * </pre>
+ */
+@Component
+public class TenantPolicyRegistry {
+
+    private final BlockPolicyHolder blockPolicyHolder;
+    private final ExtensionCatalog extensionCatalog;
+    private final TenantExtensionRuleRepository tenantExtensionRuleRepository;
+    private final int cacheSize;
+
+    // 접근 순서 LinkedHashMap (조회도 순서를 바꾸므로 잠금 안에서만 접근, DB 조회는 잠금 밖에서)
+    private final Map<Long, CachedPolicy> cache;
+    // 조직별 규칙 버전 (커밋된 조직 규칙 변경마다 증가, 규칙을 바꾼 적 있는 조직만 가짐)
+    private final Map<Long, Long> tenantVersions = new ConcurrentHashMap<>();
+    private final ReentrantLock cacheLock = new ReentrantLock();
+    private final AtomicLong compilations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    @Autowired
+    public TenantPolicyRegistry(
+            BlockPolicyHolder blockPolicyHolder,
+            ExtensionCatalog extensionCatalog,
+            TenantExtensionRuleRepository tenantExtensionRuleRepository,
+            MeterRegistry registry,
+            @Value("${tenant-policy.cache-size:10000}") int cacheSize) {
+        this(blockPolicyHolder, extensionCatalog, tenantExtensionRuleRepository, cacheSize);
+
+        Gauge.builder("tenant.policy.cache.size", this, TenantPolicyRegistry::getCachedCount)
+                .description("보관 중인 조직별 차단 정책 수")
+                .register(registry);
+        FunctionCounter.builder("tenant.policy.compilations", compilations, AtomicLong::get)
+                .description("조직별 차단 정책 컴파일 수")
+                .register(registry);
+        FunctionCounter.builder("tenant.policy.evictions", evictions, AtomicLong::get)
+                .description("LRU로 밀려난 조직별 차단 정책 수")
+                .register(registry);
+    }
+
+    private TenantPolicyRegistry(BlockPolicyHolder blockPolicyHolder, ExtensionCatalog extensionCatalog,
+                                 TenantExtensionRuleRepository tenantExtensionRuleRepository, int cacheSize) {
+        this.blockPolicyHolder = blockPolicyHolder;
+        this.extensionCatalog = extensionCatalog;
+        this.tenantExtensionRuleRepository = tenantExtensionRuleRepository;
+        this.cacheSize = cacheSize;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedPolicy> eldest) {
+                if (size() > TenantPolicyRegistry.this.cacheSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 조직 규칙 없이 항상 전역 정책만 쓰는 인스턴스 (Spring 컨텍스트 밖 테스트, 벤치마크용)
+     */
+    public static TenantPolicyRegistry globalOnly(BlockPolicyHolder blockPolicyHolder) {
+        return new TenantPolicyRegistry(blockPolicyHolder, null, null, 0);
+    }
+
+    /**
+     * 조직의 현재 차단 정책 (tenantId 가 null 이면 전역 정책)
+     */
+    public BlockPolicy current(Long tenantId) {
+        if (tenantId == null || tenantExtensionRuleRepository == null) {
+            return blockPolicyHolder.current();
+        }
+
+        // 쓰기 트랜잭션 안에서는 커밋 전 규칙이 보여야 하므로 캐시를 거치지 않음 (BlockPolicyHolder 와 같은 규칙)
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return compile(tenantId);
+        }
+
+        long tenantVersion = tenantVersion(tenantId);
+        CachedPolicy cached = get(tenantId);
+        if (cached != null && cached.policy().getVersion() == blockPolicyHolder.currentVersion()
+                && cached.tenantVersion() == tenantVersion) {
+            return cached.policy();
+        }
+
+        BlockPolicy compiled = compile(tenantId);
+        // 컴파일 도중 변경이 커밋되었다면 이미 오래된 정책이므로 보관하지 않음 (다음 조회에서 다시 컴파일)
+        if (compiled.getVersion() == blockPolicyHolder.currentVersion() && tenantVersion(tenantId) == tenantVersion) {
+            put(tenantId, new CachedPolicy(compiled, tenantVersion));
+        }
+        return compiled;
+    }
+
+    /**
+     * 조직 규칙 변경 시 호출 (그 조직만 무효화)
+     * 트랜잭션 안이면 커밋 이후에, 아니면 즉시 그 조직의 버전을 올리고 보관 중인 정책을 버린다.
+     */
+    public void invalidate(Long tenantId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(tenantId);
+                }
+            });
+            return;
+        }
+        evict(tenantId);
+    }
+
+    public long tenantVersion(Long tenantId) {
+        return tenantVersions.getOrDefault(tenantId, 0L);
+    }
+
+    public int getCachedCount() {
+        cacheLock.lock();
+        try {
+            return cache.size();
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private BlockPolicy compile(Long tenantId) {
+        BlockPolicy global = blockPolicyHolder.current();
+        List<TenantExtensionRule> rules = tenantExtensionRuleRepository.findByTenantId(tenantId);
+        compilations.incrementAndGet();
+        if (rules.isEmpty()) {
+            return global;
+        }
+
+        Map<String, Boolean> overrides = rules.stream()
+                .collect(Collectors.toMap(TenantExtensionRule::getExtension, TenantExtensionRule::isBlocked));
+        ExtensionCatalog.Snapshot catalog = extensionCatalog.intern(overrides.keySet());
+        if (!global.sharesCatalog(catalog)) {
+            // 전역 정책을 읽은 뒤 카탈로그가 압축되었다면 전역 차단 확장자도 새 카탈로그에 함께 등록
+            Set<String> names = new HashSet<>(global.getBlockedExtensions());
+            names.addAll(overrides.keySet());
+            catalog = extensionCatalog.intern(names);
+        }
+        return global.withOverrides(catalog, overrides);
+    }
+
+    private void evict(Long tenantId) {
+        tenantVersions.merge(tenantId, 1L, Long::sum);
+        cacheLock.lock();
+        try {
+            cache.remove(tenantId);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private CachedPolicy get(Long tenantId) {
+        cacheLock.lock();
+        try {
+            return cache.get(tenantId);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void put(Long tenantId, CachedPolicy policy) {
+        cacheLock.lock();
+        try {
+            cache.put(tenantId, policy);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    /**
+     * 컴파일한 조직 정책과 컴파일 당시 조직 버전 (전역 버전은 정책에 들어 있음)
+     */
+    private record CachedPolicy(BlockPolicy policy, long tenantVersion) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.flow.fileextension.domain.extension.repository;
+
+import com.flow.fileextension.domain.extension.entity.CustomExtensionCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface CustomExtensionCounterRepository extends JpaRepository<CustomExtensionCounter, Long> {
+
+    // 최대값을 넘지 않을 때만 count 만큼 증가 (바뀐 행 수가 0 이면 자리 없음, 행 잠금은 트랜잭션 끝까지 유지)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update CustomExtensionCounter c set c.customCount = c.customCount + :count "
+            + "where c.id = :id and c.customCount + :count <= :max")
+    int tryIncrement(@Param("id") Long id, @Param("count") long count, @Param("max") long max);
+
+    // 값을 바꾸지 않고 행 잠금만 잡음 (잠금은 트랜잭션이 끝날 때까지 유지)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update CustomExtensionCounter c set c.customCount = c.customCount where c.id = :id")
+    int lock(@Param("id") Long id);
+
+    // count 이상일 때만 count 만큼 감소 (바뀐 행 수가 0 이면 카운터가 실제 개수보다 작게 어긋난 것)
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update CustomExtensionCounter c set c.customCount = c.customCount - :count "
+            + "where c.id = :id and c.customCount >= :count")
+    int decrement(@Param("id") Long id, @Param("count") long count);
+
+    // 어긋난 카운터를 실제 개수로 다시 맞춤
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update CustomExtensionCounter c set c.customCount = :count where c.id = :id")
+    int reset(@Param("id") Long id, @Param("count") long count);
+}
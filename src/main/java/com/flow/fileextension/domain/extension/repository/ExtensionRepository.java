@@ -1,16 +1,36 @@
 package com.flow.fileextension.domain.extension.repository;
 
 import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ExtensionRepository extends JpaRepository<Extension, Long> {
 
+    // 전체 확장자 조회 (N+1 방지: createdBy, updatedBy eager loading)
+    @Override
+    @EntityGraph(attributePaths = {"createdBy", "updatedBy"})
+    List<Extension> findAll();
+
+    // 전체 확장자 조회 (연관 엔티티 조인 없음, 검색 색인 생성용)
+    @Query("select e from Extension e")
+    List<Extension> findAllWithoutUsers();
+
+    // 해당 리비전 이후 추가/변경된 확장자 (N+1 방지: createdBy, updatedBy eager loading)
+    @EntityGraph(attributePaths = {"createdBy", "updatedBy"})
+    List<Extension> findByRevisionGreaterThan(long revision);
+
     // 고정 확장자 목록 조회 (N+1 방지: createdBy, updatedBy eager loading)
     @EntityGraph(attributePaths = {"createdBy", "updatedBy"})
     List<Extension> findByIsFixedTrue();
@@ -19,10 +39,52 @@ public interface ExtensionRepository extends JpaRepository<Extension, Long> {
     @EntityGraph(attributePaths = {"createdBy", "updatedBy"})
     List<Extension> findByIsFixedFalse();
 
+    // 커스텀 확장자 키셋 페이지 (확장자명 순, cursor 다음부터, idx_extensions_fixed_extension 범위 스캔)
+    // cursor 가 "" 이면 처음부터, prefix 가 "" 이면 전체, blocked 가 null 이면 차단 여부 무관
+    @EntityGraph(attributePaths = {"createdBy", "updatedBy"})
+    @Query("select e from Extension e where e.isFixed = false and e.extension > :cursor and e.extension like :prefix "
+            + "and (:blocked is null or e.isBlocked = :blocked) order by e.extension")
+    List<Extension> findCustomPage(@Param("cursor") String cursor, @Param("prefix") String prefix,
+                                   @Param("blocked") Boolean blocked, Pageable pageable);
+
     // 차단된 확장자 목록 조회 (고정 + 커스텀) (N+1 방지: createdBy, updatedBy eager loading)
     @EntityGraph(attributePaths = {"createdBy", "updatedBy"})
     List<Extension> findByIsBlockedTrue();
 
+    // 차단된 확장자명만 조회 (정책 스냅샷 생성용, 연관 엔티티 조인 없음)
+    @Query("select e.extension from Extension e where e.isBlocked = true")
+    List<String> findBlockedExtensionNames();
+
+    // 확장자명 목록으로 조회 (일괄 추가 후 id 확인용)
+    List<Extension> findByExtensionIn(Collection<String> extensions);
+
+    // 차단 상태 일괄 변경 (UPDATE 한 문장, 영속성 컨텍스트의 이전 상태는 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Extension e set e.isBlocked = :blocked, e.updatedBy = :user, e.revision = :revision, e.updatedAt = :now, "
+            + "e.version = e.version + 1 where e.id in :ids")
+    int updateBlockStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("blocked") boolean blocked,
+                                @Param("user") User user, @Param("revision") long revision,
+                                @Param("now") LocalDateTime now);
+
+    // 고정 확장자 차단 상태 조건부 변경 (version 이 null 이면 버전 확인 없이, 아니면 그 버전일 때만)
+    // 바뀐 행 수를 반환하므로 0 이면 없는 id, 커스텀 확장자 또는 버전 충돌
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Extension e set e.isBlocked = :blocked, e.updatedBy = :user, e.revision = :revision, e.updatedAt = :now, "
+            + "e.version = e.version + 1 "
+            + "where e.id = :id and e.isFixed = true and (:version is null or e.version = :version)")
+    int updateFixedBlockStatus(@Param("id") Long id, @Param("blocked") boolean blocked, @Param("version") Long version,
+                               @Param("user") User user, @Param("revision") long revision,
+                               @Param("now") LocalDateTime now);
+
+    // 단건 조회 (N+1 방지: createdBy, updatedBy eager loading)
+    @EntityGraph(attributePaths = {"createdBy", "updatedBy"})
+    Optional<Extension> findWithUsersById(Long id);
+
+    // 확장자 일괄 삭제 (DELETE 한 문장, 영속성 컨텍스트의 이전 상태는 비움)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Extension e where e.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
     // 확장자명으로 조회
     Optional<Extension> findByExtension(String extension);
 
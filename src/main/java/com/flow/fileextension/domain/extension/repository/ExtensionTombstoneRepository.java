@@ -0,0 +1,30 @@
+package com.flow.fileextension.domain.extension.repository;
+
+import com.flow.fileextension.domain.extension.entity.ExtensionTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ExtensionTombstoneRepository extends JpaRepository<ExtensionTombstone, Long> {
+
+    // 해당 리비전 이후 삭제 기록
+    List<ExtensionTombstone> findByRevisionGreaterThan(long revision);
+
+    // 보관 기간이 지난 삭제 기록 중 가장 큰 리비전 (한 리비전의 삭제 기록은 같은 시각으로 저장됨)
+    @Query("select max(t.revision) from ExtensionTombstone t where t.deletedAt < :before")
+    Optional<Long> findMaxRevisionDeletedBefore(@Param("before") LocalDateTime before);
+
+    // 해당 리비전 이하 삭제 기록 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from ExtensionTombstone t where t.revision <= :revision")
+    int deleteRevisionAtMost(@Param("revision") long revision);
+}
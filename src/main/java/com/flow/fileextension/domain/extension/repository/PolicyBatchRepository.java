@@ -0,0 +1,76 @@
+package com.flow.fileextension.domain.extension.repository;
+
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.event.PolicyChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정책 일괄 적용용 JDBC 배치 INSERT
+ * extensions, extension_tombstones, policy_change 는 IDENTITY 키라서 Hibernate 가 INSERT 를 배치로 묶지 못하므로,
+ * 여러 행을 한 번에 넣을 때는 JdbcTemplate 배치로 보낸다 (MySQL 은 rewriteBatchedStatements 로 다중 VALUES 한 문장).
+ * 호출한 JPA 트랜잭션의 커넥션을 그대로 쓰므로 같은 트랜잭션으로 커밋/롤백된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PolicyBatchRepository {
+
+    private static final String INSERT_EXTENSION =
+            "insert into extensions (extension, is_fixed, is_blocked, created_by, updated_by, revision, version, created_at, updated_at) "
+                    + "values (?, false, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_TOMBSTONE =
+            "insert into extension_tombstones (extension_id, extension, revision, deleted_at) values (?, ?, ?, ?)";
+    private static final String INSERT_CHANGE =
+            "insert into policy_change (revision, type, extension_id, extension, fixed, blocked, tenant_id, instance_id, created_at) "
+                    + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 커스텀 확장자 추가 (확장자 → 차단 여부)
+     */
+    public void insertCustomExtensions(Map<String, Boolean> extensions, Long userId, long revision) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Map.Entry<String, Boolean>> rows = List.copyOf(extensions.entrySet());
+        jdbcTemplate.batchUpdate(INSERT_EXTENSION, rows, rows.size(), (ps, row) -> {
+            ps.setString(1, row.getKey());
+            ps.setBoolean(2, row.getValue());
+            ps.setObject(3, userId, Types.BIGINT);
+            ps.setObject(4, userId, Types.BIGINT);
+            ps.setLong(5, revision);
+            ps.setObject(6, now);
+            ps.setObject(7, now);
+        });
+    }
+
+    public void insertTombstones(List<Extension> extensions, long revision) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_TOMBSTONE, extensions, extensions.size(), (ps, extension) -> {
+            ps.setLong(1, extension.getId());
+            ps.setString(2, extension.getExtension());
+            ps.setLong(3, revision);
+            ps.setObject(4, now);
+        });
+    }
+
+    public void insertChanges(List<PolicyChangedEvent> events, long revision, String instanceId) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, events, events.size(), (ps, event) -> {
+            ps.setLong(1, revision);
+            ps.setString(2, event.getType().name());
+            ps.setObject(3, event.getId(), Types.BIGINT);
+            ps.setString(4, event.getExtension());
+            ps.setBoolean(5, event.isFixed());
+            ps.setBoolean(6, event.isBlocked());
+            ps.setObject(7, event.getTenantId(), Types.BIGINT);
+            ps.setString(8, instanceId);
+            ps.setObject(9, now);
+        });
+    }
+}
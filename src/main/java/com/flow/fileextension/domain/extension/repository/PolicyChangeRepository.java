@@ -0,0 +1,31 @@
+package com.flow.fileextension.domain.extension.repository;
+
+import com.flow.fileextension.domain.extension.entity.PolicyChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PolicyChangeRepository extends JpaRepository<PolicyChange, Long> {
+
+    // 마지막으로 읽은 id 이후 변경 (id 순, 한 번에 pageable 크기만큼)
+    List<PolicyChange> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 가장 최근 변경 id (시작 시 이전 변경은 건너뜀)
+    @Query("select max(c.id) from PolicyChange c")
+    Optional<Long> findMaxId();
+
+    // 보관 기간이 지난 변경 삭제
+    @Transactional
+    @Modifying
+    @Query("delete from PolicyChange c where c.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,41 @@
+package com.flow.fileextension.domain.extension.repository;
+
+import com.flow.fileextension.domain.extension.entity.PolicyRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface PolicyRevisionRepository extends JpaRepository<PolicyRevision, Long> {
+
+    // 리비전 1 증가 (행 잠금은 트랜잭션이 끝날 때까지 유지되어 변경 트랜잭션끼리 순서대로 커밋됨)
+    @Transactional
+    @Modifying
+    @Query("update PolicyRevision r set r.revision = r.revision + 1 where r.id = :id")
+    int increment(@Param("id") Long id);
+
+    // 리비전을 올리지 않고 행 잠금만 잡음 (잠금은 트랜잭션이 끝날 때까지 유지)
+    @Transactional
+    @Modifying
+    @Query("update PolicyRevision r set r.revision = r.revision where r.id = :id")
+    int lock(@Param("id") Long id);
+
+    // 현재 리비전 (영속성 컨텍스트를 거치지 않고 DB 값을 읽음)
+    @Query("select r.revision from PolicyRevision r where r.id = :id")
+    Optional<Long> findRevision(@Param("id") Long id);
+
+    // 삭제 기록이 정리된 리비전 경계
+    @Query("select r.tombstoneHorizon from PolicyRevision r where r.id = :id")
+    Optional<Long> findTombstoneHorizon(@Param("id") Long id);
+
+    // 삭제 기록 정리 경계를 올림 (리비전 행 잠금을 잡으므로 같은 트랜잭션의 삭제 기록 정리가 변경 트랜잭션과 섞이지 않음)
+    @Transactional
+    @Modifying
+    @Query("update PolicyRevision r set r.tombstoneHorizon = :revision where r.id = :id and r.tombstoneHorizon < :revision")
+    int raiseTombstoneHorizon(@Param("id") Long id, @Param("revision") long revision);
+}
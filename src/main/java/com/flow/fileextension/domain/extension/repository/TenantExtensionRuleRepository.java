@@ -0,0 +1,35 @@
+package com.flow.fileextension.domain.extension.repository;
+
+import com.flow.fileextension.domain.extension.entity.TenantExtensionRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TenantExtensionRuleRepository extends JpaRepository<TenantExtensionRule, Long> {
+
+    // 조직의 규칙 전체 (조직 정책 컴파일용)
+    List<TenantExtensionRule> findByTenantId(Long tenantId);
+
+    Optional<TenantExtensionRule> findByTenantIdAndExtension(Long tenantId, String extension);
+
+    // 조직 규칙에 쓰인 확장자 (카탈로그 압축 시 남길 확장자)
+    @Query("select distinct r.extension from TenantExtensionRule r")
+    List<String> findDistinctExtensions();
+
+    // 규칙 추가 또는 변경을 한 문장으로 (동시에 같은 규칙을 추가해도 유니크 제약 위반 없이 마지막 값이 남음)
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "insert into tenant_extension_rules (tenant_id, extension, blocked, updated_at) "
+            + "values (:tenantId, :extension, :blocked, :updatedAt) "
+            + "on duplicate key update blocked = :blocked, updated_at = :updatedAt", nativeQuery = true)
+    int upsert(@Param("tenantId") Long tenantId, @Param("extension") String extension,
+               @Param("blocked") boolean blocked, @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,108 @@
+package com.flow.fileextension.domain.extension.service;
+
+import com.flow.fileextension.domain.extension.entity.CustomExtensionCounter;
+import com.flow.fileextension.domain.extension.repository.CustomExtensionCounterRepository;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.global.constants.ErrorMessages;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커스텀 확장자 최대 개수 확보/반환
+ * 카운터 행(custom_extension_counter)의 조건부 증가로 자리를 잡으므로 확인과 추가 사이에 다른 요청이 끼어들 수 없다.
+ * 정책 리비전보다 먼저 잡아야 변경 트랜잭션끼리 잠금 순서가 같다 (교착 방지).
+ * 최대 개수는 custom-extension.max-count 로 설정한다 (기본 200).
+ */
+@Slf4j
+@Component
+public class CustomExtensionQuota {
+
+    private final CustomExtensionCounterRepository customExtensionCounterRepository;
+    private final ExtensionRepository extensionRepository;
+    @Getter
+    private final int maxCount;
+
+    public CustomExtensionQuota(CustomExtensionCounterRepository customExtensionCounterRepository,
+                                ExtensionRepository extensionRepository,
+                                @Value("${custom-extension.max-count:200}") int maxCount) {
+        if (maxCount < 0) {
+            throw new IllegalArgumentException("custom-extension.max-count 는 0 이상이어야 합니다: " + maxCount);
+        }
+        this.customExtensionCounterRepository = customExtensionCounterRepository;
+        this.extensionRepository = extensionRepository;
+        this.maxCount = maxCount;
+    }
+
+    /**
+     * 카운터 행이 없으면 현재 커스텀 확장자 수로 만듦 (최초 기동 시 한 번만 COUNT)
+     * 여러 인스턴스가 동시에 기동해 다른 인스턴스가 먼저 만들었으면 그 행을 그대로 쓴다.
+     */
+    @PostConstruct
+    public void initializeCounter() {
+        if (customExtensionCounterRepository.existsById(CustomExtensionCounter.ID)) {
+            return;
+        }
+        long customCount = extensionRepository.countByIsFixedFalse();
+        try {
+            customExtensionCounterRepository.save(CustomExtensionCounter.of(customCount));
+            log.info("커스텀 확장자 카운터 초기화: {}", customCount);
+        } catch (DataIntegrityViolationException e) {
+            log.info("커스텀 확장자 카운터가 다른 인스턴스에서 이미 초기화됨");
+        }
+    }
+
+    /**
+     * count 개 자리 확보 (최대 개수를 넘으면 IllegalStateException)
+     */
+    public void acquire(int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (customExtensionCounterRepository.tryIncrement(CustomExtensionCounter.ID, count, maxCount) == 0) {
+            throw exceeded();
+        }
+    }
+
+    /**
+     * 개수를 바꾸지 않고 카운터 행만 잠금 (정책 리비전보다 먼저 호출)
+     */
+    public void lock() {
+        if (customExtensionCounterRepository.lock(CustomExtensionCounter.ID) == 0) {
+            throw new IllegalStateException("커스텀 확장자 카운터가 초기화되지 않았습니다");
+        }
+    }
+
+    /**
+     * 현재 커스텀 확장자 수 (COUNT 없이 카운터 행 하나만 읽음)
+     */
+    public long currentCount() {
+        return customExtensionCounterRepository.findById(CustomExtensionCounter.ID)
+                .map(CustomExtensionCounter::getCustomCount)
+                .orElse(0L);
+    }
+
+    public IllegalStateException exceeded() {
+        return new IllegalStateException(String.format(ErrorMessages.EXTENSION_MAX_COUNT, maxCount));
+    }
+
+    /**
+     * count 개 자리 반환 (삭제와 같은 트랜잭션에서, 삭제하기 전에 호출)
+     * 카운터가 반환할 개수보다 작게 어긋나 있으면 음수로 내리지 않고 삭제 후 남을 실제 개수로 다시 맞춘다.
+     */
+    public void release(int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (customExtensionCounterRepository.decrement(CustomExtensionCounter.ID, count) == 0) {
+            long remaining = Math.max(extensionRepository.countByIsFixedFalse() - count, 0);
+            if (customExtensionCounterRepository.reset(CustomExtensionCounter.ID, remaining) == 0) {
+                throw new IllegalStateException("커스텀 확장자 카운터가 초기화되지 않았습니다");
+            }
+            log.warn("커스텀 확장자 카운터가 실제 개수보다 작아 다시 맞춤: {}", remaining);
+        }
+    }
+}
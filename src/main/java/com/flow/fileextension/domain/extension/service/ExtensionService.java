@@ -1,19 +1,38 @@
 package com.flow.fileextension.domain.extension.service;
 
+import com.flow.fileextension.domain.extension.dto.BulkMutationResponseDto;
+import com.flow.fileextension.domain.extension.dto.CustomExtensionPageDto;
 import com.flow.fileextension.domain.extension.dto.ExtensionResponseDto;
+import com.flow.fileextension.domain.extension.dto.PolicyApplyRequestDto;
+import com.flow.fileextension.domain.extension.dto.PolicyDiffDto;
+import com.flow.fileextension.domain.extension.dto.PolicySnapshotDto;
 import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.entity.ExtensionTombstone;
+import com.flow.fileextension.domain.extension.event.PolicyChangedEvent;
 import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.repository.ExtensionTombstoneRepository;
+import com.flow.fileextension.domain.extension.repository.PolicyBatchRepository;
 import com.flow.fileextension.domain.user.entity.User;
 import com.flow.fileextension.global.constants.ErrorMessages;
+import com.flow.fileextension.global.exception.ConflictException;
 import com.flow.fileextension.global.util.ExtensionValidator;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,8 +42,15 @@ import java.util.stream.Collectors;
 public class ExtensionService {
 
     private final ExtensionRepository extensionRepository;
+    private final ExtensionTombstoneRepository extensionTombstoneRepository;
+    private final PolicyBatchRepository policyBatchRepository;
+    private final PolicyChangeRecorder policyChangeRecorder;
+    private final CustomExtensionQuota customExtensionQuota;
     
-    private static final int MAX_CUSTOM_EXTENSIONS = 200;
+    // 확장자 변경 지표 (operation 태그별 횟수와 지연, exception 태그로 실패 구분)
+    private static final String MUTATION_METRIC = "extension.mutations";
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BULK_IDS = 1000;
     private static final List<String> DEFAULT_FIXED_EXTENSIONS = 
             Arrays.asList("bat", "cmd", "com", "cpl", "exe", "scr", "js", "sh");
 
@@ -44,7 +70,9 @@ public class ExtensionService {
                                         .isBlocked(false)
                                         .createdBy(null)  // 시스템 초기화
                                         .build();
+                                newExt.markRevision(policyChangeRecorder.nextRevision());
                                 extensionRepository.save(newExt);
+                                policyChangeRecorder.record(PolicyChangedEvent.added(newExt), newExt.getRevision());
                                 log.info("새로운 고정 확장자 저장: '{}'", ext);
                             }
                     );
@@ -67,6 +95,32 @@ public class ExtensionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 커스텀 확장자 키셋 페이지 조회
+     * OFFSET 대신 "확장자명 > cursor" 조건으로 (is_fixed, extension) 인덱스를 이어서 읽으므로 몇 번째 페이지든 size + 1 행만 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public CustomExtensionPageDto getCustomExtensionPage(String cursor, String prefix, Boolean blocked, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(String.format(ErrorMessages.EXTENSION_PAGE_SIZE, MAX_PAGE_SIZE));
+        }
+        String normalizedPrefix = "";
+        if (prefix != null && !prefix.isBlank()) {
+            ExtensionValidator.validate(prefix);
+            normalizedPrefix = ExtensionValidator.normalize(prefix);
+        }
+
+        // 한 행 더 읽어 다음 페이지가 있는지 확인
+        List<Extension> rows = extensionRepository.findCustomPage(
+                cursor != null ? cursor.toLowerCase() : "", normalizedPrefix + "%", blocked, PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        List<Extension> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? page.get(page.size() - 1).getExtension() : null;
+
+        return new CustomExtensionPageDto(toResponses(page), nextCursor,
+                customExtensionQuota.currentCount(), customExtensionQuota.getMaxCount());
+    }
+
     @Transactional(readOnly = true)
     public List<ExtensionResponseDto> getAllBlockedExtensions() {
         return extensionRepository.findByIsBlockedTrue().stream()
@@ -74,44 +128,102 @@ public class ExtensionService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 정책 스냅샷 조회
+     * sinceVersion 이 없거나 현재 리비전보다 크면(DB 초기화 등) 전체 목록을, 아니면 그 이후 변경분만 반환한다.
+     * sinceVersion 이후 삭제 기록 일부가 이미 정리되었으면 삭제분을 알려줄 수 없으므로 전체 목록을 반환한다.
+     */
+    @Transactional(readOnly = true)
+    public PolicySnapshotDto getSnapshot(Long sinceVersion) {
+        // 리비전을 먼저 읽음 (이후 커밋된 변경이 함께 조회되어도 다음 동기화에서 같은 값으로 다시 덮어쓸 뿐)
+        long version = policyChangeRecorder.currentRevision();
+        if (sinceVersion == null || sinceVersion < 0 || sinceVersion > version) {
+            return fullSnapshot(version);
+        }
+        if (sinceVersion == version) {
+            return PolicySnapshotDto.builder()
+                    .version(version)
+                    .full(false)
+                    .extensions(List.of())
+                    .deleted(List.of())
+                    .build();
+        }
+
+        List<PolicySnapshotDto.DeletedExtension> deleted = extensionTombstoneRepository.findByRevisionGreaterThan(sinceVersion).stream()
+                .map(tombstone -> new PolicySnapshotDto.DeletedExtension(
+                        tombstone.getExtensionId(), tombstone.getExtension(), tombstone.getRevision()))
+                .collect(Collectors.toList());
+        // 삭제 기록을 읽은 뒤 경계를 확인 (정리가 그 사이 커밋되었으면 경계도 함께 올라가 있음)
+        if (sinceVersion < policyChangeRecorder.tombstoneHorizon()) {
+            return fullSnapshot(version);
+        }
+        return PolicySnapshotDto.builder()
+                .version(version)
+                .full(false)
+                .extensions(toResponses(extensionRepository.findByRevisionGreaterThan(sinceVersion)))
+                .deleted(deleted)
+                .build();
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리
+     * 정리한 리비전까지 경계를 먼저 올리므로, 그보다 오래된 sinceVersion 조회는 빠진 삭제분 대신 전체 목록을 받는다.
+     */
+    public int purgeTombstones(LocalDateTime before) {
+        Long revision = extensionTombstoneRepository.findMaxRevisionDeletedBefore(before).orElse(null);
+        if (revision == null) {
+            return 0;
+        }
+        policyChangeRecorder.raiseTombstoneHorizon(revision);
+        return extensionTombstoneRepository.deleteRevisionAtMost(revision);
+    }
+
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "update_block"}, histogram = true)
     public ExtensionResponseDto updateBlockStatus(Long id, Boolean isBlocked, User user) {
-        Extension extension = findExtensionById(id);
-        
-        if (!extension.isFixed()) {
-            throw new IllegalArgumentException(ErrorMessages.EXTENSION_FIXED_ONLY);
+        return updateBlockStatus(id, isBlocked, null, user);
+    }
+
+    /**
+     * 고정 확장자 차단 상태 변경
+     * 읽고 고쳐 저장하지 않고 조건부 UPDATE 한 문장(WHERE id = ? AND version = ?)으로 바꾼다.
+     * expectedVersion 이 있고 그 사이 다른 변경이 먼저 커밋되었으면 현재 상태를 담아 ConflictException 을 던진다.
+     */
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "update_block"}, histogram = true)
+    public ExtensionResponseDto updateBlockStatus(Long id, Boolean isBlocked, Long expectedVersion, User user) {
+        long revision = policyChangeRecorder.nextRevision();
+        int updated = extensionRepository.updateFixedBlockStatus(
+                id, isBlocked, expectedVersion, user, revision, LocalDateTime.now());
+        Extension extension = extensionRepository.findWithUsersById(id)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.EXTENSION_NOT_FOUND + ": " + id));
+
+        if (updated == 0) {
+            if (!extension.isFixed()) {
+                throw new IllegalArgumentException(ErrorMessages.EXTENSION_FIXED_ONLY);
+            }
+            throw new ConflictException(ErrorMessages.EXTENSION_CONFLICT, ExtensionResponseDto.from(extension));
         }
-        
-        log.info("확장자 {} 차단 상태 변경: {} -> {} (수정자: {})", 
-                extension.getExtension(), extension.isBlocked(), isBlocked, 
+
+        log.info("확장자 {} 차단 상태 변경: {} (버전 {}, 수정자: {})",
+                extension.getExtension(), isBlocked, extension.getVersion(),
                 user != null ? user.getName() : "시스템");
-        
-        extension.updateBlockStatus(isBlocked, user);
-        Extension savedExtension = extensionRepository.save(extension);
-        
-        return ExtensionResponseDto.from(savedExtension);
+        policyChangeRecorder.record(PolicyChangedEvent.blockChanged(extension), revision);
+
+        return ExtensionResponseDto.from(extension);
     }
 
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "add_custom"}, histogram = true)
     public ExtensionResponseDto addCustomExtension(String extensionName, User user) {
         // 유틸리티 클래스를 사용한 검증
         ExtensionValidator.validate(extensionName);
         String normalized = ExtensionValidator.normalize(extensionName);
         
-        validateMaxCustomCount();
-        validateDuplicate(normalized);
-        
-        Extension newExtension = Extension.builder()
-                .extension(normalized)
-                .isFixed(false)
-                .isBlocked(true)  // 커스텀 확장자는 추가 시 자동으로 차단됨
-                .createdBy(user)
-                .build();
-        
-        Extension saved = extensionRepository.save(newExtension);
+        Extension saved = insertCustomExtension(normalized, user);
         log.info("커스텀 확장자 추가: {} (생성자: {})", normalized, user != null ? user.getName() : "알 수 없음");
         
         return ExtensionResponseDto.from(saved);
     }
 
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "delete_custom"}, histogram = true)
     public void deleteCustomExtension(Long id, User user) {
         Extension extension = findExtensionById(id);
         
@@ -122,7 +234,151 @@ public class ExtensionService {
         log.info("커스텀 확장자 삭제: {} (삭제자: {})", 
                 extension.getExtension(), user != null ? user.getName() : "알 수 없음");
         
+        customExtensionQuota.release(1);
+        long revision = policyChangeRecorder.nextRevision();
+        extensionTombstoneRepository.save(ExtensionTombstone.of(extension, revision));
         extensionRepository.deleteById(id);
+        policyChangeRecorder.record(PolicyChangedEvent.deleted(extension), revision);
+    }
+    
+    /**
+     * 고정 확장자 차단 상태 일괄 변경
+     * 대상을 한 번에 읽어 검증하고, 상태가 실제로 바뀌는 행만 UPDATE 한 문장으로 바꾼다 (리비전 하나, 수정자 한 번 기록).
+     */
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "bulk_update_block"}, histogram = true)
+    public BulkMutationResponseDto updateBlockStatuses(List<Long> ids, boolean isBlocked, User user) {
+        List<Extension> extensions = findAllExtensionsById(ids);
+        if (extensions.stream().anyMatch(extension -> !extension.isFixed())) {
+            throw new IllegalArgumentException(ErrorMessages.EXTENSION_FIXED_ONLY);
+        }
+
+        List<Extension> changed = extensions.stream()
+                .filter(extension -> extension.isBlocked() != isBlocked)
+                .collect(Collectors.toList());
+        if (changed.isEmpty()) {
+            return new BulkMutationResponseDto(policyChangeRecorder.currentRevision(), 0);
+        }
+
+        long revision = policyChangeRecorder.nextRevision();
+        List<PolicyChangedEvent> events = new ArrayList<>(changed.size());
+        updateBlockStatus(changed, isBlocked, user, revision, events);
+        policyChangeRecorder.recordAll(events, revision);
+
+        log.info("확장자 {}개 차단 상태 일괄 변경: {} -> {} (수정자: {})",
+                changed.size(), names(changed), isBlocked, user != null ? user.getName() : "시스템");
+        return new BulkMutationResponseDto(revision, changed.size());
+    }
+
+    /**
+     * 커스텀 확장자 일괄 삭제 (삭제 기록은 JDBC 배치, 삭제는 DELETE 한 문장)
+     * 실제로 삭제된 행 수가 조회한 수와 다르면 그 사이 다른 삭제가 먼저 커밋된 것이므로 ConflictException 으로 롤백한다.
+     */
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "bulk_delete_custom"}, histogram = true)
+    public BulkMutationResponseDto deleteCustomExtensions(List<Long> ids, User user) {
+        List<Extension> extensions = findAllExtensionsById(ids);
+        if (extensions.stream().anyMatch(Extension::isFixed)) {
+            throw new IllegalArgumentException(ErrorMessages.EXTENSION_FIXED_DELETE);
+        }
+
+        customExtensionQuota.release(extensions.size());
+        long revision = policyChangeRecorder.nextRevision();
+        policyBatchRepository.insertTombstones(extensions, revision);
+        if (extensionRepository.deleteByIdIn(ids(extensions)) != extensions.size()) {
+            // 조회 이후 다른 요청이 일부를 먼저 삭제함: 반환한 자리와 삭제 기록을 함께 롤백
+            throw new ConflictException(ErrorMessages.EXTENSION_CONFLICT, null);
+        }
+        policyChangeRecorder.recordAll(extensions.stream()
+                .map(PolicyChangedEvent::deleted)
+                .collect(Collectors.toList()), revision);
+
+        log.info("커스텀 확장자 {}개 일괄 삭제: {} (삭제자: {})",
+                extensions.size(), names(extensions), user != null ? user.getName() : "알 수 없음");
+        return new BulkMutationResponseDto(revision, extensions.size());
+    }
+
+    /**
+     * 원하는 정책 전체를 한 트랜잭션으로 적용
+     * 현재 확장자를 한 번에 읽어 메모리에서 차이를 계산하고, 바뀌는 행만 JDBC 배치 INSERT 와 IN 조건 UPDATE/DELETE 로 반영한다.
+     * 모든 변경은 리비전 하나로 기록되며, dryRun 이면 차이만 계산해 반환한다.
+     * 빈 목록은 커스텀 확장자 전체 삭제가 되므로 clearAll 을 명시한 경우에만 허용한다.
+     * 실제 적용은 카운터 행, 리비전 행 순서로 잠근 뒤 현재 상태를 읽으므로 그 사이 다른 변경이 끼어들지 않고,
+     * 그래도 반영된 행 수가 계산한 차이와 다르면 ConflictException 으로 전체를 롤백한다.
+     */
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "apply_policy"}, histogram = true)
+    public PolicyDiffDto applyPolicy(PolicyApplyRequestDto request, boolean dryRun, boolean clearAll, User user) {
+        Map<String, Boolean> toAdd = toDesiredState(request, clearAll);
+        if (!dryRun) {
+            customExtensionQuota.lock();
+            policyChangeRecorder.lockRevision();
+        }
+        List<Extension> toDelete = new ArrayList<>();
+        List<Extension> toBlock = new ArrayList<>();
+        List<Extension> toUnblock = new ArrayList<>();
+
+        long customCount = 0;
+        for (Extension extension : extensionRepository.findAll()) {
+            Boolean wanted = toAdd.remove(extension.getExtension());
+            if (wanted == null && !extension.isFixed()) {
+                toDelete.add(extension);
+                continue;
+            }
+            if (!extension.isFixed()) {
+                customCount++;
+            }
+            // 목록에 없는 고정 확장자는 허용
+            boolean blocked = wanted != null && wanted;
+            if (blocked != extension.isBlocked()) {
+                (blocked ? toBlock : toUnblock).add(extension);
+            }
+        }
+        if (customCount + toAdd.size() > customExtensionQuota.getMaxCount()) {
+            throw customExtensionQuota.exceeded();
+        }
+
+        PolicyDiffDto.PolicyDiffDtoBuilder diff = PolicyDiffDto.builder()
+                .dryRun(dryRun)
+                .added(List.copyOf(toAdd.keySet()))
+                .deleted(names(toDelete))
+                .blocked(names(toBlock))
+                .unblocked(names(toUnblock));
+        if (dryRun || toAdd.isEmpty() && toDelete.isEmpty() && toBlock.isEmpty() && toUnblock.isEmpty()) {
+            return diff.version(policyChangeRecorder.currentRevision()).build();
+        }
+
+        // 위 개수 확인은 미리보기용이고, 실제 적용은 카운터 행에서 증감분만큼 다시 확보/반환
+        int delta = toAdd.size() - toDelete.size();
+        if (delta > 0) {
+            customExtensionQuota.acquire(delta);
+        } else {
+            customExtensionQuota.release(-delta);
+        }
+        long revision = policyChangeRecorder.nextRevision();
+        List<PolicyChangedEvent> events = new ArrayList<>();
+        if (!toDelete.isEmpty()) {
+            policyBatchRepository.insertTombstones(toDelete, revision);
+            if (extensionRepository.deleteByIdIn(ids(toDelete)) != toDelete.size()) {
+                throw new ConflictException(ErrorMessages.EXTENSION_CONFLICT, null);
+            }
+            toDelete.forEach(extension -> events.add(PolicyChangedEvent.deleted(extension)));
+        }
+        updateBlockStatus(toBlock, true, user, revision, events);
+        updateBlockStatus(toUnblock, false, user, revision, events);
+        if (!toAdd.isEmpty()) {
+            try {
+                policyBatchRepository.insertCustomExtensions(toAdd, user != null ? user.getId() : null, revision);
+            } catch (DataIntegrityViolationException e) {
+                // 차이 계산 후 다른 요청이 같은 확장자를 먼저 추가한 경우
+                throw new IllegalArgumentException(ErrorMessages.EXTENSION_DUPLICATE + ": " + toAdd.keySet(), e);
+            }
+            extensionRepository.findByExtensionIn(toAdd.keySet())
+                    .forEach(extension -> events.add(PolicyChangedEvent.added(extension)));
+        }
+        policyChangeRecorder.recordAll(events, revision);
+
+        log.info("정책 일괄 적용: 추가 {}, 삭제 {}, 차단 {}, 허용 {} (리비전 {}, 수정자: {})",
+                toAdd.size(), toDelete.size(), toBlock.size(), toUnblock.size(), revision,
+                user != null ? user.getName() : "알 수 없음");
+        return diff.version(revision).build();
     }
     
     // ========== 테스트용 메서드 ==========
@@ -144,32 +400,20 @@ public class ExtensionService {
                 .collect(Collectors.toList());
     }
     
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "update_block"}, histogram = true)
     public void updateFixedExtensionBlockStatus(Long id, Boolean isBlocked, Long userId) {
-        Extension extension = findExtensionById(id);
-        if (!extension.isFixed()) {
-            throw new IllegalArgumentException(ErrorMessages.EXTENSION_FIXED_ONLY);
-        }
-        extension.updateBlockStatus(isBlocked, null); // User 없이 테스트
-        extensionRepository.save(extension);
+        updateBlockStatus(id, isBlocked, null, null); // User 없이 테스트
     }
     
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "add_custom"}, histogram = true)
     public Extension addCustomExtension(String extensionName, Long userId) {
         ExtensionValidator.validate(extensionName);
         String normalized = ExtensionValidator.normalize(extensionName);
         
-        validateMaxCustomCount();
-        validateDuplicate(normalized);
-        
-        Extension newExtension = Extension.builder()
-                .extension(normalized)
-                .isFixed(false)
-                .isBlocked(true)
-                .createdBy(null)
-                .build();
-        
-        return extensionRepository.save(newExtension);
+        return insertCustomExtension(normalized, null);
     }
     
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "delete_custom"}, histogram = true)
     public void deleteCustomExtension(Long id) {
         Extension extension = findExtensionById(id);
         
@@ -177,7 +421,93 @@ public class ExtensionService {
             throw new IllegalArgumentException(ErrorMessages.CANNOT_DELETE_FIXED);
         }
         
+        customExtensionQuota.release(1);
+        long revision = policyChangeRecorder.nextRevision();
+        extensionTombstoneRepository.save(ExtensionTombstone.of(extension, revision));
         extensionRepository.deleteById(id);
+        policyChangeRecorder.record(PolicyChangedEvent.deleted(extension), revision);
+    }
+
+    /**
+     * id 목록의 확장자를 한 번에 조회 (하나라도 없으면 예외)
+     */
+    private List<Extension> findAllExtensionsById(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException(ErrorMessages.EXTENSION_IDS_EMPTY);
+        }
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException(ErrorMessages.EXTENSION_IDS_TOO_MANY);
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        List<Extension> extensions = extensionRepository.findAllById(requested);
+        if (extensions.size() != requested.size()) {
+            extensions.forEach(extension -> requested.remove(extension.getId()));
+            throw new IllegalArgumentException(ErrorMessages.EXTENSION_NOT_FOUND + ": " + requested);
+        }
+        return extensions;
+    }
+
+    private Map<String, Boolean> toDesiredState(PolicyApplyRequestDto request, boolean clearAll) {
+        if (request == null || request.getExtensions() == null) {
+            throw new IllegalArgumentException(ErrorMessages.POLICY_ENTRIES_REQUIRED);
+        }
+        if (request.getExtensions().isEmpty() && !clearAll) {
+            throw new IllegalArgumentException(ErrorMessages.POLICY_ENTRIES_REQUIRED);
+        }
+        // 전체 정책이므로 커스텀 최대 개수 + 고정 확장자 수까지 허용
+        int maxEntries = customExtensionQuota.getMaxCount() + DEFAULT_FIXED_EXTENSIONS.size();
+        if (request.getExtensions().size() > maxEntries) {
+            throw new IllegalArgumentException(String.format(ErrorMessages.POLICY_TOO_MANY_ENTRIES, maxEntries));
+        }
+
+        Map<String, Boolean> desired = new LinkedHashMap<>();
+        for (PolicyApplyRequestDto.Entry entry : request.getExtensions()) {
+            String extension = entry != null ? entry.getExtension() : null;
+            ExtensionValidator.validate(extension);
+            String normalized = ExtensionValidator.normalize(extension);
+            if (desired.put(normalized, entry.isBlockedOrDefault()) != null) {
+                throw new IllegalArgumentException(ErrorMessages.POLICY_DUPLICATE_ENTRY + ": " + normalized);
+            }
+        }
+        return desired;
+    }
+
+    private void updateBlockStatus(List<Extension> extensions, boolean blocked, User user, long revision,
+                                   List<PolicyChangedEvent> events) {
+        if (extensions.isEmpty()) {
+            return;
+        }
+        int updated = extensionRepository.updateBlockStatusByIdIn(ids(extensions), blocked, user, revision, LocalDateTime.now());
+        if (updated != extensions.size()) {
+            // 조회 이후 대상 일부가 삭제됨
+            throw new ConflictException(ErrorMessages.EXTENSION_CONFLICT, null);
+        }
+        extensions.forEach(extension -> events.add(PolicyChangedEvent.of(PolicyChangedEvent.Type.BLOCK_CHANGED,
+                extension.getId(), extension.getExtension(), extension.isFixed(), blocked, null)));
+    }
+
+    private static List<Long> ids(List<Extension> extensions) {
+        return extensions.stream().map(Extension::getId).collect(Collectors.toList());
+    }
+
+    private static List<String> names(List<Extension> extensions) {
+        return extensions.stream().map(Extension::getExtension).collect(Collectors.toList());
+    }
+
+    private PolicySnapshotDto fullSnapshot(long version) {
+        return PolicySnapshotDto.builder()
+                .version(version)
+                .full(true)
+                .extensions(toResponses(extensionRepository.findAll()))
+                .deleted(List.of())
+                .build();
+    }
+
+    private List<ExtensionResponseDto> toResponses(List<Extension> extensions) {
+        return extensions.stream()
+                .map(ExtensionResponseDto::from)
+                .collect(Collectors.toList());
     }
 
     private Extension findExtensionById(Long id) {
@@ -185,11 +515,31 @@ public class ExtensionService {
                 .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.EXTENSION_NOT_FOUND + ": " + id));
     }
 
-    private void validateMaxCustomCount() {
-        long customCount = extensionRepository.countByIsFixedFalse();
-        if (customCount >= MAX_CUSTOM_EXTENSIONS) {
-            throw new IllegalStateException(ErrorMessages.EXTENSION_MAX_COUNT);
+    /**
+     * 커스텀 확장자 한 개 추가
+     * 개수는 COUNT 대신 카운터 행의 조건부 증가로 확보하고(리비전보다 먼저 잡아 잠금 순서 고정),
+     * 중복은 미리 확인하되 동시에 같은 이름이 들어오면 UNIQUE 제약 위반을 중복 예외로 바꾼다.
+     */
+    private Extension insertCustomExtension(String normalized, User user) {
+        validateDuplicate(normalized);
+        customExtensionQuota.acquire(1);
+
+        Extension newExtension = Extension.builder()
+                .extension(normalized)
+                .isFixed(false)
+                .isBlocked(true)  // 커스텀 확장자는 추가 시 자동으로 차단됨
+                .createdBy(user)
+                .build();
+        newExtension.markRevision(policyChangeRecorder.nextRevision());
+
+        Extension saved;
+        try {
+            saved = extensionRepository.save(newExtension);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException(ErrorMessages.EXTENSION_DUPLICATE + ": " + normalized, e);
         }
+        policyChangeRecorder.record(PolicyChangedEvent.added(saved), saved.getRevision());
+        return saved;
     }
 
     private void validateDuplicate(String extension) {
@@ -0,0 +1,62 @@
+package com.flow.fileextension.domain.extension.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보관 기간이 지난 커스텀 확장자 삭제 기록(extension_tombstones) 정리
+ * 정리된 리비전보다 오래된 sinceVersion 으로 스냅샷을 조회하면 변경분 대신 전체 목록을 받는다.
+ */
+@Slf4j
+@Component
+public class ExtensionTombstoneCleaner {
+
+    private static final Duration CLEANUP_INTERVAL = Duration.ofMinutes(10);
+
+    private final ExtensionService extensionService;
+    private final Duration retention;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "extension-tombstone-cleaner");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ExtensionTombstoneCleaner(
+            ExtensionService extensionService,
+            @Value("${extension-tombstone.retention-hours:168}") long retentionHours) {
+        this.extensionService = extensionService;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::cleanup,
+                CLEANUP_INTERVAL.toMillis(), CLEANUP_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void cleanup() {
+        try {
+            int deleted = extensionService.purgeTombstones(LocalDateTime.now().minus(retention));
+            if (deleted > 0) {
+                log.debug("보관 기간이 지난 확장자 삭제 기록 {}건 삭제", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("확장자 삭제 기록 정리 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.flow.fileextension.domain.extension.service;
+
+import com.flow.fileextension.domain.extension.entity.PolicyChange;
+import com.flow.fileextension.domain.extension.entity.PolicyRevision;
+import com.flow.fileextension.domain.extension.event.PolicyChangedEvent;
+import com.flow.fileextension.domain.extension.policy.BlockPolicyHolder;
+import com.flow.fileextension.domain.extension.policy.TenantPolicyRegistry;
+import com.flow.fileextension.domain.extension.repository.PolicyBatchRepository;
+import com.flow.fileextension.domain.extension.repository.PolicyChangeRepository;
+import com.flow.fileextension.domain.extension.repository.PolicyRevisionRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 정책 변경 공통 처리 (전역 확장자와 조직 규칙 변경이 함께 씀)
+ * 리비전 증가, 변경 기록(outbox) 저장, 커밋 이후 로컬 캐시 무효화와 이벤트 전달을 호출한 트랜잭션 안에서 처리한다.
+ * 조직 규칙 변경은 그 조직의 정책만 무효화하고 전역 정책 버전은 올리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PolicyChangeRecorder {
+
+    private final PolicyRevisionRepository policyRevisionRepository;
+    private final PolicyChangeRepository policyChangeRepository;
+    private final PolicyBatchRepository policyBatchRepository;
+    private final BlockPolicyHolder blockPolicyHolder;
+    private final TenantPolicyRegistry tenantPolicyRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostConstruct
+    public void initializeRevision() {
+        if (policyRevisionRepository.existsById(PolicyRevision.ID)) {
+            return;
+        }
+        try {
+            policyRevisionRepository.save(PolicyRevision.initial());
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 기동한 다른 인스턴스가 먼저 만든 행을 그대로 씀
+        }
+    }
+
+    /**
+     * 정책 리비전을 1 올리고 새 값을 반환 (호출한 트랜잭션이 끝날 때까지 다른 변경은 대기)
+     */
+    public long nextRevision() {
+        if (policyRevisionRepository.increment(PolicyRevision.ID) == 0) {
+            throw new IllegalStateException("정책 리비전이 초기화되지 않았습니다");
+        }
+        return currentRevision();
+    }
+
+    /**
+     * 리비전을 올리지 않고 리비전 행만 잠금 (변경 전에 현재 상태를 읽거나, 리비전 없이 변경 기록을 남길 때)
+     */
+    public void lockRevision() {
+        if (policyRevisionRepository.lock(PolicyRevision.ID) == 0) {
+            throw new IllegalStateException("정책 리비전이 초기화되지 않았습니다");
+        }
+    }
+
+    public long currentRevision() {
+        return policyRevisionRepository.findRevision(PolicyRevision.ID).orElse(0L);
+    }
+
+    /**
+     * 삭제 기록이 정리된 리비전 경계 (이 값보다 오래된 sinceVersion 에는 삭제분을 알려줄 수 없음)
+     */
+    public long tombstoneHorizon() {
+        return policyRevisionRepository.findTombstoneHorizon(PolicyRevision.ID).orElse(0L);
+    }
+
+    /**
+     * 삭제 기록 정리 경계를 올리고 리비전 행을 잠금 (이미 더 크면 그대로)
+     */
+    public void raiseTombstoneHorizon(long revision) {
+        policyRevisionRepository.raiseTombstoneHorizon(PolicyRevision.ID, revision);
+    }
+
+    /**
+     * 변경 기록(outbox)을 같은 트랜잭션에 남기고, 커밋 이후 로컬 정책 캐시 무효화와 변경 이벤트 전달을 예약
+     * 다른 인스턴스는 PolicyChangePoller 가 이 기록을 읽어 자기 캐시를 무효화한다.
+     */
+    public void record(PolicyChangedEvent event, long revision) {
+        policyChangeRepository.save(PolicyChange.of(event, revision, blockPolicyHolder.instanceId()));
+        if (event.getTenantId() != null) {
+            tenantPolicyRegistry.invalidate(event.getTenantId());
+        } else {
+            blockPolicyHolder.invalidate();
+        }
+        eventPublisher.publishEvent(event.withRevision(revision));
+    }
+
+    /**
+     * 한 리비전에 묶인 여러 변경을 JDBC 배치로 기록 (정책 일괄 적용용, 무효화는 한 번만)
+     */
+    public void recordAll(List<PolicyChangedEvent> events, long revision) {
+        if (events.isEmpty()) {
+            return;
+        }
+        policyBatchRepository.insertChanges(events, revision, blockPolicyHolder.instanceId());
+        blockPolicyHolder.invalidate();
+        events.forEach(event -> eventPublisher.publishEvent(event.withRevision(revision)));
+    }
+}
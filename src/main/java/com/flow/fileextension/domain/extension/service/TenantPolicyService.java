@@ -0,0 +1,86 @@
+package com.flow.fileextension.domain.extension.service;
+
+import com.flow.fileextension.domain.extension.dto.TenantRuleDto;
+import com.flow.fileextension.domain.extension.entity.TenantExtensionRule;
+import com.flow.fileextension.domain.extension.event.PolicyChangedEvent;
+import com.flow.fileextension.domain.extension.repository.TenantExtensionRuleRepository;
+import com.flow.fileextension.global.constants.ErrorMessages;
+import com.flow.fileextension.global.util.ExtensionValidator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 조직별 확장자 규칙 관리
+ * 변경은 전역 확장자 변경과 같은 변경 기록을 거치므로 다른 인스턴스의 조직 정책 캐시도 무효화된다.
+ * 전역 정책은 바뀌지 않으므로 리비전을 올리지 않고(스냅샷 버전과 ETag 유지) 현재 리비전을 함께 기록하며,
+ * 같은 규칙의 동시 변경은 규칙 행 하나의 upsert 로 처리한다.
+ * 리비전은 올리지 않아도 리비전 행은 잠가, 변경 기록(outbox) id 가 전역 변경과 섞여도 id 순서대로 커밋되게 한다
+ * (PolicyChangePoller 는 마지막으로 읽은 id 이후만 읽으므로 작은 id 가 늦게 커밋되면 놓친다).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class TenantPolicyService {
+
+    private static final String MUTATION_METRIC = "extension.mutations";
+
+    private final TenantExtensionRuleRepository tenantExtensionRuleRepository;
+    private final PolicyChangeRecorder policyChangeRecorder;
+
+    @Transactional(readOnly = true)
+    public List<TenantRuleDto> getRules(Long tenantId) {
+        requireTenant(tenantId);
+        return tenantExtensionRuleRepository.findByTenantId(tenantId).stream()
+                .map(TenantRuleDto::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 조직 규칙 추가 또는 변경
+     */
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "set_tenant_rule"}, histogram = true)
+    public TenantRuleDto setRule(Long tenantId, String extensionName, boolean blocked) {
+        requireTenant(tenantId);
+        ExtensionValidator.validate(extensionName);
+        String normalized = ExtensionValidator.normalize(extensionName);
+
+        policyChangeRecorder.lockRevision();
+        tenantExtensionRuleRepository.upsert(tenantId, normalized, blocked, LocalDateTime.now());
+        TenantExtensionRule saved = tenantExtensionRuleRepository.findByTenantIdAndExtension(tenantId, normalized)
+                .orElseThrow();
+
+        policyChangeRecorder.record(PolicyChangedEvent.tenantRuleChanged(saved), policyChangeRecorder.currentRevision());
+        log.info("조직 {} 확장자 규칙: {} -> {}", tenantId, normalized, blocked ? "차단" : "허용");
+        return TenantRuleDto.from(saved);
+    }
+
+    /**
+     * 조직 규칙 삭제 (전역 정책을 그대로 따름)
+     */
+    @Timed(value = MUTATION_METRIC, extraTags = {"operation", "delete_tenant_rule"}, histogram = true)
+    public void deleteRule(Long tenantId, String extensionName) {
+        requireTenant(tenantId);
+        String normalized = ExtensionValidator.normalize(extensionName);
+        TenantExtensionRule rule = tenantExtensionRuleRepository.findByTenantIdAndExtension(tenantId, normalized)
+                .orElseThrow(() -> new IllegalArgumentException(ErrorMessages.TENANT_RULE_NOT_FOUND + ": " + normalized));
+
+        policyChangeRecorder.lockRevision();
+        tenantExtensionRuleRepository.delete(rule);
+        policyChangeRecorder.record(PolicyChangedEvent.tenantRuleDeleted(rule), policyChangeRecorder.currentRevision());
+        log.info("조직 {} 확장자 규칙 삭제: {}", tenantId, normalized);
+    }
+
+    private void requireTenant(Long tenantId) {
+        if (tenantId == null) {
+            throw new IllegalArgumentException(ErrorMessages.TENANT_REQUIRED);
+        }
+    }
+}
@@ -25,6 +25,10 @@ public class User {
     @Column(name = "profile_image")
     private String profileImage;
 
+    // 소속 조직 (null 이면 전역 정책만 적용)
+    @Column(name = "tenant_id")
+    private Long tenantId;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,39 @@
+package com.flow.fileextension.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 윈도 하나의 검사 통계 (예: 최근 1시간)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CheckStatsDto {
+
+    // 1m, 1h, 24h
+    private String window;
+    private long windowSeconds;
+
+    private long total;
+    private long allowed;
+    private long blocked;
+
+    // 초당 검사 수, 초당 차단 수
+    private double checksPerSecond;
+    private double blockedPerSecond;
+
+    // 차단 횟수 상위 확장자 (많은 순)
+    private List<ExtensionCount> topBlocked;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ExtensionCount {
+        private String extension;
+        private long count;
+        private double perSecond;
+    }
+}
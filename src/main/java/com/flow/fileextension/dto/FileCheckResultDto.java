@@ -0,0 +1,64 @@
+package com.flow.fileextension.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FileCheckResultDto {
+
+    private String filename;
+    private boolean blocked;
+
+    // 차단 사유가 된 확장자 (허용된 경우 null)
+    private String matchedExtension;
+
+    // 압축 파일 내부에서 차단 사유가 된 항목 경로 (예: outer.zip!/payload.exe)
+    private String blockedEntry;
+
+    // 압축 해제 한도 초과 등 확장자 외의 차단 사유
+    private String reason;
+
+    // 다중 파일 검사에서 앞선 파일이 차단되어 검사하지 않은 경우 true
+    private Boolean skipped;
+
+    public static FileCheckResultDto allowed(String filename) {
+        return FileCheckResultDto.builder()
+                .filename(filename)
+                .blocked(false)
+                .build();
+    }
+
+    public static FileCheckResultDto blocked(String filename, String matchedExtension) {
+        return FileCheckResultDto.builder()
+                .filename(filename)
+                .blocked(true)
+                .matchedExtension(matchedExtension)
+                .build();
+    }
+
+    public static FileCheckResultDto blockedInArchive(String filename, String matchedExtension, String blockedEntry, String reason) {
+        return FileCheckResultDto.builder()
+                .filename(filename)
+                .blocked(true)
+                .matchedExtension(matchedExtension)
+                .blockedEntry(blockedEntry)
+                .reason(reason)
+                .build();
+    }
+
+    public static FileCheckResultDto skipped(String filename) {
+        return FileCheckResultDto.builder()
+                .filename(filename)
+                .blocked(false)
+                .skipped(true)
+                .reason("앞선 파일이 차단되어 검사하지 않았습니다")
+                .build();
+    }
+}
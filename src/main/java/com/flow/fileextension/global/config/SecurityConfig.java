@@ -1,12 +1,15 @@
 package com.flow.fileextension.global.config;
 
+import com.flow.fileextension.global.filter.StreamingFileCheckFilter;
 import com.flow.fileextension.global.security.CustomOAuth2UserService;
 import com.flow.fileextension.global.security.OAuth2SuccessHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.SecurityFilterChain;
@@ -25,6 +28,9 @@ public class SecurityConfig {
     @Value("${frontend.url:http://localhost:3000}")
     private String frontendUrl;
 
+    @Value("${file-check.streaming.enabled:false}")
+    private boolean streamingFileCheck;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         // CSRF 토큰 핸들러 설정 (SPA 환경 지원)
@@ -32,19 +38,34 @@ public class SecurityConfig {
         requestHandler.setCsrfRequestAttributeName(null); // Spring Security 6.x 이상 권장
 
         http
-                .csrf(csrf -> csrf
-                        .csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
-                        .csrfTokenRequestHandler(requestHandler)
-                        .ignoringRequestMatchers(
-                                "/api/auth/**",  // OAuth2 로그인/로그아웃은 CSRF 검증 제외
-                                "/oauth2/**",
-                                "/login/**"
-                        )
-                )
+                // MVC 밖에서 응답하는 필터(스트리밍 파일 검사)에도 WebConfig의 CORS 설정 적용
+                .cors(Customizer.withDefaults())
+                .csrf(csrf -> {
+                    csrf
+                            .csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
+                            .csrfTokenRequestHandler(requestHandler)
+                            .ignoringRequestMatchers(
+                                    "/api/auth/**",  // OAuth2 로그인/로그아웃은 CSRF 검증 제외
+                                    "/oauth2/**",
+                                    "/login/**"
+                            );
+                    // 스트리밍 파일 검사는 파라미터에서 토큰을 찾느라 multipart 본문 전체를 파싱하지 않도록 제외
+                    // (검사 기록이 세션 사용자 이름으로 남지 않으므로 다른 사이트의 요청이 사용자를 사칭할 수 없음)
+                    // 나머지 파일 검사(multi, batch, detail)는 다른 변경 요청과 같이 X-XSRF-TOKEN 헤더를 검증
+                    if (streamingFileCheck) {
+                        csrf.ignoringRequestMatchers(StreamingFileCheckFilter::handles);
+                    }
+                })
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable()))
                 .authorizeHttpRequests(authorize -> authorize
+                        // 커스텀 확장자 일괄 삭제는 조회와 같은 경로이므로 먼저 막음
+                        .requestMatchers(HttpMethod.DELETE, "/api/extensions/custom").authenticated()
+
                         // 조회 API (비로그인 허용)
                         .requestMatchers("/api/extensions/fixed", "/api/extensions/custom", "/api/extensions/blocked").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/extensions/snapshot").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/extensions/search").permitAll() // 확장자 자동완성
+                        .requestMatchers(HttpMethod.GET, "/api/extensions/stream").permitAll() // 정책 변경 스트림 (업로드 게이트웨이 구독)
                         .requestMatchers("/api/file/check").permitAll()
                         .requestMatchers("/api/auth/**").permitAll() // 인증 관련 API
                         
@@ -1,7 +1,13 @@
 package com.flow.fileextension.global.config;
 
+import com.flow.fileextension.global.constants.ApiHeaders;
+import com.flow.fileextension.global.constants.FileCheckLimits;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -17,6 +23,17 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedOrigins(frontendUrl)
                 .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                // 프론트엔드에서 캐시 검증용 버전을 읽을 수 있도록 노출
+                .exposedHeaders(HttpHeaders.ETAG, ApiHeaders.POLICY_VERSION)
                 .allowCredentials(true);
     }
+
+    /**
+     * Tomcat 기본 multipart 파트 수 제한(10개)으로는 다중 파일 검사 요청이 거부되므로 최대 파일 수에 맞춰 늘림
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> multipartPartCountCustomizer() {
+        return factory -> factory.addConnectorCustomizers(
+                connector -> connector.setMaxPartCount(FileCheckLimits.MAX_MULTI_FILE_COUNT + 10));
+    }
 }
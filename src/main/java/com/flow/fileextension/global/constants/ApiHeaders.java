@@ -0,0 +1,11 @@
+package com.flow.fileextension.global.constants;
+
+public class ApiHeaders {
+
+    // 확장자 목록 응답의 정책 버전 (CORS 노출 헤더에도 포함)
+    public static final String POLICY_VERSION = "X-Policy-Version";
+
+    private ApiHeaders() {
+        throw new AssertionError("상수 클래스는 인스턴스화할 수 없습니다");
+    }
+}
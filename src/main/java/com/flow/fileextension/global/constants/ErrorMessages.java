@@ -5,24 +5,48 @@ public class ErrorMessages {
     // Extension 관련
     public static final String EXTENSION_NOT_FOUND = "확장자를 찾을 수 없습니다";
     public static final String EXTENSION_DUPLICATE = "이미 존재하는 확장자입니다";
-    public static final String EXTENSION_MAX_COUNT = "커스텀 확장자는 최대 200개까지만 추가할 수 있습니다.";
+    public static final String EXTENSION_MAX_COUNT = "커스텀 확장자는 최대 %d개까지만 추가할 수 있습니다.";
     public static final String EXTENSION_INVALID_FORMAT = "확장자 형식이 올바르지 않습니다 (영문, 숫자만 가능)";
     public static final String EXTENSION_TOO_LONG = "확장자는 최대 20자까지 입력 가능합니다";
     public static final String EXTENSION_EMPTY = "확장자를 입력해주세요";
     public static final String EXTENSION_FIXED_ONLY = "고정 확장자만 차단 상태를 변경할 수 있습니다";
     public static final String EXTENSION_FIXED_DELETE = "고정 확장자는 삭제할 수 없습니다.";
     public static final String EXTENSION_BLOCKED = "차단된 확장자입니다";
+    public static final String EXTENSION_PAGE_SIZE = "페이지 크기는 1 이상 %d 이하여야 합니다";
+    public static final String EXTENSION_CONFLICT = "다른 사용자가 먼저 변경했습니다. 현재 상태를 확인 후 다시 시도해주세요";
     
     // 테스트용 추가 상수 (호환성)
     public static final String DUPLICATE_EXTENSION = "이미 등록된 확장자입니다.";
     public static final String MAX_CUSTOM_EXTENSIONS = "커스텀 확장자는 최대 200개까지만 추가할 수 있습니다.";
     public static final String CANNOT_DELETE_FIXED = "고정 확장자는 삭제할 수 없습니다.";
     
+    // 일괄 변경 관련
+    public static final String EXTENSION_IDS_EMPTY = "변경할 확장자를 선택해주세요";
+    public static final String EXTENSION_IDS_TOO_MANY = "확장자는 한 번에 최대 1000개까지 변경할 수 있습니다";
+
+    // 정책 일괄 적용 관련
+    public static final String POLICY_ENTRIES_REQUIRED = "적용할 정책 목록을 입력해주세요";
+    public static final String POLICY_TOO_MANY_ENTRIES = "정책은 한 번에 최대 %d개 확장자까지 적용할 수 있습니다";
+    public static final String POLICY_DUPLICATE_ENTRY = "정책 목록에 같은 확장자가 두 번 있습니다";
+    public static final String POLICY_INVALID_BLOCKED = "차단 여부는 true 또는 false 로 입력해주세요";
+
+    // 조직별 정책 관련
+    public static final String TENANT_REQUIRED = "조직에 속한 사용자만 조직 정책을 변경할 수 있습니다";
+    public static final String TENANT_RULE_NOT_FOUND = "조직 정책에 해당 확장자 규칙이 없습니다";
+
     // File 관련
     public static final String FILE_EMPTY = "파일이 비어있습니다";
     public static final String FILE_NO_EXTENSION = "확장자가 없는 파일입니다";
     public static final String FILE_UPLOAD_FAILED = "파일 업로드에 실패했습니다";
+    public static final String FILE_NAMES_EMPTY = "검사할 파일명을 입력해주세요";
+    public static final String FILE_NAMES_TOO_MANY = "파일명은 한 번에 최대 10000개까지 검사할 수 있습니다";
+    public static final String FILES_EMPTY = "검사할 파일을 선택해주세요";
+    public static final String FILES_TOO_MANY = "파일은 한 번에 최대 1000개까지 검사할 수 있습니다";
     
+    // 정책 변경 스트림 관련
+    public static final String STREAM_TOO_MANY_SUBSCRIBERS = "정책 변경 스트림 연결 수가 한도에 도달했습니다. 잠시 후 다시 시도해주세요";
+    public static final String STREAM_TOO_MANY_PER_CLIENT = "한 클라이언트가 열 수 있는 정책 변경 스트림 연결 수를 넘었습니다. 사용하지 않는 연결을 닫아주세요";
+
     // Auth 관련
     public static final String AUTH_REQUIRED = "로그인이 필요한 서비스입니다";
     public static final String AUTH_UNAUTHORIZED = "권한이 없습니다";
@@ -0,0 +1,14 @@
+package com.flow.fileextension.global.constants;
+
+public class FileCheckLimits {
+
+    // 파일명 일괄 검사 최대 개수
+    public static final int MAX_BATCH_SIZE = 10_000;
+
+    // 다중 파일 검사 최대 파일 수 (Tomcat multipart 파트 수 제한도 이에 맞춤)
+    public static final int MAX_MULTI_FILE_COUNT = 1_000;
+
+    private FileCheckLimits() {
+        throw new AssertionError("상수 클래스는 인스턴스화할 수 없습니다");
+    }
+}
@@ -0,0 +1,214 @@
+package com.flow.fileextension.global.decisionlog;
+
+import com.flow.fileextension.dto.FileCheckResultDto;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 파일 검사 판정 기록 (JSON Lines)
+ * 요청 스레드는 결과 객체 참조만 링 버퍼에 넣고 바로 돌아가며, 문자열 변환과 파일 쓰기는 전용 기록 스레드가 맡는다.
+ * 버퍼가 가득 차면 when-full 설정에 따라 버리거나(drop) 빈 슬롯이 생길 때까지 기다린다(block).
+ * 기록 스레드는 버퍼가 비어 있는 동안 잠드는 시간을 1ms부터 100ms까지 두 배씩 늘리고,
+ * 잠든 기록 스레드가 있을 때 기록이 들어오면 요청 스레드가 바로 깨운다.
+ *
+ * <pre>
+ * decision.log.dropped    버퍼가 가득 차 버린 기록 수
+ * decision.log.written    파일에 쓴 기록 수
+ * decision.log.pending    버퍼에 쌓여 있는 기록 수
+ * </pre>
+ */
+@Slf4j
+@Component
+public class DecisionLog {
+
+    private static final int DRAIN_BATCH = 1024;
+    private static final long MIN_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long MAX_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final boolean enabled;
+    private final Path path;
+    private final FullPolicy fullPolicy;
+    private final long maxFileSize;
+    private final int maxHistory;
+    private final DecisionRingBuffer buffer;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+
+    private RollingJsonLinesWriter writer;
+    private volatile Thread writerThread;
+    private volatile boolean running;
+
+    // 기록 스레드가 빈 버퍼를 보고 잠들려는 중 (요청 스레드가 깨워야 함)
+    private volatile boolean writerIdle;
+
+    public DecisionLog(
+            @Value("${file-check.decision-log.enabled:true}") boolean enabled,
+            @Value("${file-check.decision-log.path:logs/decisions.jsonl}") String path,
+            @Value("${file-check.decision-log.capacity:65536}") int capacity,
+            @Value("${file-check.decision-log.when-full:drop}") String whenFull,
+            @Value("${file-check.decision-log.max-file-size:104857600}") long maxFileSize,
+            @Value("${file-check.decision-log.max-history:5}") int maxHistory,
+            MeterRegistry registry) {
+        this.enabled = enabled;
+        this.path = Path.of(path);
+        this.fullPolicy = FullPolicy.valueOf(whenFull.trim().toUpperCase());
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = maxHistory;
+        this.buffer = enabled ? new DecisionRingBuffer(capacity) : null;
+
+        FunctionCounter.builder("decision.log.dropped", dropped, AtomicLong::get)
+                .description("버퍼가 가득 차 버린 판정 기록 수")
+                .register(registry);
+        FunctionCounter.builder("decision.log.written", written, AtomicLong::get)
+                .description("파일에 쓴 판정 기록 수")
+                .register(registry);
+        Gauge.builder("decision.log.pending", this, DecisionLog::pending)
+                .description("기록 대기 중인 판정 수")
+                .register(registry);
+    }
+
+    /**
+     * 아무것도 기록하지 않는 인스턴스 (스프링 컨텍스트 밖에서 서비스를 직접 만들 때)
+     */
+    public static DecisionLog disabled() {
+        return new DecisionLog(false, "", 2, FullPolicy.DROP.name(), 0, 0, new SimpleMeterRegistry());
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        writer = new RollingJsonLinesWriter(path, maxFileSize, maxHistory);
+        running = true;
+        writerThread = new Thread(this::drainLoop, "decision-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("판정 기록: {} (버퍼 {}개, 가득 차면 {})", path.toAbsolutePath(), buffer.capacity(), fullPolicy);
+    }
+
+    /**
+     * 판정 기록 (요청 스레드에서 호출, 파일 I/O 없음)
+     */
+    public void record(FileCheckResultDto result, long policyVersion) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (buffer.tryPublish(now, policyVersion, result)) {
+            wakeWriter();
+            return;
+        }
+        if (fullPolicy == FullPolicy.BLOCK) {
+            // 기록 스레드가 멈춘 뒤에는 기다려도 비워지지 않으므로 버림
+            while (running) {
+                LockSupport.parkNanos(FULL_PARK_NANOS);
+                if (buffer.tryPublish(now, policyVersion, result)) {
+                    wakeWriter();
+                    return;
+                }
+            }
+        }
+        dropped.incrementAndGet();
+    }
+
+    private void wakeWriter() {
+        if (writerIdle) {
+            writerIdle = false;
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+    }
+
+    private void drainLoop() {
+        try {
+            boolean dirty = false;
+            long idleParkNanos = MIN_IDLE_PARK_NANOS;
+            while (running) {
+                int drained = buffer.drain(this::write, DRAIN_BATCH);
+                if (drained > 0) {
+                    dirty = true;
+                    idleParkNanos = MIN_IDLE_PARK_NANOS;
+                    continue;
+                }
+                if (dirty) {
+                    writer.flush();
+                    dirty = false;
+                }
+                // 표시한 뒤 버퍼를 다시 확인해야 그 사이 들어온 기록의 깨우기를 놓치지 않음
+                writerIdle = true;
+                if (buffer.size() == 0) {
+                    LockSupport.parkNanos(idleParkNanos);
+                    idleParkNanos = Math.min(idleParkNanos * 2, MAX_IDLE_PARK_NANOS);
+                }
+                writerIdle = false;
+            }
+            // 종료 전에 남은 기록을 모두 씀
+            int drained;
+            do {
+                drained = buffer.drain(this::write, DRAIN_BATCH);
+            } while (drained > 0);
+            writer.flush();
+        } catch (RuntimeException | IOException e) {
+            running = false;
+            log.error("판정 기록 중단: {}", path.toAbsolutePath(), e);
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                log.warn("판정 기록 파일을 닫지 못했습니다: {}", path.toAbsolutePath(), e);
+            }
+        }
+    }
+
+    private void write(DecisionRecord record) {
+        try {
+            writer.write(record);
+            written.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private double pending() {
+        return buffer != null ? buffer.size() : 0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.flow.fileextension.global.decisionlog;
+
+import com.flow.fileextension.dto.FileCheckResultDto;
+
+/**
+ * 링 버퍼 슬롯 하나 (미리 만들어 재사용)
+ * 요청 스레드는 참조와 숫자만 채우고, 문자열 변환은 기록 스레드가 한다.
+ */
+final class DecisionRecord {
+
+    long timestampMillis;
+    long policyVersion;
+    FileCheckResultDto result;
+
+    void set(long timestampMillis, long policyVersion, FileCheckResultDto result) {
+        this.timestampMillis = timestampMillis;
+        this.policyVersion = policyVersion;
+        this.result = result;
+    }
+
+    void clear() {
+        result = null;
+    }
+}
@@ -0,0 +1,96 @@
+package com.flow.fileextension.global.decisionlog;
+
+import com.flow.fileextension.dto.FileCheckResultDto;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (생산자 여럿, 소비자 하나)
+ * 슬롯마다 시퀀스 번호를 두어 생산자는 CAS로 위치를 차지한 뒤 채우고, 채운 다음 시퀀스를 올려 소비자에게 넘긴다.
+ * 가득 차면 기다리지 않고 false를 반환하므로 대기 여부는 호출자가 정한다.
+ */
+final class DecisionRingBuffer {
+
+    private final DecisionRecord[] slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong producerPosition = new AtomicLong();
+
+    // 소비자(기록 스레드) 하나만 접근
+    private long consumerPosition;
+
+    DecisionRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new DecisionRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new DecisionRecord();
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return 빈 슬롯이 없으면 false
+     */
+    boolean tryPublish(long timestampMillis, long policyVersion, FileCheckResultDto result) {
+        long position = producerPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (producerPosition.compareAndSet(position, position + 1)) {
+                    slots[index].set(timestampMillis, policyVersion, result);
+                    sequences.setRelease(index, position + 1);
+                    return true;
+                }
+                position = producerPosition.get();
+            } else if (difference < 0) {
+                // 한 바퀴 전 기록을 아직 소비하지 못함
+                return false;
+            } else {
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    /**
+     * 채워진 슬롯을 순서대로 최대 maxRecords 개 처리 (소비자 스레드 전용)
+     * @return 처리한 개수
+     */
+    int drain(Consumer<DecisionRecord> handler, int maxRecords) {
+        int drained = 0;
+        while (drained < maxRecords) {
+            int index = (int) (consumerPosition & mask);
+            if (sequences.get(index) != consumerPosition + 1) {
+                break;
+            }
+            DecisionRecord record = slots[index];
+            try {
+                handler.accept(record);
+            } finally {
+                record.clear();
+                sequences.setRelease(index, consumerPosition + slots.length);
+                consumerPosition++;
+            }
+            drained++;
+        }
+        return drained;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * 대략적인 적재 개수 (지표용)
+     */
+    long size() {
+        return Math.max(0, producerPosition.get() - consumerPosition);
+    }
+}
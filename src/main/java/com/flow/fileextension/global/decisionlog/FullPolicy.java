@@ -0,0 +1,13 @@
+package com.flow.fileextension.global.decisionlog;
+
+/**
+ * 링 버퍼가 가득 찼을 때 동작
+ */
+public enum FullPolicy {
+
+    // 기록을 버리고 dropped 카운터만 올림 (요청 지연에 영향 없음)
+    DROP,
+
+    // 빈 슬롯이 생길 때까지 요청 스레드가 잠시씩 대기 (기록 유실 없음)
+    BLOCK
+}
@@ -0,0 +1,126 @@
+package com.flow.fileextension.global.decisionlog;
+
+import com.flow.fileextension.dto.FileCheckResultDto;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * 판정 기록을 한 줄에 JSON 하나씩 파일에 씀 (기록 스레드 전용, 스레드 안전하지 않음)
+ * 파일이 max-file-size 를 넘으면 decisions.jsonl → decisions.jsonl.1 → ... 로 밀어내고 max-history 개까지만 보관한다.
+ */
+final class RollingJsonLinesWriter implements Closeable {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Path path;
+    private final long maxFileSize;
+    private final int maxHistory;
+
+    private final StringBuilder line = new StringBuilder(256);
+    private OutputStream out;
+    private long fileSize;
+
+    RollingJsonLinesWriter(Path path, long maxFileSize, int maxHistory) throws IOException {
+        this.path = path;
+        this.maxFileSize = maxFileSize;
+        this.maxHistory = Math.max(0, maxHistory);
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    void write(DecisionRecord record) throws IOException {
+        FileCheckResultDto result = record.result;
+        line.setLength(0);
+        line.append("{\"ts\":\"").append(Instant.ofEpochMilli(record.timestampMillis)).append('"');
+        line.append(",\"policyVersion\":").append(record.policyVersion);
+        appendString("filename", result.getFilename());
+        line.append(",\"blocked\":").append(result.isBlocked());
+        appendString("matchedExtension", result.getMatchedExtension());
+        appendString("blockedEntry", result.getBlockedEntry());
+        appendString("reason", result.getReason());
+        if (result.getSkipped() != null) {
+            line.append(",\"skipped\":").append(result.getSkipped());
+        }
+        line.append("}\n");
+
+        byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+        if (fileSize > 0 && fileSize + bytes.length > maxFileSize) {
+            roll();
+        }
+        out.write(bytes);
+        fileSize += bytes.length;
+    }
+
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void open() throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(path,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE), 64 * 1024);
+        fileSize = Files.size(path);
+    }
+
+    private void roll() throws IOException {
+        out.close();
+        if (maxHistory == 0) {
+            Files.delete(path);
+        } else {
+            Files.deleteIfExists(rolled(maxHistory));
+            for (int i = maxHistory - 1; i >= 1; i--) {
+                Path source = rolled(i);
+                if (Files.exists(source)) {
+                    Files.move(source, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path rolled(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private void appendString(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+}
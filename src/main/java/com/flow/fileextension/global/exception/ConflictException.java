@@ -0,0 +1,18 @@
+package com.flow.fileextension.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 동시 수정 충돌 (409)
+ * 요청이 기준으로 삼은 버전이 이미 바뀌었을 때 발생하며, 클라이언트가 다시 시도할 수 있도록 현재 상태를 함께 담는다.
+ */
+@Getter
+public class ConflictException extends RuntimeException {
+
+    private final transient Object current;
+
+    public ConflictException(String message, Object current) {
+        super(message);
+        this.current = current;
+    }
+}
@@ -0,0 +1,131 @@
+package com.flow.fileextension.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import com.flow.fileextension.global.multipart.StreamingMultipartReader;
+import com.flow.fileextension.global.response.ApiResponse;
+import com.flow.fileextension.service.FileCheckService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * POST /api/files/check 스트리밍 처리 모드
+ * 서블릿 컨테이너가 multipart 본문 전체를 메모리/임시 파일에 받기 전에 파트 헤더의 파일명만 먼저 읽고,
+ * 차단된 확장자이면 나머지 본문을 받지 않고 즉시 응답한 뒤 연결을 닫는다.
+ * 파일명이 허용되면 FileCheckService가 필요한 만큼만 내용(앞부분, 압축 파일 항목)을 검사하고,
+ * 나머지 본문은 고정 크기 버퍼로 읽어 버리므로 디스크에 기록하지 않는다.
+ *
+ * <p>file-check.streaming.enabled=true 일 때만 등록되며, 응답 형식은 FileCheckController와 같다.
+ * CSRF 토큰을 찾느라 본문을 파싱하지 않도록 이 요청만 CSRF 검증에서 제외하므로(SecurityConfig), 감사 기록에는 사용자를 남기지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "file-check.streaming.enabled", havingValue = "true")
+public class StreamingFileCheckFilter extends OncePerRequestFilter {
+
+    private static final String CHECK_PATH = "/api/files/check";
+    private static final String FILE_PART_NAME = "file";
+
+    private final FileCheckService fileCheckService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !handles(request);
+    }
+
+    /**
+     * 이 필터가 처리하는 요청인지 (multipart 단일 파일 검사, 상세 결과 요청 제외)
+     */
+    public static boolean handles(HttpServletRequest request) {
+        return "POST".equals(request.getMethod())
+                && CHECK_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()))
+                && StreamingMultipartReader.extractBoundary(request.getContentType()) != null
+                && !isDetailRequest(request);
+    }
+
+    /**
+     * 상세 결과 요청(?detail=true)은 컨트롤러에서 처리
+     * getParameter는 본문 파싱을 유발할 수 있으므로 쿼리 문자열만 확인
+     */
+    private static boolean isDetailRequest(HttpServletRequest request) {
+        String query = request.getQueryString();
+        return query != null && ("&" + query + "&").contains("&detail=true&");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String boundary = StreamingMultipartReader.extractBoundary(request.getContentType());
+        StreamingMultipartReader reader = new StreamingMultipartReader(request.getInputStream(), boundary);
+
+        try {
+            StreamingMultipartReader.Part part;
+            while ((part = reader.nextPart()) != null) {
+                if (!FILE_PART_NAME.equals(part.getName()) || part.getFilename() == null) {
+                    continue;
+                }
+
+                String filename = part.getFilename();
+                InputStream body = part.getInputStream();
+                FileCheckResultDto result = fileCheckService.check(filename, body);
+                if (result.isBlocked()) {
+                    log.debug("스트리밍 검사 차단, 남은 본문 수신 중단: {} (수신 {} bytes)", filename, reader.getBytesRead());
+                    // 남은 본문은 받지 않고 연결을 닫음
+                    response.setHeader(HttpHeaders.CONNECTION, "close");
+                    write(response, HttpStatus.OK, ApiResponse.success(true));
+                    return;
+                }
+
+                // 검사에 쓰이지 않은 나머지 본문을 흘려 읽음 (빈 파일 판단 포함)
+                discard(body);
+                if (part.getBodySize() == 0) {
+                    write(response, HttpStatus.BAD_REQUEST, ApiResponse.error("파일을 선택해주세요."));
+                    return;
+                }
+                write(response, HttpStatus.OK, ApiResponse.success(false));
+                return;
+            }
+
+            write(response, HttpStatus.BAD_REQUEST, ApiResponse.error("파일을 선택해주세요."));
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("multipart 스트리밍 처리 실패: {}", e.getMessage());
+            response.setHeader(HttpHeaders.CONNECTION, "close");
+            write(response, HttpStatus.BAD_REQUEST, ApiResponse.error("파일 확장자 확인 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    private long discard(InputStream body) throws IOException {
+        byte[] chunk = new byte[8192];
+        long total = 0;
+        int read;
+        while ((read = body.read(chunk)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+    private void write(HttpServletResponse response, HttpStatus status, ApiResponse<?> body) throws IOException {
+        if (response.isCommitted()) {
+            return;
+        }
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,125 @@
+package com.flow.fileextension.global.metrics;
+
+import com.flow.fileextension.domain.extension.policy.BlockPolicyHolder;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 검사 지표
+ * 검사마다 호출되므로 미터는 미리 만들어 두고, 확장자 태그 카운터만 처음 보는 확장자일 때 한 번 등록한다.
+ * 확장자 태그 값은 max-extension-tags 개까지만 만들고 나머지는 "other"로 묶어 시계열 수를 제한한다.
+ *
+ * <pre>
+ * file.check              검사 1건 지연 (outcome=allowed|blocked, 히스토그램)
+ * file.check.verdicts     판정 수 (outcome, extension=차단 확장자|none|other)
+ * file.check.batch        파일명 일괄 검사 요청 지연
+ * file.check.batch.size   파일명 일괄 검사 요청당 이름 수
+ * block.policy.version    현재 차단 정책 버전
+ * </pre>
+ */
+@Component
+public class FileCheckMetrics {
+
+    static final String NONE = "none";
+    static final String OTHER = "other";
+
+    private final MeterRegistry registry;
+    private final int maxExtensionTags;
+
+    private final Timer allowedTimer;
+    private final Timer blockedTimer;
+    private final Counter allowedVerdicts;
+    private final Counter otherBlockedVerdicts;
+    private final Map<String, Counter> blockedVerdicts = new ConcurrentHashMap<>();
+    private final Timer batchTimer;
+    private final DistributionSummary batchSize;
+
+    public FileCheckMetrics(MeterRegistry registry, BlockPolicyHolder blockPolicyHolder,
+                            @Value("${file-check.metrics.max-extension-tags:50}") int maxExtensionTags) {
+        this.registry = registry;
+        this.maxExtensionTags = maxExtensionTags;
+
+        this.allowedTimer = checkTimer("allowed");
+        this.blockedTimer = checkTimer("blocked");
+        this.allowedVerdicts = verdictCounter("allowed", NONE);
+        this.otherBlockedVerdicts = verdictCounter("blocked", OTHER);
+        this.batchTimer = Timer.builder("file.check.batch")
+                .description("파일명 일괄 검사 요청 처리 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        this.batchSize = DistributionSummary.builder("file.check.batch.size")
+                .description("파일명 일괄 검사 요청당 파일명 수")
+                .register(registry);
+
+        Gauge.builder("block.policy.version", blockPolicyHolder, BlockPolicyHolder::currentVersion)
+                .description("현재 차단 정책 버전 (확장자 변경이 커밋될 때마다 증가)")
+                .register(registry);
+    }
+
+    /**
+     * 파일 1건 검사 결과와 소요 시간 기록
+     */
+    public void recordCheck(FileCheckResultDto result, long elapsedNanos) {
+        (result.isBlocked() ? blockedTimer : allowedTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        recordVerdict(result);
+    }
+
+    /**
+     * 파일명 일괄 검사 기록 (판정은 이름별로, 시간은 요청 단위로)
+     */
+    public void recordBatch(List<FileCheckResultDto> results, long elapsedNanos) {
+        batchTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        batchSize.record(results.size());
+        for (FileCheckResultDto result : results) {
+            recordVerdict(result);
+        }
+    }
+
+    private void recordVerdict(FileCheckResultDto result) {
+        if (!result.isBlocked()) {
+            allowedVerdicts.increment();
+            return;
+        }
+        blockedCounter(result.getMatchedExtension()).increment();
+    }
+
+    private Counter blockedCounter(String extension) {
+        String tag = extension != null ? extension : NONE;
+        Counter counter = blockedVerdicts.get(tag);
+        if (counter != null) {
+            return counter;
+        }
+        // 한도를 넘으면 새 태그를 만들지 않음 (동시에 등록되어 한도를 조금 넘는 것은 허용)
+        if (blockedVerdicts.size() >= maxExtensionTags) {
+            return otherBlockedVerdicts;
+        }
+        return blockedVerdicts.computeIfAbsent(tag, key -> verdictCounter("blocked", key));
+    }
+
+    private Timer checkTimer(String outcome) {
+        return Timer.builder("file.check")
+                .description("파일 1건 검사 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private Counter verdictCounter(String outcome, String extension) {
+        return Counter.builder("file.check.verdicts")
+                .description("파일 검사 판정 수")
+                .tag("outcome", outcome)
+                .tag("extension", extension)
+                .register(registry);
+    }
+}
@@ -0,0 +1,289 @@
+package com.flow.fileextension.global.multipart;
+
+import org.springframework.http.ContentDisposition;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * multipart/form-data 본문을 스트리밍으로 읽는 파서
+ * 파트 헤더만 고정 크기 버퍼에서 해석하고, 파트 본문은 호출자가 읽는 만큼만 소비한다.
+ * 메모리 사용량은 요청 크기와 관계없이 버퍼 크기(16KB)로 제한되고 임시 파일을 만들지 않는다.
+ */
+public class StreamingMultipartReader {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_HEADER_SIZE = 8 * 1024;
+    private static final byte[] HEADER_END = {'\r', '\n', '\r', '\n'};
+
+    private final InputStream in;
+    private final byte[] delimiter;
+    private final byte[] buffer;
+    private int head;
+    private int tail;
+
+    private boolean inBody = true;
+    private boolean finished;
+    private long bytesRead;
+    private long bodySize;
+
+    public StreamingMultipartReader(InputStream in, String boundary) {
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            throw new IllegalArgumentException("multipart boundary가 올바르지 않습니다");
+        }
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        this.buffer = new byte[BUFFER_SIZE];
+
+        // 첫 경계 앞에는 CRLF가 없으므로 가상으로 붙여 모든 경계를 같은 방식으로 찾는다
+        buffer[0] = '\r';
+        buffer[1] = '\n';
+        this.tail = 2;
+    }
+
+    /**
+     * Content-Type 헤더에서 boundary 추출
+     * @return boundary, multipart/form-data가 아니면 null
+     */
+    public static String extractBoundary(String contentType) {
+        if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/form-data")) {
+            return null;
+        }
+        for (String param : contentType.split(";")) {
+            String trimmed = param.trim();
+            if (trimmed.regionMatches(true, 0, "boundary=", 0, 9)) {
+                String boundary = trimmed.substring(9);
+                if (boundary.length() >= 2 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+                    boundary = boundary.substring(1, boundary.length() - 1);
+                }
+                return boundary;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 다음 파트로 이동 (현재 파트의 남은 본문은 읽어서 버림)
+     * @return 다음 파트, 마지막 경계에 도달하면 null
+     */
+    public Part nextPart() throws IOException {
+        while (inBody) {
+            skipBody();
+        }
+        if (finished) {
+            return null;
+        }
+
+        Map<String, String> headers = readHeaders();
+        inBody = true;
+        bodySize = 0;
+        return new Part(headers);
+    }
+
+    /**
+     * 지금까지 입력 스트림에서 읽은 바이트 수
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    private void skipBody() throws IOException {
+        while (true) {
+            int index = indexOf(delimiter, head, tail);
+            if (index >= 0) {
+                head = index;
+                readBody(null, 0, 0);
+                return;
+            }
+            head = Math.max(head, tail - (delimiter.length - 1));
+            if (!fill()) {
+                throw new EOFException("multipart 본문이 마지막 경계 없이 끝났습니다");
+            }
+        }
+    }
+
+    private int readBody(byte[] target, int offset, int length) throws IOException {
+        if (!inBody) {
+            return -1;
+        }
+        while (true) {
+            int index = indexOf(delimiter, head, tail);
+            int available = (index >= 0 ? index : tail - (delimiter.length - 1)) - head;
+
+            if (available > 0 && length > 0) {
+                int count = Math.min(length, available);
+                System.arraycopy(buffer, head, target, offset, count);
+                head += count;
+                bodySize += count;
+                return count;
+            }
+            if (index == head) {
+                head += delimiter.length;
+                inBody = false;
+                consumeDelimiterSuffix();
+                return -1;
+            }
+            if (index < 0 && !fill()) {
+                throw new EOFException("multipart 본문이 마지막 경계 없이 끝났습니다");
+            }
+        }
+    }
+
+    private void consumeDelimiterSuffix() throws IOException {
+        ensure(2);
+        if (buffer[head] == '-' && buffer[head + 1] == '-') {
+            head += 2;
+            finished = true;
+            return;
+        }
+
+        // 경계 뒤의 공백(transport padding)은 무시하고 CRLF까지 건너뜀
+        while (true) {
+            ensure(2);
+            if (buffer[head] == '\r' && buffer[head + 1] == '\n') {
+                head += 2;
+                return;
+            }
+            if (buffer[head] != ' ' && buffer[head] != '\t') {
+                throw new IOException("multipart 경계 형식이 올바르지 않습니다");
+            }
+            head++;
+        }
+    }
+
+    private Map<String, String> readHeaders() throws IOException {
+        ensure(2);
+        if (buffer[head] == '\r' && buffer[head + 1] == '\n') {
+            head += 2;
+            return Map.of();
+        }
+
+        int end;
+        while ((end = indexOf(HEADER_END, head, tail)) < 0) {
+            if (tail - head >= MAX_HEADER_SIZE) {
+                throw new IOException("multipart 파트 헤더가 너무 큽니다");
+            }
+            if (!fill()) {
+                throw new EOFException("multipart 파트 헤더가 끝나지 않았습니다");
+            }
+        }
+
+        String block = new String(buffer, head, end - head, StandardCharsets.UTF_8);
+        head = end + HEADER_END.length;
+
+        Map<String, String> headers = new HashMap<>();
+        for (String line : block.split("\r\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.put(line.substring(0, colon).trim().toLowerCase(Locale.ROOT), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private void ensure(int count) throws IOException {
+        while (tail - head < count) {
+            if (!fill()) {
+                throw new EOFException("multipart 본문이 예상보다 일찍 끝났습니다");
+            }
+        }
+    }
+
+    /**
+     * 남은 데이터를 버퍼 앞으로 옮기고 입력 스트림에서 더 읽음
+     * @return 입력이 끝났으면 false
+     */
+    private boolean fill() throws IOException {
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        if (tail == buffer.length) {
+            return true;
+        }
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            return false;
+        }
+        tail += read;
+        bytesRead += read;
+        return true;
+    }
+
+    private int indexOf(byte[] pattern, int from, int to) {
+        int last = to - pattern.length;
+        outer:
+        for (int i = from; i <= last; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (buffer[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * multipart 파트 하나
+     * 본문은 {@link #getInputStream()}으로 한 번만 순서대로 읽을 수 있다.
+     */
+    public class Part {
+
+        private final Map<String, String> headers;
+        private final ContentDisposition contentDisposition;
+
+        private Part(Map<String, String> headers) {
+            this.headers = headers;
+            String disposition = headers.get("content-disposition");
+            this.contentDisposition = disposition != null ? ContentDisposition.parse(disposition) : ContentDisposition.empty();
+        }
+
+        public String getName() {
+            return contentDisposition.getName();
+        }
+
+        /**
+         * 업로드 파일명 (파일 파트가 아니면 null)
+         */
+        public String getFilename() {
+            return contentDisposition.getFilename();
+        }
+
+        /**
+         * 지금까지 읽은 본문 바이트 수 (본문을 끝까지 읽은 뒤에는 파트 전체 크기)
+         */
+        public long getBodySize() {
+            return bodySize;
+        }
+
+        public String getHeader(String name) {
+            return headers.get(name.toLowerCase(Locale.ROOT));
+        }
+
+        public InputStream getInputStream() {
+            return new InputStream() {
+                @Override
+                public int read() throws IOException {
+                    byte[] single = new byte[1];
+                    int count = read(single, 0, 1);
+                    return count < 0 ? -1 : single[0] & 0xFF;
+                }
+
+                @Override
+                public int read(byte[] target, int offset, int length) throws IOException {
+                    if (length == 0) {
+                        return 0;
+                    }
+                    return readBody(target, offset, length);
+                }
+            };
+        }
+    }
+}
@@ -17,4 +17,9 @@ public class ApiResponse<T> {
     public static <T> ApiResponse<T> error(String message) {
         return new ApiResponse<>(false, message, null);
     }
+
+    // 실패 응답에 현재 상태 등 참고 데이터를 함께 담을 때 (예: 409 충돌)
+    public static <T> ApiResponse<T> error(String message, T data) {
+        return new ApiResponse<>(false, message, data);
+    }
 }
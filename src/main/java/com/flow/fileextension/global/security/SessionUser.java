@@ -2,6 +2,8 @@ package com.flow.fileextension.global.security;
 
 import com.flow.fileextension.domain.user.entity.User;
 import lombok.Getter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.io.Serializable;
 
@@ -11,11 +13,26 @@ public class SessionUser implements Serializable {
     private String name;
     private String email;
     private String picture;
+    private Long tenantId;
 
     public SessionUser(User user) {
         this.id = user.getId();
         this.name = user.getName();
         this.email = user.getEmail();
         this.picture = user.getProfileImage();
+        this.tenantId = user.getTenantId();
+    }
+
+    /**
+     * 현재 요청 세션의 로그인 사용자 (요청 밖이거나 비로그인이면 null, 세션을 새로 만들지 않음)
+     */
+    public static SessionUser current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        return attributes.getAttribute("user", RequestAttributes.SCOPE_SESSION) instanceof SessionUser sessionUser
+                ? sessionUser
+                : null;
     }
 }
@@ -0,0 +1,166 @@
+package com.flow.fileextension.global.util;
+
+import java.util.Collection;
+
+/**
+ * 확장자 집합을 컴파일한 조회 테이블
+ * 문자 배열의 일부 구간을 String으로 만들지 않고 바로 조회할 수 있도록 개방 주소법 해시 테이블로 구성한다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드가 공유해도 안전하다.
+ */
+public final class ExtensionMatcher {
+
+    private static final ExtensionMatcher EMPTY = new ExtensionMatcher(new String[0]);
+
+    private final String[] keys;
+    private final char[][] keyChars;
+    private final int[] table;
+    private final int mask;
+    private final int maxLength;
+
+    private ExtensionMatcher(String[] keys) {
+        this.keys = keys;
+        this.keyChars = new char[keys.length][];
+
+        int capacity = Integer.highestOneBit(Math.max(keys.length, 1) * 4 - 1) << 1;
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+
+        int longest = 0;
+        for (int i = 0; i < keys.length; i++) {
+            char[] chars = keys[i].toCharArray();
+            keyChars[i] = chars;
+            longest = Math.max(longest, chars.length);
+
+            int slot = hash(chars, 0, chars.length) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+        this.maxLength = longest;
+    }
+
+    /**
+     * 정규화된(소문자, 공백 없음) 확장자 목록으로 생성
+     */
+    public static ExtensionMatcher of(Collection<String> extensions) {
+        if (extensions == null || extensions.isEmpty()) {
+            return EMPTY;
+        }
+        return new ExtensionMatcher(extensions.stream().distinct().toArray(String[]::new));
+    }
+
+    /**
+     * buffer[offset, offset + length) 구간과 일치하는 확장자 조회
+     * @return 일치하는 확장자, 없으면 null
+     */
+    public String match(char[] buffer, int offset, int length) {
+        int index = indexOf(buffer, offset, length);
+        return index >= 0 ? keys[index] : null;
+    }
+
+    /**
+     * buffer[offset, offset + length) 구간과 일치하는 확장자의 위치 (생성 시 넘긴 목록 순서 기준)
+     * @return 일치하는 확장자의 위치, 없으면 -1
+     */
+    public int indexOf(char[] buffer, int offset, int length) {
+        if (length == 0 || length > maxLength) {
+            return -1;
+        }
+
+        int slot = hash(buffer, offset, length) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            char[] key = keyChars[entry - 1];
+            if (regionEquals(key, buffer, offset, length)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * s[from, to) 구간을 소문자로 바꾼 값과 일치하는 확장자의 위치 (구간을 복사하지 않고 바로 조회)
+     * ASCII는 로케일과 무관하게 소문자로 바꾸고, 그 외 문자는 {@link Character#toLowerCase(char)}를 따른다.
+     * @return 일치하는 확장자의 위치, 없으면 -1
+     */
+    public int indexOfIgnoreCase(CharSequence s, int from, int to) {
+        int length = to - from;
+        if (length == 0 || length > maxLength) {
+            return -1;
+        }
+
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + toLowerCase(s.charAt(i));
+        }
+        int slot = (h ^ (h >>> 16)) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            char[] key = keyChars[entry - 1];
+            if (regionEqualsIgnoreCase(key, s, from, length)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * 위치에 해당하는 확장자
+     */
+    public String key(int index) {
+        return keys[index];
+    }
+
+    /**
+     * 등록된 확장자 중 가장 긴 길이 (이보다 긴 구간은 조회하지 않아도 됨)
+     */
+    public int maxLength() {
+        return maxLength;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    private static boolean regionEquals(char[] key, char[] buffer, int offset, int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionEqualsIgnoreCase(char[] key, CharSequence s, int from, int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != toLowerCase(s.charAt(from + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toLowerCase(char c) {
+        if (c < 0x80) {
+            return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(c);
+    }
+
+    private static int hash(char[] chars, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + chars[i];
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -3,6 +3,8 @@ package com.flow.fileextension.global.util;
 import com.flow.fileextension.global.constants.ErrorMessages;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -49,17 +51,8 @@ public class ExtensionValidator {
             return false;
         }
         
-        // 파일명을 점으로 분리
-        String[] parts = filename.toLowerCase().split("\\.");
-        
-        // 첫 번째 요소(파일명)를 제외하고 모든 확장자 검사
-        for (int i = 1; i < parts.length; i++) {
-            if (blockedExtensions.contains(parts[i])) {
-                return true;
-            }
-        }
-        
-        return false;
+        // 첫 번째 구간(파일명)을 제외한 모든 확장자를 한 번에 훑으며 검사
+        return FilenameScanner.findFirst(filename, ExtensionMatcher.of(blockedExtensions)) != null;
     }
     
     /**
@@ -131,16 +124,29 @@ public class ExtensionValidator {
             return new String[0];
         }
         
-        String[] parts = filename.split("\\.");
-        if (parts.length <= 1) {
+        int firstDot = filename.indexOf('.');
+        if (firstDot < 0) {
             return new String[0];
         }
         
-        // 첫 번째 요소는 파일명이므로 제외
-        String[] extensions = new String[parts.length - 1];
-        System.arraycopy(parts, 1, extensions, 0, extensions.length);
+        // 첫 번째 점 앞은 파일명이므로 제외, 뒤쪽의 빈 구간은 split과 동일하게 버림
+        List<String> extensions = new ArrayList<>();
+        int lastNonEmpty = 0;
+        int start = firstDot + 1;
+        while (true) {
+            int end = filename.indexOf('.', start);
+            String part = filename.substring(start, end < 0 ? filename.length() : end);
+            extensions.add(part);
+            if (!part.isEmpty()) {
+                lastNonEmpty = extensions.size();
+            }
+            if (end < 0) {
+                break;
+            }
+            start = end + 1;
+        }
         
-        return extensions;
+        return extensions.subList(0, lastNonEmpty).toArray(new String[0]);
     }
     
     /**
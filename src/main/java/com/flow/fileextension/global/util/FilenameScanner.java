@@ -0,0 +1,84 @@
+package com.flow.fileextension.global.util;
+
+import java.util.function.IntPredicate;
+
+/**
+ * 파일명을 한 번만 훑으면서 확장자 구간을 찾아 바로 {@link ExtensionMatcher}에 조회하는 스캐너
+ * split, toLowerCase, trim 없이 구간 경계만 찾아 파일명 위에서 바로 대소문자 무시 조회하므로,
+ * 플랫폼 스레드든 가상 스레드든 검사 중 객체(버퍼 포함)를 생성하지 않는다.
+ *
+ * <p>구간 규칙은 {@link ExtensionValidator#extractAllExtensions(String)} + {@link ExtensionValidator#normalize(String)}와 같다.
+ * 첫 번째 점 앞은 파일명으로 보고 제외하며, 각 구간은 앞뒤 공백을 제거하고 소문자로 비교한다.
+ * 대소문자 규칙은 {@link ExtensionMatcher#indexOfIgnoreCase(CharSequence, int, int)}를 따른다.
+ */
+public final class FilenameScanner {
+
+    private static final IntPredicate ACCEPT_ALL = index -> true;
+
+    /**
+     * 파일명의 확장자 구간 중 처음으로 일치하는 확장자 반환
+     * @return 일치하는 확장자, 없으면 null
+     */
+    public static String findFirst(CharSequence filename, ExtensionMatcher matcher) {
+        int index = findFirstIndex(filename, matcher, ACCEPT_ALL);
+        return index >= 0 ? matcher.key(index) : null;
+    }
+
+    /**
+     * 파일명의 확장자 구간 중 matcher 에 있고 accept 를 만족하는 첫 확장자의 위치
+     * (예: 카탈로그 id 로 조회한 뒤 정책 비트셋으로 차단 여부 확인)
+     * @return 확장자 위치 ({@link ExtensionMatcher#key(int)}), 없으면 -1
+     */
+    public static int findFirstIndex(CharSequence filename, ExtensionMatcher matcher, IntPredicate accept) {
+        if (filename == null || matcher == null || matcher.isEmpty()) {
+            return -1;
+        }
+
+        int length = filename.length();
+        int position = indexOfDot(filename, 0, length);
+        if (position < 0) {
+            return -1;
+        }
+
+        while (position < length) {
+            int i = position + 1;
+            // 앞뒤 공백을 뺀 구간 [start, end), 중간 공백은 그대로 비교
+            int start = -1;
+            int end = i;
+            for (; i < length; i++) {
+                char c = filename.charAt(i);
+                if (c == '.') {
+                    break;
+                }
+                if (c > ' ') {
+                    if (start < 0) {
+                        start = i;
+                    }
+                    end = i + 1;
+                }
+            }
+
+            if (start >= 0) {
+                int index = matcher.indexOfIgnoreCase(filename, start, end);
+                if (index >= 0 && accept.test(index)) {
+                    return index;
+                }
+            }
+            position = i;
+        }
+        return -1;
+    }
+
+    private static int indexOfDot(CharSequence s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (s.charAt(i) == '.') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private FilenameScanner() {
+        throw new AssertionError("유틸리티 클래스는 인스턴스화할 수 없습니다");
+    }
+}
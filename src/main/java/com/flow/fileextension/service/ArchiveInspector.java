@@ -0,0 +1,257 @@
+package com.flow.fileextension.service;
+
+import com.flow.fileextension.domain.extension.policy.BlockPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+/**
+ * ZIP 계열(zip, jar, war, docx 등) 업로드를 디스크에 풀지 않고 스트림으로 훑어 내부 항목을 검사
+ * 각 항목의 이름과 앞부분 내용을 같은 차단 정책으로 검사하고, 중첩 압축은 max-depth까지 재귀적으로 연다.
+ * 항목 수, 압축률, 총 해제 크기 한도를 넘으면 압축 폭탄으로 보고 차단한다.
+ * ZIP 구조가 깨져 끝까지 훑을 수 없는 파일은 block-unparseable 설정에 따라 차단(기본)하거나 통과시킨다.
+ */
+@Component
+public class ArchiveInspector {
+
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 3, 4};
+    private static final byte[] EMPTY_ZIP_MAGIC = {'P', 'K', 5, 6};
+
+    // UTF-8 플래그가 없는 항목 이름(예: CP949 압축 파일)도 예외 없이 읽기 위한 대체 문자셋 (확장자는 ASCII이므로 판정에 영향 없음)
+    private static final Charset FALLBACK_ENTRY_CHARSET = StandardCharsets.ISO_8859_1;
+
+    // 작은 파일의 압축률 오탐을 막기 위해 이 크기 이상 해제된 후부터 압축률을 검사
+    private static final long RATIO_CHECK_THRESHOLD = 1024 * 1024;
+
+    private final ContentSignatureInspector contentSignatureInspector;
+    private final boolean enabled;
+    private final int maxDepth;
+    private final int maxEntries;
+    private final int maxCompressionRatio;
+    private final long maxTotalBytes;
+    private final boolean blockUnparseable;
+
+    public ArchiveInspector(
+            ContentSignatureInspector contentSignatureInspector,
+            @Value("${file-check.archive.enabled:false}") boolean enabled,
+            @Value("${file-check.archive.max-depth:3}") int maxDepth,
+            @Value("${file-check.archive.max-entries:10000}") int maxEntries,
+            @Value("${file-check.archive.max-compression-ratio:100}") int maxCompressionRatio,
+            @Value("${file-check.archive.max-total-bytes:1073741824}") long maxTotalBytes,
+            @Value("${file-check.archive.block-unparseable:true}") boolean blockUnparseable) {
+        this.contentSignatureInspector = contentSignatureInspector;
+        this.enabled = enabled;
+        this.maxDepth = maxDepth;
+        this.maxEntries = maxEntries;
+        this.maxCompressionRatio = maxCompressionRatio;
+        this.maxTotalBytes = maxTotalBytes;
+        this.blockUnparseable = blockUnparseable;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 앞부분 바이트가 ZIP 로컬 파일 헤더(또는 빈 ZIP)인지 확인
+     */
+    public static boolean isZip(byte[] head, int length) {
+        return startsWith(head, length, ZIP_MAGIC) || startsWith(head, length, EMPTY_ZIP_MAGIC);
+    }
+
+    /**
+     * ZIP 스트림의 모든 항목 검사 (스트림은 닫지 않음)
+     * @return 차단 사유가 된 항목, 문제가 없으면 null (해석할 수 없는 파일은 block-unparseable 이 false 일 때만 null)
+     */
+    public ArchiveScanResult scan(InputStream in, BlockPolicy policy) throws IOException {
+        ScanContext context = new ScanContext(in);
+        try {
+            return scanZip(new ZipInputStream(context.raw, FALLBACK_ENTRY_CHARSET), "", 1, policy, context);
+        } catch (LimitExceededException e) {
+            return ArchiveScanResult.limitExceeded(context.currentEntry, e.getMessage());
+        } catch (ZipException | EOFException e) {
+            // 손상되거나 잘린 ZIP: 남은 항목을 확인할 수 없으므로 설정에 따라 차단하거나 통과
+            return blockUnparseable ? ArchiveScanResult.unparseable(context.currentEntry, e.getMessage()) : null;
+        }
+    }
+
+    private ArchiveScanResult scanZip(ZipInputStream zip, String pathPrefix, int depth,
+                                      BlockPolicy policy, ScanContext context) throws IOException {
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            String entryPath = pathPrefix + entry.getName();
+            context.currentEntry = entryPath;
+
+            if (++context.entryCount > maxEntries) {
+                throw new LimitExceededException("압축 파일 항목 수 한도를 초과했습니다 (최대 " + maxEntries + "개)");
+            }
+            if (entry.isDirectory()) {
+                continue;
+            }
+
+            String blockedExtension = policy.findBlockedExtension(basename(entry.getName()));
+            if (blockedExtension != null) {
+                return ArchiveScanResult.blocked(entryPath, blockedExtension);
+            }
+
+            InputStream entryStream = new LimitedEntryStream(zip, context);
+            byte[] head = entryStream.readNBytes(contentSignatureInspector.getMaxBytes());
+
+            ContentSignature signature = contentSignatureInspector.detect(head, head.length);
+            if (signature != null) {
+                String blockedContentExtension = policy.findFirstBlocked(signature.getExtensions());
+                if (blockedContentExtension != null) {
+                    return ArchiveScanResult.blocked(entryPath, blockedContentExtension);
+                }
+            }
+
+            if (isZip(head, head.length)) {
+                if (depth >= maxDepth) {
+                    throw new LimitExceededException("중첩 압축 깊이 한도를 초과했습니다 (최대 " + maxDepth + "단계)");
+                }
+                InputStream nestedStream = new SequenceInputStream(new ByteArrayInputStream(head), entryStream);
+                ArchiveScanResult nested = scanZip(new ZipInputStream(nestedStream, FALLBACK_ENTRY_CHARSET),
+                        entryPath + "!/", depth + 1, policy, context);
+                if (nested != null) {
+                    return nested;
+                }
+            }
+
+            // 나머지 내용은 메모리에 담지 않고 한도만 확인하며 흘려 읽음
+            entryStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return null;
+    }
+
+    private static String basename(String entryName) {
+        return entryName.substring(entryName.lastIndexOf('/') + 1);
+    }
+
+    private static boolean startsWith(byte[] head, int length, byte[] magic) {
+        if (length < magic.length) {
+            return false;
+        }
+        for (int i = 0; i < magic.length; i++) {
+            if (head[i] != magic[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 한 번의 검사 전체(중첩 포함)에 걸친 누적 한도 상태
+     */
+    private class ScanContext {
+
+        private final CountingInputStream raw;
+        private long decompressedBytes;
+        private int entryCount;
+        private String currentEntry;
+
+        ScanContext(InputStream in) {
+            this.raw = new CountingInputStream(in);
+        }
+
+        void addDecompressed(long count) throws LimitExceededException {
+            decompressedBytes += count;
+            if (decompressedBytes > maxTotalBytes) {
+                throw new LimitExceededException("압축 해제 크기 한도를 초과했습니다 (최대 " + maxTotalBytes + " bytes)");
+            }
+            if (decompressedBytes > RATIO_CHECK_THRESHOLD
+                    && decompressedBytes > (long) maxCompressionRatio * Math.max(raw.count, 1)) {
+                throw new LimitExceededException("압축률 한도를 초과했습니다 (최대 " + maxCompressionRatio + ":1)");
+            }
+        }
+    }
+
+    /**
+     * 현재 항목의 해제된 바이트를 세면서 한도를 확인하는 스트림 (닫아도 ZIP 스트림은 닫지 않음)
+     */
+    private static class LimitedEntryStream extends FilterInputStream {
+
+        private final ScanContext context;
+
+        LimitedEntryStream(ZipInputStream zip, ScanContext context) {
+            super(zip);
+            this.context = context;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                context.addDecompressed(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                context.addDecompressed(read);
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // 항목 스트림을 닫아도 바깥 ZIP 스트림은 계속 읽어야 함
+        }
+    }
+
+    /**
+     * 압축된 원본에서 실제로 읽은 바이트 수 (압축률 계산용)
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+            // 업로드 스트림은 호출자가 닫음
+        }
+    }
+
+    private static class LimitExceededException extends IOException {
+
+        LimitExceededException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.flow.fileextension.service;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 압축 파일 검사에서 차단 사유가 된 내부 항목
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ArchiveScanResult {
+
+    public enum Kind {
+        // 내부 항목이 차단 확장자
+        BLOCKED,
+        // 항목 수, 압축률, 해제 크기, 중첩 깊이 한도 초과
+        LIMIT_EXCEEDED,
+        // ZIP 구조가 깨져 끝까지 검사할 수 없음
+        UNPARSEABLE
+    }
+
+    private final Kind kind;
+
+    // 내부 항목 경로 (중첩 압축은 outer.zip!/inner.zip!/payload.exe 형식)
+    private final String entry;
+
+    // 차단된 확장자 (한도 초과, 해석 불가로 차단된 경우 null)
+    private final String matchedExtension;
+
+    private final String reason;
+
+    public static ArchiveScanResult blocked(String entry, String matchedExtension) {
+        return new ArchiveScanResult(Kind.BLOCKED, entry, matchedExtension, "압축 파일 내부에 차단된 확장자가 있습니다");
+    }
+
+    public static ArchiveScanResult limitExceeded(String entry, String reason) {
+        return new ArchiveScanResult(Kind.LIMIT_EXCEEDED, entry, null, reason);
+    }
+
+    public static ArchiveScanResult unparseable(String entry, String detail) {
+        return new ArchiveScanResult(Kind.UNPARSEABLE, entry, null, "압축 파일을 해석할 수 없습니다: " + detail);
+    }
+}
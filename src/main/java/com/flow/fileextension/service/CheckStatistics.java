@@ -0,0 +1,195 @@
+package com.flow.fileextension.service;
+
+import com.flow.fileextension.dto.CheckStatsDto;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근 1분 / 1시간 / 24시간 검사 통계 (판정별, 차단 확장자별)
+ * 검사마다 호출되므로 잠금 없이 슬롯 CAS 로만 집계하며, 확장자별 카운터는 max-extensions 개까지만 만들고
+ * 나머지는 "other" 로 묶어 어떤 확장자가 들어와도 메모리 사용량이 일정하다.
+ * 24시간 동안 기록이 없는 확장자 카운터는 통계 조회 때 회수해, 한도 안의 슬롯을 새 확장자가 다시 쓸 수 있다.
+ */
+@Component
+public class CheckStatistics {
+
+    static final String NONE = "none";
+    static final String OTHER = "other";
+
+    public static final int MAX_TOP = 100;
+
+    private final int maxExtensions;
+    private final LongSupplier clock;
+
+    private final WindowedCounter allowed = new WindowedCounter();
+    private final WindowedCounter blocked = new WindowedCounter();
+    private final WindowedCounter otherBlocked = new WindowedCounter();
+    private final Map<String, WindowedCounter> blockedByExtension = new ConcurrentHashMap<>();
+
+    @Autowired
+    public CheckStatistics(@Value("${file-check.stats.max-extensions:256}") int maxExtensions) {
+        this(maxExtensions, System::currentTimeMillis);
+    }
+
+    CheckStatistics(int maxExtensions, LongSupplier clock) {
+        this.maxExtensions = maxExtensions;
+        this.clock = clock;
+    }
+
+    /**
+     * 검사 결과 1건 집계 (검사하지 않은 skipped 결과는 제외)
+     */
+    public void record(FileCheckResultDto result) {
+        if (Boolean.TRUE.equals(result.getSkipped())) {
+            return;
+        }
+        long now = clock.getAsLong();
+        if (!result.isBlocked()) {
+            allowed.increment(now);
+            return;
+        }
+        blocked.increment(now);
+        String key = result.getMatchedExtension() != null ? result.getMatchedExtension() : NONE;
+        // 회수된 카운터에 더한 건은 버리고 새 카운터에 다시 기록
+        while (!extensionCounter(key).increment(now)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * 윈도별 통계 (1m, 1h, 24h 순)
+     */
+    public List<CheckStatsDto> snapshot(int top) {
+        int limit = Math.max(1, Math.min(top, MAX_TOP));
+        long now = clock.getAsLong();
+        reclaimIdleCounters(now);
+        List<CheckStatsDto> windows = new ArrayList<>(StatsWindow.values().length);
+        for (StatsWindow window : StatsWindow.values()) {
+            windows.add(snapshot(window, limit, now));
+        }
+        return windows;
+    }
+
+    private CheckStatsDto snapshot(StatsWindow window, int limit, long now) {
+        long allowedCount = allowed.sum(window, now);
+        long blockedCount = blocked.sum(window, now);
+        double seconds = window.getSeconds();
+
+        // 상위 limit 개만 유지하는 최소 힙
+        PriorityQueue<CheckStatsDto.ExtensionCount> top =
+                new PriorityQueue<>(limit + 1, Comparator.comparingLong(CheckStatsDto.ExtensionCount::getCount));
+        blockedByExtension.forEach((extension, counter) -> offer(top, limit, extension, counter.sum(window, now), seconds));
+        offer(top, limit, OTHER, otherBlocked.sum(window, now), seconds);
+
+        List<CheckStatsDto.ExtensionCount> topBlocked = new ArrayList<>(top);
+        topBlocked.sort(Comparator.comparingLong(CheckStatsDto.ExtensionCount::getCount).reversed()
+                .thenComparing(CheckStatsDto.ExtensionCount::getExtension));
+
+        return CheckStatsDto.builder()
+                .window(window.getLabel())
+                .windowSeconds(window.getSeconds())
+                .total(allowedCount + blockedCount)
+                .allowed(allowedCount)
+                .blocked(blockedCount)
+                .checksPerSecond((allowedCount + blockedCount) / seconds)
+                .blockedPerSecond(blockedCount / seconds)
+                .topBlocked(topBlocked)
+                .build();
+    }
+
+    private static void offer(PriorityQueue<CheckStatsDto.ExtensionCount> top, int limit,
+                              String extension, long count, double seconds) {
+        if (count == 0) {
+            return;
+        }
+        top.offer(new CheckStatsDto.ExtensionCount(extension, count, count / seconds));
+        if (top.size() > limit) {
+            top.poll();
+        }
+    }
+
+    /**
+     * 24시간 합계가 0인 확장자 카운터 제거
+     */
+    private void reclaimIdleCounters(long now) {
+        blockedByExtension.forEach((extension, counter) -> {
+            if (counter.retireIfIdle(now)) {
+                blockedByExtension.remove(extension, counter);
+            }
+        });
+    }
+
+    private WindowedCounter extensionCounter(String key) {
+        WindowedCounter counter = blockedByExtension.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        // 한도를 넘으면 새 카운터를 만들지 않음 (동시에 등록되어 한도를 조금 넘는 것은 허용)
+        if (blockedByExtension.size() >= maxExtensions) {
+            return otherBlocked;
+        }
+        return blockedByExtension.computeIfAbsent(key, ignored -> new WindowedCounter());
+    }
+
+    /**
+     * 윈도마다 하나씩 둔 슬라이딩 윈도 카운터 묶음
+     * 회수는 RETIRING 으로 바꾼 뒤 합계를 보므로, 증가 후 상태를 읽는 record 와 둘 중 하나는 반드시 상대를 본다.
+     */
+    private static final class WindowedCounter {
+
+        private static final int ACTIVE = 0;
+        private static final int RETIRING = 1;
+        private static final int RETIRED = 2;
+
+        private final Map<StatsWindow, SlidingWindowCounter> counters = new EnumMap<>(StatsWindow.class);
+        private final AtomicInteger state = new AtomicInteger(ACTIVE);
+
+        WindowedCounter() {
+            for (StatsWindow window : StatsWindow.values()) {
+                counters.put(window, new SlidingWindowCounter(window.getBuckets(), window.getBucketMillis()));
+            }
+        }
+
+        /**
+         * @return 회수된 카운터라 기록이 반영되지 않았으면 false
+         */
+        boolean increment(long now) {
+            for (SlidingWindowCounter counter : counters.values()) {
+                counter.increment(now);
+            }
+            int current;
+            while ((current = state.get()) == RETIRING) {
+                Thread.onSpinWait();
+            }
+            return current == ACTIVE;
+        }
+
+        /**
+         * 24시간 합계가 0이면 회수 상태로 바꿈 (이후 increment 는 false)
+         */
+        boolean retireIfIdle(long now) {
+            if (!state.compareAndSet(ACTIVE, RETIRING)) {
+                return false;
+            }
+            boolean idle = sum(StatsWindow.DAY, now) == 0;
+            state.set(idle ? RETIRED : ACTIVE);
+            return idle;
+        }
+
+        long sum(StatsWindow window, long now) {
+            return counters.get(window).sum(now);
+        }
+    }
+}
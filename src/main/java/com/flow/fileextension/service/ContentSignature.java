@@ -0,0 +1,34 @@
+package com.flow.fileextension.service;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 파일 내용(매직 바이트)으로 판별한 실행 가능 파일 유형
+ * 각 유형은 해당 형식이 보통 사용하는 확장자 목록에 대응되며, 그중 하나라도 차단되어 있으면 파일을 차단한다.
+ */
+@Getter
+public enum ContentSignature {
+
+    PE_EXECUTABLE("Windows PE 실행 파일", "exe", "dll", "sys", "scr", "cpl", "com"),
+    ELF("ELF 실행 파일", "elf", "so", "bin", "out"),
+    MACH_O("Mach-O 실행 파일", "macho", "dylib", "bundle"),
+    SHELL_SCRIPT("셸 스크립트", "sh", "bash", "zsh"),
+    PYTHON_SCRIPT("Python 스크립트", "py"),
+    PERL_SCRIPT("Perl 스크립트", "pl"),
+    NODE_SCRIPT("Node.js 스크립트", "js"),
+    RUBY_SCRIPT("Ruby 스크립트", "rb"),
+    PHP_SCRIPT("PHP 스크립트", "php"),
+    WINDOWS_INSTALLER("Windows Installer 패키지", "msi"),
+    CABINET("Microsoft Cabinet 압축 파일", "cab"),
+    WINDOWS_SHORTCUT("Windows 바로가기", "lnk");
+
+    private final String description;
+    private final List<String> extensions;
+
+    ContentSignature(String description, String... extensions) {
+        this.description = description;
+        this.extensions = List.of(extensions);
+    }
+}
@@ -0,0 +1,215 @@
+package com.flow.fileextension.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 업로드 파일의 앞부분 바이트로 실제 형식을 판별하는 검사기
+ * 검사 1회당 최대 max-bytes 만큼만 읽으므로 파일 크기와 관계없이 비용이 일정하다.
+ * 파일 전체(MultipartFile.getBytes())는 읽지 않는다.
+ */
+@Component
+public class ContentSignatureInspector {
+
+    private static final byte[] MZ = {'M', 'Z'};
+    private static final byte[] PE = {'P', 'E', 0, 0};
+    private static final byte[] ELF_MAGIC = {0x7F, 'E', 'L', 'F'};
+    private static final byte[] SHEBANG = {'#', '!'};
+    private static final byte[] CAB_MAGIC = {'M', 'S', 'C', 'F', 0, 0, 0, 0};
+    private static final byte[] LNK_MAGIC = {0x4C, 0, 0, 0, 0x01, 0x14, 0x02, 0x00};
+    private static final byte[] CFB_MAGIC = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+    // MSI 루트 저장소 CLSID {000C1084-0000-0000-C000-000000000046} (리틀 엔디언 저장 순서)
+    private static final byte[] MSI_CLSID = {(byte) 0x84, 0x10, 0x0C, 0, 0, 0, 0, 0, (byte) 0xC0, 0, 0, 0, 0, 0, 0, 0x46};
+    private static final int[] MACH_O_MAGICS = {0xFEEDFACE, 0xFEEDFACF, 0xCEFAEDFE, 0xCFFAEDFE};
+
+    private static final int SHEBANG_LINE_LIMIT = 256;
+
+    private final boolean enabled;
+    private final int maxBytes;
+
+    public ContentSignatureInspector(
+            @Value("${file-check.content-sniffing.enabled:true}") boolean enabled,
+            @Value("${file-check.content-sniffing.max-bytes:4096}") int maxBytes) {
+        if (maxBytes < 64) {
+            throw new IllegalArgumentException("file-check.content-sniffing.max-bytes는 64 이상이어야 합니다");
+        }
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 검사 1회당 읽는 최대 바이트 수
+     */
+    public int getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * 업로드 파일의 앞부분만 읽어 형식 판별
+     * @return 판별된 실행 파일 유형, 해당 없으면 null
+     */
+    public ContentSignature inspect(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return inspect(in);
+        }
+    }
+
+    /**
+     * 스트림에서 최대 max-bytes 만큼만 읽어 형식 판별 (스트림은 닫지 않음)
+     */
+    public ContentSignature inspect(InputStream in) throws IOException {
+        byte[] head = in.readNBytes(maxBytes);
+        return detect(head, head.length);
+    }
+
+    /**
+     * 이미 읽어 둔 앞부분 바이트로 형식 판별
+     */
+    public ContentSignature detect(byte[] head, int length) {
+        if (length < 2) {
+            return null;
+        }
+
+        switch (head[0]) {
+            case 'M':
+                if (startsWith(head, length, MZ)) {
+                    return isPortableExecutable(head, length) ? ContentSignature.PE_EXECUTABLE : null;
+                }
+                if (startsWith(head, length, CAB_MAGIC)) {
+                    return ContentSignature.CABINET;
+                }
+                return null;
+            case 0x7F:
+                return startsWith(head, length, ELF_MAGIC) ? ContentSignature.ELF : null;
+            case '#':
+                return startsWith(head, length, SHEBANG) ? detectScript(head, length) : null;
+            case 0x4C:
+                return startsWith(head, length, LNK_MAGIC) ? ContentSignature.WINDOWS_SHORTCUT : null;
+            case (byte) 0xD0:
+                return startsWith(head, length, CFB_MAGIC) && isMsi(head, length) ? ContentSignature.WINDOWS_INSTALLER : null;
+            case (byte) 0xFE:
+            case (byte) 0xCE:
+            case (byte) 0xCF:
+                return isMachO(head, length) ? ContentSignature.MACH_O : null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * MZ 헤더의 e_lfanew가 가리키는 위치에 PE 서명이 있는지 확인
+     * PE 헤더가 검사 범위 밖이라 확인할 수 없으면 실행 파일로 판정하지 않는다
+     * ("MZ"로 시작하는 텍스트는 0x3C 위치의 글자가 큰 오프셋으로 읽히므로 추측하면 오탐이 생김).
+     */
+    private boolean isPortableExecutable(byte[] head, int length) {
+        if (length < 0x40) {
+            return false;
+        }
+        int peOffset = readIntLE(head, 0x3C);
+        if (peOffset < 0x40 || peOffset > length - PE.length) {
+            return false;
+        }
+        return regionMatches(head, peOffset, PE);
+    }
+
+    /**
+     * OLE 복합 문서 중 루트 저장소 CLSID가 MSI인 경우만 설치 패키지로 판정 (doc, xls 등 제외)
+     */
+    private boolean isMsi(byte[] head, int length) {
+        if (length < 0x34) {
+            return false;
+        }
+        int sectorShift = (head[0x1E] & 0xFF) | (head[0x1F] & 0xFF) << 8;
+        if (sectorShift != 9 && sectorShift != 12) {
+            return false;
+        }
+        int sectorSize = 1 << sectorShift;
+        long firstDirectorySector = readIntLE(head, 0x30) & 0xFFFFFFFFL;
+        long rootEntryOffset = (firstDirectorySector + 1) * sectorSize;
+        long clsidOffset = rootEntryOffset + 0x50;
+        if (clsidOffset + MSI_CLSID.length > length) {
+            return false;
+        }
+        return regionMatches(head, (int) clsidOffset, MSI_CLSID);
+    }
+
+    private boolean isMachO(byte[] head, int length) {
+        if (length < 4) {
+            return false;
+        }
+        int magic = (head[0] & 0xFF) << 24 | (head[1] & 0xFF) << 16 | (head[2] & 0xFF) << 8 | (head[3] & 0xFF);
+        for (int machOMagic : MACH_O_MAGICS) {
+            if (magic == machOMagic) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * shebang 첫 줄의 인터프리터로 스크립트 종류 판별 (예: #!/usr/bin/env python3 → Python)
+     */
+    private ContentSignature detectScript(byte[] head, int length) {
+        int end = 2;
+        int limit = Math.min(length, SHEBANG_LINE_LIMIT);
+        while (end < limit && head[end] != '\n' && head[end] != '\r') {
+            end++;
+        }
+        String[] tokens = new String(head, 2, end - 2, StandardCharsets.US_ASCII).trim().split("\\s+");
+
+        String interpreter = basename(tokens[0]);
+        if ("env".equals(interpreter) && tokens.length > 1) {
+            interpreter = basename(tokens[tokens.length > 2 && tokens[1].startsWith("-") ? 2 : 1]);
+        }
+
+        if (interpreter.startsWith("python")) {
+            return ContentSignature.PYTHON_SCRIPT;
+        }
+        if (interpreter.startsWith("perl")) {
+            return ContentSignature.PERL_SCRIPT;
+        }
+        if (interpreter.startsWith("node")) {
+            return ContentSignature.NODE_SCRIPT;
+        }
+        if (interpreter.startsWith("ruby")) {
+            return ContentSignature.RUBY_SCRIPT;
+        }
+        if (interpreter.startsWith("php")) {
+            return ContentSignature.PHP_SCRIPT;
+        }
+        return ContentSignature.SHELL_SCRIPT;
+    }
+
+    private static String basename(String path) {
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    private static boolean startsWith(byte[] head, int length, byte[] magic) {
+        return length >= magic.length && regionMatches(head, 0, magic);
+    }
+
+    private static boolean regionMatches(byte[] head, int offset, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (head[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readIntLE(byte[] head, int offset) {
+        return (head[offset] & 0xFF)
+                | (head[offset + 1] & 0xFF) << 8
+                | (head[offset + 2] & 0xFF) << 16
+                | (head[offset + 3] & 0xFF) << 24;
+    }
+}
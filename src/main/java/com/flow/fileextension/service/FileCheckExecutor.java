@@ -0,0 +1,84 @@
+package com.flow.fileextension.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 다중 파일 검사용 실행기
+ * 기본은 가상 스레드이며, virtual-threads=false 이면 고정 크기 플랫폼 스레드 풀을 쓴다.
+ * 어느 쪽이든 동시에 실행되는 검사 수는 parallelism 으로 제한된다.
+ */
+@Slf4j
+@Component
+public class FileCheckExecutor implements Executor {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int parallelism;
+    private final boolean virtualThreads;
+
+    public FileCheckExecutor(
+            @Value("${file-check.multi.parallelism:0}") int parallelism,
+            @Value("${file-check.multi.virtual-threads:true}") boolean preferVirtualThreads) {
+        // 0 이하이면 CPU 수 기준 (임시 파일 읽기가 섞이므로 코어 수의 2배)
+        this.parallelism = parallelism > 0 ? parallelism : Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+        this.permits = new Semaphore(this.parallelism);
+
+        this.virtualThreads = preferVirtualThreads;
+        this.executor = preferVirtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("file-check-", 1).factory())
+                : Executors.newFixedThreadPool(this.parallelism, new NamedThreadFactory());
+        log.info("파일 검사 실행기: {} (동시 실행 최대 {}개)", virtualThreads ? "가상 스레드" : "플랫폼 스레드 풀", this.parallelism);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        executor.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "file-check-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,54 +1,236 @@
 package com.flow.fileextension.service;
 
-import com.flow.fileextension.domain.extension.entity.Extension;
-import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
-import com.flow.fileextension.global.util.ExtensionValidator;
+import com.flow.fileextension.domain.audit.service.CheckEventWriter;
+import com.flow.fileextension.domain.extension.policy.BlockPolicy;
+import com.flow.fileextension.domain.extension.policy.TenantPolicyRegistry;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import com.flow.fileextension.global.constants.ErrorMessages;
+import com.flow.fileextension.global.constants.FileCheckLimits;
+import com.flow.fileextension.global.decisionlog.DecisionLog;
+import com.flow.fileextension.global.metrics.FileCheckMetrics;
+import com.flow.fileextension.global.security.SessionUser;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-@Slf4j
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
 @Service
 @RequiredArgsConstructor
 public class FileCheckService {
 
-    private final ExtensionRepository extensionRepository;
+    private final TenantPolicyRegistry tenantPolicyRegistry;
+    private final ContentSignatureInspector contentSignatureInspector;
+    private final ArchiveInspector archiveInspector;
+    private final FileCheckExecutor fileCheckExecutor;
+    private final FileCheckMetrics fileCheckMetrics;
+    private final DecisionLog decisionLog;
+    private final CheckEventWriter checkEventWriter;
+    private final CheckStatistics checkStatistics;
 
     /**
      * 파일 확장자 차단 여부 확인
      * 이중 확장자도 검증 (예: file.exe.txt → exe, txt 둘 다 검사)
      */
     public boolean isFileExtensionBlocked(MultipartFile file) {
+        return check(file).isBlocked();
+    }
+
+    /**
+     * 파일 검사 (차단 사유 포함)
+     */
+    public FileCheckResultDto check(MultipartFile file) {
+        BlockPolicy policy = currentPolicy();
+        FileCheckResultDto result = check(file, policy);
+        checkEventWriter.record(result, policy.getRevision());
+        return result;
+    }
+
+    /**
+     * 요청한 사용자의 조직 정책 (비로그인이거나 조직이 없으면 전역 정책)
+     */
+    private BlockPolicy currentPolicy() {
+        SessionUser sessionUser = SessionUser.current();
+        return tenantPolicyRegistry.current(sessionUser != null ? sessionUser.getTenantId() : null);
+    }
+
+    private FileCheckResultDto check(MultipartFile file, BlockPolicy policy) {
+        long start = System.nanoTime();
+        FileCheckResultDto result = evaluate(file, policy);
+        record(result, policy, start);
+        return result;
+    }
+
+    /**
+     * 지표, 통계와 판정 기록 (요청 스레드에서는 문자열을 만들거나 파일에 쓰지 않음)
+     */
+    private void record(FileCheckResultDto result, BlockPolicy policy, long startNanos) {
+        fileCheckMetrics.recordCheck(result, System.nanoTime() - startNanos);
+        checkStatistics.record(result);
+        decisionLog.record(result, policy.getRevision());
+    }
+
+    private FileCheckResultDto evaluate(MultipartFile file, BlockPolicy policy) {
         String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.isEmpty()) {
-            log.warn("파일명이 비어있습니다");
-            return false;
-        }
-
-        // 모든 확장자 추출 (이중 확장자 대응)
-        String[] allExtensions = ExtensionValidator.extractAllExtensions(originalFilename);
-        
-        if (allExtensions.length == 0) {
-            log.info("확장자가 없는 파일: {}", originalFilename);
-            return false;
-        }
-        
-        // 모든 확장자 검사
-        for (String ext : allExtensions) {
-            String normalizedExtension = ExtensionValidator.normalize(ext);
-            
-            boolean isBlocked = extensionRepository.findByExtension(normalizedExtension)
-                    .map(Extension::isBlocked)
-                    .orElse(false);
-            
-            if (isBlocked) {
-                log.warn("차단된 확장자 감지: {} (파일: {})", normalizedExtension, originalFilename);
-                return true;
+            return FileCheckResultDto.allowed(originalFilename);
+        }
+
+        try (InputStream content = file.getInputStream()) {
+            return check(originalFilename, content, policy);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 내용을 읽을 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 파일명과 내용 스트림으로 검사 (스트림은 필요한 만큼만 읽고 닫지 않음)
+     * 차단 정책은 메모리 스냅샷에서 조회하므로 검사 시 DB에 접근하지 않음
+     * 1. 파일명의 모든 확장자
+     * 2. 앞부분 바이트의 실행 파일 형식 (예: invoice.pdf 안의 PE 실행 파일)
+     * 3. ZIP 계열이면 내부 항목 (중첩 압축 포함)
+     * 스트리밍 검사 필터 전용이며, 이 요청은 CSRF 검증을 거치지 않으므로 감사 기록에 세션 사용자를 남기지 않는다.
+     */
+    public FileCheckResultDto check(String filename, InputStream content) throws IOException {
+        long start = System.nanoTime();
+        BlockPolicy policy = currentPolicy();
+        FileCheckResultDto result = check(filename, content, policy);
+        record(result, policy, start);
+        checkEventWriter.recordUnattributed(result, policy.getRevision());
+        return result;
+    }
+
+    private FileCheckResultDto check(String filename, InputStream content, BlockPolicy policy) throws IOException {
+        // 모든 확장자 구간을 한 번에 훑으며 검사 (이중 확장자 대응)
+        String blockedExtension = policy.findBlockedExtension(filename);
+        if (blockedExtension != null) {
+            return FileCheckResultDto.blocked(filename, blockedExtension);
+        }
+
+        if (!contentSignatureInspector.isEnabled() && !archiveInspector.isEnabled()) {
+            return FileCheckResultDto.allowed(filename);
+        }
+
+        // 파일 내용 검사 (앞부분 max-bytes 만큼만 읽음)
+        byte[] head = content.readNBytes(contentSignatureInspector.getMaxBytes());
+        if (contentSignatureInspector.isEnabled()) {
+            ContentSignature signature = contentSignatureInspector.detect(head, head.length);
+            String blockedContentExtension = signature != null ? policy.findFirstBlocked(signature.getExtensions()) : null;
+            if (blockedContentExtension != null) {
+                return FileCheckResultDto.blocked(filename, blockedContentExtension);
             }
         }
-        
-        log.info("허용된 파일: {} (확장자: {})", originalFilename, String.join(", ", allExtensions));
-        return false;
+
+        // 압축 파일 내부 검사
+        if (archiveInspector.isEnabled() && ArchiveInspector.isZip(head, head.length)) {
+            InputStream archive = new SequenceInputStream(new ByteArrayInputStream(head), content);
+            ArchiveScanResult archiveResult = archiveInspector.scan(archive, policy);
+            if (archiveResult != null) {
+                return FileCheckResultDto.blockedInArchive(filename, archiveResult.getMatchedExtension(),
+                        archiveResult.getEntry(), archiveResult.getReason());
+            }
+        }
+
+        return FileCheckResultDto.allowed(filename);
+    }
+
+    /**
+     * 여러 파일을 한 요청으로 받아 병렬 검사 (결과는 요청한 파일 순서)
+     * 모든 파일을 요청 시점의 정책 스냅샷 하나로 판정하고, failFast 이면 첫 차단 파일이 나오는 즉시
+     * 남은 검사를 취소하며 검사하지 않은 파일은 skipped 로 표시한다.
+     */
+    public List<FileCheckResultDto> checkFiles(List<MultipartFile> files, boolean failFast) {
+        if (files == null || files.isEmpty()) {
+            throw new IllegalArgumentException(ErrorMessages.FILES_EMPTY);
+        }
+        if (files.size() > FileCheckLimits.MAX_MULTI_FILE_COUNT) {
+            throw new IllegalArgumentException(ErrorMessages.FILES_TOO_MANY);
+        }
+
+        BlockPolicy policy = currentPolicy();
+        CompletionService<FileCheckResultDto> completion = new ExecutorCompletionService<>(fileCheckExecutor);
+        Map<Future<FileCheckResultDto>, Integer> indexes = new IdentityHashMap<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            indexes.put(completion.submit(() -> check(file, policy)), i);
+        }
+
+        FileCheckResultDto[] results = new FileCheckResultDto[files.size()];
+        try {
+            for (int remaining = files.size(); remaining > 0; remaining--) {
+                Future<FileCheckResultDto> future = completion.take();
+                FileCheckResultDto result = getResult(future);
+                results[indexes.get(future)] = result;
+                if (result.isBlocked() && failFast) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("파일 검사가 중단되었습니다", e);
+        } finally {
+            indexes.keySet().forEach(future -> future.cancel(true));
+        }
+
+        List<FileCheckResultDto> ordered = new ArrayList<>(files.size());
+        for (int i = 0; i < results.length; i++) {
+            ordered.add(results[i] != null ? results[i] : FileCheckResultDto.skipped(files.get(i).getOriginalFilename()));
+        }
+        checkEventWriter.recordAll(ordered, policy.getRevision());
+        return ordered;
+    }
+
+    private FileCheckResultDto getResult(Future<FileCheckResultDto> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("파일 검사 중 오류가 발생했습니다", e.getCause());
+        }
+    }
+
+    /**
+     * 파일명 목록 일괄 검사 (파일 본문 없이 이름만 검사)
+     * 하나의 정책 스냅샷으로 전체 목록을 판정하므로 도중에 정책이 바뀌어도 결과가 섞이지 않음
+     */
+    public List<FileCheckResultDto> checkFilenames(List<String> filenames) {
+        if (filenames == null || filenames.isEmpty()) {
+            throw new IllegalArgumentException(ErrorMessages.FILE_NAMES_EMPTY);
+        }
+        if (filenames.size() > FileCheckLimits.MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException(ErrorMessages.FILE_NAMES_TOO_MANY);
+        }
+
+        long start = System.nanoTime();
+        BlockPolicy policy = currentPolicy();
+        List<FileCheckResultDto> results = new ArrayList<>(filenames.size());
+
+        for (String filename : filenames) {
+            String blockedExtension = policy.findBlockedExtension(filename);
+            FileCheckResultDto result = blockedExtension != null
+                    ? FileCheckResultDto.blocked(filename, blockedExtension)
+                    : FileCheckResultDto.allowed(filename);
+            results.add(result);
+            checkStatistics.record(result);
+            decisionLog.record(result, policy.getRevision());
+        }
+
+        fileCheckMetrics.recordBatch(results, System.nanoTime() - start);
+        checkEventWriter.recordAll(results, policy.getRevision());
+        return results;
     }
 }
@@ -0,0 +1,49 @@
+package com.flow.fileextension.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간 구간(bucket) 링 버퍼로 만든 lock-free 슬라이딩 윈도 카운터
+ * 슬롯 하나에 구간 번호(상위 24비트)와 횟수(하위 40비트)를 함께 담아, 구간이 바뀐 슬롯은 CAS 한 번으로 비우면서 증가시킨다.
+ * 합계는 현재 구간을 포함한 최근 buckets 개 구간 중 구간 번호가 맞는 슬롯만 더한다.
+ */
+final class SlidingWindowCounter {
+
+    private static final int EPOCH_SHIFT = 40;
+    private static final long COUNT_MASK = (1L << EPOCH_SHIFT) - 1;
+    private static final long EPOCH_MASK = (1L << (Long.SIZE - EPOCH_SHIFT)) - 1;
+
+    private final AtomicLongArray slots;
+    private final long bucketMillis;
+
+    SlidingWindowCounter(int buckets, long bucketMillis) {
+        this.slots = new AtomicLongArray(buckets);
+        this.bucketMillis = bucketMillis;
+    }
+
+    void increment(long nowMillis) {
+        long bucket = nowMillis / bucketMillis;
+        int index = (int) (bucket % slots.length());
+        long epoch = bucket & EPOCH_MASK;
+        while (true) {
+            long current = slots.get(index);
+            long next = (current >>> EPOCH_SHIFT) == epoch ? current + 1 : (epoch << EPOCH_SHIFT) | 1;
+            if (slots.compareAndSet(index, current, next)) {
+                return;
+            }
+        }
+    }
+
+    long sum(long nowMillis) {
+        long currentBucket = nowMillis / bucketMillis;
+        long total = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long bucket = currentBucket - i;
+            long value = slots.get((int) (bucket % slots.length()));
+            if ((value >>> EPOCH_SHIFT) == (bucket & EPOCH_MASK)) {
+                total += value & COUNT_MASK;
+            }
+        }
+        return total;
+    }
+}
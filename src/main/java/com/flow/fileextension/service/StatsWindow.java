@@ -0,0 +1,26 @@
+package com.flow.fileextension.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검사 통계 집계 구간 (구간 수 x 구간 길이 = 윈도 길이)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum StatsWindow {
+
+    MINUTE("1m", 60, TimeUnit.SECONDS.toMillis(1)),
+    HOUR("1h", 60, TimeUnit.MINUTES.toMillis(1)),
+    DAY("24h", 144, TimeUnit.MINUTES.toMillis(10));
+
+    private final String label;
+    private final int buckets;
+    private final long bucketMillis;
+
+    public long getSeconds() {
+        return buckets * bucketMillis / 1000;
+    }
+}
@@ -0,0 +1,164 @@
+package com.flow.fileextension;
+
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.service.ExtensionService;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * spring.threads.virtual.enabled=true 로 실제 Tomcat을 띄워 요청이 가상 스레드에서 처리될 때도
+ * 세션(HttpSession)과 @Transactional(커밋/롤백)이 그대로 동작하는지 확인
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.threads.virtual.enabled=true",
+                "spring.datasource.url=jdbc:h2:mem:virtual-thread-mode;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+        })
+@Import({VirtualThreadModeTest.ProbeController.class, VirtualThreadModeTest.TransactionProbe.class})
+@ActiveProfiles({"test", VirtualThreadModeTest.PROBE_PROFILE})
+@DisplayName("가상 스레드 실행 모드 테스트")
+class VirtualThreadModeTest {
+
+    // 테스트 클래스패스를 그대로 쓰는 부하 테스트 실행기 등에서 프로브가 컴포넌트 스캔되지 않도록 프로필로 제한
+    static final String PROBE_PROFILE = "virtual-thread-probe";
+
+    private static final ParameterizedTypeReference<Map<String, Object>> MAP_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("조회 API는 가상 스레드에서 정상 응답")
+    void extensionsApi_OnVirtualThread() {
+        // when
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/extensions/fixed", String.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"success\":true");
+    }
+
+    @Test
+    @DisplayName("세션에 저장한 값이 다음 요청(다른 가상 스레드)에서도 유지")
+    void session_KeptAcrossRequests() {
+        // given
+        ResponseEntity<Map<String, Object>> first = restTemplate.exchange(
+                "/test/probe/session?value=hello", HttpMethod.GET, null, MAP_TYPE);
+        String sessionCookie = first.getHeaders().getOrEmpty(HttpHeaders.SET_COOKIE).stream()
+                .filter(cookie -> cookie.startsWith("JSESSIONID="))
+                .map(cookie -> cookie.split(";")[0])
+                .findFirst()
+                .orElseThrow();
+
+        // when
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.COOKIE, sessionCookie);
+        ResponseEntity<Map<String, Object>> second = restTemplate.exchange(
+                "/test/probe/session", HttpMethod.GET, new HttpEntity<>(headers), MAP_TYPE);
+
+        // then
+        assertThat(first.getBody()).containsEntry("virtual", true);
+        assertThat(second.getBody()).containsEntry("virtual", true);
+        assertThat(second.getBody()).containsEntry("value", "hello");
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서도 트랜잭션이 열리고 예외 시 롤백")
+    void transaction_RolledBackOnVirtualThread() {
+        // when
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                "/test/probe/rollback?extension=vtprobe", HttpMethod.GET, null, MAP_TYPE);
+
+        // then
+        assertThat(response.getBody()).containsEntry("virtual", true);
+        assertThat(response.getBody()).containsEntry("transactionActive", true);
+        assertThat(response.getBody()).containsEntry("persisted", false);
+    }
+
+    @Profile(PROBE_PROFILE)
+    @RestController
+    @RequestMapping("/test/probe")
+    @RequiredArgsConstructor
+    static class ProbeController {
+
+        private final HttpSession httpSession;
+        private final TransactionProbe transactionProbe;
+        private final ExtensionRepository extensionRepository;
+
+        @GetMapping("/session")
+        Map<String, Object> session(@RequestParam(required = false) String value) {
+            if (value != null) {
+                httpSession.setAttribute("probe", value);
+            }
+            Map<String, Object> result = new HashMap<>();
+            result.put("virtual", Thread.currentThread().isVirtual());
+            result.put("value", httpSession.getAttribute("probe"));
+            return result;
+        }
+
+        @GetMapping("/rollback")
+        Map<String, Object> rollback(@RequestParam String extension) {
+            boolean transactionActive = false;
+            try {
+                transactionProbe.addThenFail(extension);
+            } catch (ProbeRollbackException e) {
+                transactionActive = e.transactionActive;
+            }
+            Map<String, Object> result = new HashMap<>();
+            result.put("virtual", Thread.currentThread().isVirtual());
+            result.put("transactionActive", transactionActive);
+            result.put("persisted", extensionRepository.findByExtension(extension).isPresent());
+            return result;
+        }
+    }
+
+    @Profile(PROBE_PROFILE)
+    @RequiredArgsConstructor
+    static class TransactionProbe {
+
+        private final ExtensionService extensionService;
+
+        @Transactional
+        public void addThenFail(String extension) {
+            extensionService.addCustomExtension(extension, (Long) null);
+            throw new ProbeRollbackException(TransactionSynchronizationManager.isActualTransactionActive());
+        }
+    }
+
+    static class ProbeRollbackException extends RuntimeException {
+
+        private final boolean transactionActive;
+
+        ProbeRollbackException(boolean transactionActive) {
+            super("rollback");
+            this.transactionActive = transactionActive;
+        }
+    }
+}
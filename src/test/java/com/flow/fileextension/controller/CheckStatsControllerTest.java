@@ -0,0 +1,71 @@
+package com.flow.fileextension.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("검사 통계 컨트롤러 API 테스트")
+class CheckStatsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExtensionRepository extensionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+        exe.updateBlockStatus(true, null);
+        extensionRepository.save(exe);
+    }
+
+    @Test
+    @DisplayName("GET /api/stats/checks - 검사 후 윈도별 차단 수와 상위 확장자 반환 (비로그인 허용)")
+    void getCheckStats_AfterChecks() throws Exception {
+        // given
+        mockMvc.perform(post("/api/files/check/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of("a.exe", "b.exe", "c.pdf"))))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/api/stats/checks").param("top", "5"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].window").value("1m"))
+                .andExpect(jsonPath("$.data[0].windowSeconds").value(60))
+                .andExpect(jsonPath("$.data[0].blocked").value(greaterThanOrEqualTo(2)))
+                .andExpect(jsonPath("$.data[0].topBlocked[?(@.extension == 'exe')]").exists())
+                .andExpect(jsonPath("$.data[2].window").value("24h"));
+    }
+}
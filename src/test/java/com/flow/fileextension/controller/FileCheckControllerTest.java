@@ -0,0 +1,170 @@
+package com.flow.fileextension.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability // 테스트에서는 기본으로 꺼지는 Prometheus 지표 노출을 켬
+@Transactional
+@ActiveProfiles("test")
+@DisplayName("파일 검사 컨트롤러 API 테스트")
+class FileCheckControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExtensionRepository extensionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+        exe.updateBlockStatus(true, null);
+        extensionRepository.save(exe);
+    }
+
+    @Test
+    @DisplayName("POST /api/files/check/batch - 파일명별 차단 여부와 차단 확장자 반환")
+    void checkFilenames_Success() throws Exception {
+        // given
+        List<String> filenames = List.of("virus.exe.txt", "document.pdf", "README");
+
+        // when & then
+        mockMvc.perform(post("/api/files/check/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(filenames)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].filename").value("virus.exe.txt"))
+                .andExpect(jsonPath("$.data[0].blocked").value(true))
+                .andExpect(jsonPath("$.data[0].matchedExtension").value("exe"))
+                .andExpect(jsonPath("$.data[1].blocked").value(false))
+                .andExpect(jsonPath("$.data[1].matchedExtension").doesNotExist())
+                .andExpect(jsonPath("$.data[2].blocked").value(false));
+    }
+
+    @Test
+    @DisplayName("POST /api/files/check/batch - CSRF 토큰 없이 요청하면 403 (검사 기록이 세션 사용자로 남으므로)")
+    void checkFilenames_WithoutCsrf_Forbidden() throws Exception {
+        mockMvc.perform(post("/api/files/check/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of("a.txt"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("POST /api/files/check/batch - 최대 개수 초과 실패")
+    void checkFilenames_TooMany_Fail() throws Exception {
+        // given
+        List<String> filenames = Collections.nCopies(10_001, "a.txt");
+
+        // when & then
+        mockMvc.perform(post("/api/files/check/batch")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(filenames)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("POST /api/files/check/multi - 파일별 결과를 요청 순서대로 반환")
+    void checkFiles_Success() throws Exception {
+        // when & then
+        mockMvc.perform(multipart("/api/files/check/multi")
+                        .file(file("virus.exe.txt"))
+                        .file(file("document.pdf"))
+                        .file(file("README"))
+                        .with(csrf()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].filename").value("virus.exe.txt"))
+                .andExpect(jsonPath("$.data[0].blocked").value(true))
+                .andExpect(jsonPath("$.data[0].matchedExtension").value("exe"))
+                .andExpect(jsonPath("$.data[1].filename").value("document.pdf"))
+                .andExpect(jsonPath("$.data[1].blocked").value(false))
+                .andExpect(jsonPath("$.data[2].filename").value("README"))
+                .andExpect(jsonPath("$.data[2].blocked").value(false))
+                .andExpect(jsonPath("$.data[*].skipped").isEmpty());
+    }
+
+    @Test
+    @DisplayName("POST /api/files/check/multi?failFast=true - 차단 파일은 항상 판정되고 결과 개수는 요청 개수와 같음")
+    void checkFiles_FailFast() throws Exception {
+        // given
+        var request = multipart("/api/files/check/multi").file(file("virus.exe"));
+        for (int i = 0; i < 50; i++) {
+            request.file(file("doc" + i + ".pdf"));
+        }
+
+        // when & then
+        mockMvc.perform(request.param("failFast", "true").with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(51))
+                .andExpect(jsonPath("$.data[0].blocked").value(true))
+                .andExpect(jsonPath("$.data[?(@.blocked == true)].filename").value(List.of("virus.exe")));
+    }
+
+    @Test
+    @DisplayName("POST /api/files/check/multi - 파일 없이 요청하면 실패")
+    void checkFiles_Empty_Fail() throws Exception {
+        mockMvc.perform(multipart("/api/files/check/multi").with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /actuator/prometheus - 검사 지연 히스토그램과 확장자별 판정 수 노출")
+    void prometheusEndpoint_ExposesCheckMetrics() throws Exception {
+        // given
+        mockMvc.perform(multipart("/api/files/check")
+                        .file(new MockMultipartFile("file", "setup.exe", "application/octet-stream", "content".getBytes()))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("file_check_seconds_bucket{")))
+                .andExpect(content().string(containsString("file_check_verdicts_total{")))
+                .andExpect(content().string(containsString("extension=\"exe\"")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds")));
+    }
+
+    private static MockMultipartFile file(String filename) {
+        return new MockMultipartFile("files", filename, "application/octet-stream", "content".getBytes());
+    }
+}
@@ -0,0 +1,133 @@
+package com.flow.fileextension.controller;
+
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.service.ExtensionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 500개 파일 검사: 파일마다 /api/files/check 요청 vs /api/files/check/multi 한 번
+ * MockMvc 기준이므로 네트워크 왕복은 빠져 있고, 요청 처리 경로(보안 필터, multipart 바인딩, 응답 직렬화)의 차이만 측정한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.flow.fileextension=WARN"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("다중 파일 검사 벤치마크")
+class MultiFileCheckBenchmark {
+
+    private static final int FILE_COUNT = 500;
+    private static final int FILE_SIZE = 16 * 1024;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    private static final String[] NAMES = {"report.pdf", "photo.jpeg", "archive.tar.gz", "notes.txt", "setup.exe"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private ExtensionRepository extensionRepository;
+
+    private Extension exe;
+    private List<MockMultipartFile> files;
+
+    @BeforeEach
+    void setUp() {
+        exe = extensionRepository.findByExtension("exe").orElseThrow();
+        extensionService.updateFixedExtensionBlockStatus(exe.getId(), true, null);
+
+        Random random = new Random(42);
+        files = new ArrayList<>(FILE_COUNT);
+        for (int i = 0; i < FILE_COUNT; i++) {
+            byte[] content = new byte[FILE_SIZE];
+            random.nextBytes(content);
+            files.add(new MockMultipartFile("file", i + "-" + NAMES[i % NAMES.length], "application/octet-stream", content));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        extensionService.updateFixedExtensionBlockStatus(exe.getId(), exe.isBlocked(), null);
+    }
+
+    @Test
+    @DisplayName("파일별 요청 대비 다중 파일 요청 처리 시간")
+    void comparePerFileAndMultiRequest() throws Exception {
+        double perFile = measure("before: 파일마다 /check 요청", this::checkOneByOne);
+        double multi = measure("after: /check/multi 한 번", () -> checkMulti(false));
+        double multiFailFast = measure("after: /check/multi failFast", () -> checkMulti(true));
+
+        System.out.printf("speedup: %.1fx (failFast %.1fx)%n", perFile / multi, perFile / multiFailFast);
+        assertThat(multi).isLessThan(perFile);
+    }
+
+    private void checkOneByOne() throws Exception {
+        for (MockMultipartFile file : files) {
+            mockMvc.perform(multipart("/api/files/check").file(file).with(csrf()))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    private void checkMulti(boolean failFast) throws Exception {
+        MockMultipartHttpServletRequestBuilder request = multipart("/api/files/check/multi");
+        for (MockMultipartFile file : files) {
+            request.file(new MockMultipartFile("files", file.getOriginalFilename(), file.getContentType(), file.getBytes()));
+        }
+        mockMvc.perform(request.param("failFast", String.valueOf(failFast)).with(csrf()))
+                .andExpect(status().isOk());
+    }
+
+    /**
+     * @return 500개 파일 한 묶음을 검사하는 데 걸린 평균 시간 (ms)
+     */
+    private double measure(String label, ThrowingRunnable round) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            round.run();
+        }
+        double averageMillis = (System.nanoTime() - start) / 1_000_000.0 / MEASURE_ROUNDS;
+
+        System.out.printf("%-32s %10.1f ms / %d files (%,.0f files/sec)%n",
+                label, averageMillis, FILE_COUNT, FILE_COUNT / (averageMillis / 1000));
+        return averageMillis;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,82 @@
+package com.flow.fileextension.domain.audit.service;
+
+import com.flow.fileextension.domain.audit.entity.CheckEvent;
+import com.flow.fileextension.domain.audit.repository.CheckEventRepository;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검사 감사 기록 저장 처리량 (H2)
+ * 요청마다 INSERT 한 번(트랜잭션 1개)과 CheckEventWriter 의 JDBC 배치 저장을 같은 건수로 비교한다.
+ * 배치 쪽은 마지막 기록이 커밋될 때까지의 시간과 요청 스레드가 기록 1건에 쓰는 시간을 함께 잰다.
+ * 실행: ./gradlew benchmark --tests '*CheckEventWriteBenchmark'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.flow.fileextension=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("검사 감사 기록 저장 벤치마크")
+class CheckEventWriteBenchmark {
+
+    private static final int EVENTS = 20_000;
+
+    @Autowired
+    private CheckEventRepository checkEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("건별 INSERT 대비 배치 저장 처리량")
+    void comparePerEventAndBatched() {
+        FileCheckResultDto[] results = {
+                FileCheckResultDto.allowed("report.pdf"),
+                FileCheckResultDto.blocked("setup.exe", "exe"),
+                FileCheckResultDto.allowed("photo.jpeg")
+        };
+
+        // before: 요청마다 트랜잭션 하나로 INSERT
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            CheckEvent event = CheckEvent.of(results[i % results.length], null, 1, LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status -> checkEventRepository.save(event));
+        }
+        double perEventMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        // after: 큐에 넣고 기록 스레드가 배치로 저장
+        CheckEventWriter writer = new CheckEventWriter(checkEventRepository, transactionManager, new SimpleMeterRegistry(),
+                true, EVENTS, 500, 1_000, 1_000);
+        writer.start();
+        start = System.nanoTime();
+        for (int i = 0; i < EVENTS; i++) {
+            writer.record(results[i % results.length], 1);
+        }
+        double enqueueMillis = (System.nanoTime() - start) / 1_000_000.0;
+        writer.stop();
+        double batchedMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        System.out.printf("%-28s %10.1f ms (%,.0f events/sec)%n", "before: 건별 INSERT", perEventMillis, EVENTS / (perEventMillis / 1000));
+        System.out.printf("%-28s %10.1f ms (%,.0f events/sec)%n", "after: 배치 저장", batchedMillis, EVENTS / (batchedMillis / 1000));
+        System.out.printf("%-28s %10.3f us / event%n", "after: 요청 스레드 기록 비용", enqueueMillis * 1000 / EVENTS);
+
+        assertThat(writer.getWrittenCount()).isEqualTo(EVENTS);
+        assertThat(batchedMillis).isLessThan(perEventMillis);
+    }
+}
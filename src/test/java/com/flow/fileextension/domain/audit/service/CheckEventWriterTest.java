@@ -0,0 +1,182 @@
+package com.flow.fileextension.domain.audit.service;
+
+import com.flow.fileextension.domain.audit.entity.CheckEvent;
+import com.flow.fileextension.domain.audit.repository.CheckEventRepository;
+import com.flow.fileextension.domain.extension.service.PolicyChangeRecorder;
+import com.flow.fileextension.domain.user.entity.User;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import com.flow.fileextension.global.security.SessionUser;
+import com.flow.fileextension.service.FileCheckService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기록 스레드가 별도 트랜잭션으로 커밋하므로 테스트 트랜잭션(@Transactional) 없이 실행
+ * 테스트마다 다른 사용자 id를 세션에 넣어 서로의 기록과 구분한다.
+ */
+@SpringBootTest(properties = "file-check.audit.flush-interval-ms=50")
+@ActiveProfiles("test")
+@DisplayName("검사 감사 기록 테스트")
+class CheckEventWriterTest {
+
+    @Autowired
+    private FileCheckService fileCheckService;
+
+    @Autowired
+    private CheckEventRepository checkEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PolicyChangeRecorder policyChangeRecorder;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("검사 결과가 로그인 사용자 id와 함께 저장")
+    void checkFilenames_PersistedWithUser() throws Exception {
+        // given
+        loginAs(9_001L);
+
+        // when
+        fileCheckService.checkFilenames(List.of("a.pdf", "b.txt", "c.exe"));
+
+        // then
+        awaitCount(9_001L, 3);
+        assertThat(checkEventRepository.findAll())
+                .filteredOn(event -> Long.valueOf(9_001L).equals(event.getUserId()))
+                .allSatisfy(event -> {
+                    assertThat(event.getId()).isNotNull();
+                    assertThat(event.getCheckedAt()).isNotNull();
+                })
+                .extracting(event -> event.getFilename())
+                .containsExactlyInAnyOrder("a.pdf", "b.txt", "c.exe");
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 기록을 모두 저장")
+    void stop_FlushesPendingEvents() {
+        // given (배치 크기와 주기가 커서 종료 전에는 저장되지 않음)
+        CheckEventWriter writer = new CheckEventWriter(checkEventRepository, transactionManager, new SimpleMeterRegistry(),
+                true, 1_000, 10_000, 60_000, 0);
+        writer.start();
+        loginAs(9_002L);
+
+        // when
+        for (int i = 0; i < 120; i++) {
+            writer.record(FileCheckResultDto.allowed("file" + i + ".txt"), 1);
+        }
+        writer.stop();
+
+        // then
+        assertThat(writer.getWrittenCount()).isEqualTo(120);
+        assertThat(checkEventRepository.countByUserId(9_002L)).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 offer-timeout 후 버리고 dropped 증가")
+    void fullQueue_Dropped() {
+        // given (기록 스레드를 시작하지 않아 큐가 비워지지 않음)
+        CheckEventWriter writer = new CheckEventWriter(checkEventRepository, transactionManager, new SimpleMeterRegistry(),
+                true, 2, 10, 1_000, 10);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            writer.record(FileCheckResultDto.allowed("file" + i + ".txt"), 1);
+        }
+
+        // then
+        assertThat(writer.getDroppedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 여러 건을 기록해도 offer-timeout 한 번만 기다리고 나머지는 버림")
+    void fullQueue_RecordAllWaitsOnce() {
+        // given (기록 스레드를 시작하지 않아 큐가 비워지지 않음)
+        CheckEventWriter writer = new CheckEventWriter(checkEventRepository, transactionManager, new SimpleMeterRegistry(),
+                true, 2, 10, 1_000, 100);
+        List<FileCheckResultDto> results = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            results.add(FileCheckResultDto.allowed("file" + i + ".txt"));
+        }
+
+        // when
+        long start = System.nanoTime();
+        writer.recordAll(results, 1);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then (건별로 기다렸다면 약 100초)
+        assertThat(elapsedMillis).isLessThan(1_000);
+        assertThat(writer.getDroppedCount()).isEqualTo(998);
+    }
+
+    @Test
+    @DisplayName("정책 버전은 DB 정책 리비전으로, CSRF 검증이 없는 스트리밍 검사는 사용자 없이 저장")
+    void checkEvents_RevisionAndStreamingWithoutUser() throws Exception {
+        // given
+        loginAs(9_004L);
+        long revision = policyChangeRecorder.currentRevision();
+
+        // when
+        fileCheckService.checkFilenames(List.of("revision.txt"));
+        fileCheckService.check("streaming-9004.txt", new ByteArrayInputStream(new byte[16]));
+
+        // then
+        awaitCount(9_004L, 1);
+        assertThat(checkEventRepository.findAll())
+                .filteredOn(event -> Long.valueOf(9_004L).equals(event.getUserId()))
+                .extracting(CheckEvent::getPolicyVersion)
+                .containsExactly(revision);
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (findByFilename("streaming-9004.txt").isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(findByFilename("streaming-9004.txt"))
+                .singleElement()
+                .satisfies(event -> {
+                    assertThat(event.getUserId()).isNull();
+                    assertThat(event.getPolicyVersion()).isEqualTo(revision);
+                });
+    }
+
+    private List<CheckEvent> findByFilename(String filename) {
+        return checkEventRepository.findAll().stream()
+                .filter(event -> filename.equals(event.getFilename()))
+                .toList();
+    }
+
+    private void loginAs(long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        User user = User.builder().id(userId).email(userId + "@test.com").name("tester").build();
+        request.getSession().setAttribute("user", new SessionUser(user));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private void awaitCount(long userId, long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (checkEventRepository.countByUserId(userId) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(checkEventRepository.countByUserId(userId)).isEqualTo(expected);
+    }
+}
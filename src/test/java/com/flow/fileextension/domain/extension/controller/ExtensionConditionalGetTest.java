@@ -0,0 +1,112 @@
+package com.flow.fileextension.domain.extension.controller;
+
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.service.ExtensionService;
+import com.flow.fileextension.global.constants.ApiHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 확장자 목록 조건부 조회 (ETag / If-None-Match) 테스트
+ * 정책 버전은 변경이 커밋된 뒤에 오르므로 테스트 트랜잭션 없이 실행하고, 바꾼 상태는 테스트 후 되돌린다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("확장자 목록 조건부 조회 테스트")
+class ExtensionConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private ExtensionRepository extensionRepository;
+
+    private Extension exe;
+
+    @BeforeEach
+    void setUp() {
+        exe = extensionRepository.findByExtension("exe").orElseThrow();
+    }
+
+    @AfterEach
+    void tearDown() {
+        extensionService.updateFixedExtensionBlockStatus(exe.getId(), exe.isBlocked(), null);
+    }
+
+    @Test
+    @DisplayName("GET /api/extensions/fixed - ETag와 정책 버전 헤더 반환, 같은 ETag로 다시 요청하면 304")
+    void fixedExtensions_NotModified() throws Exception {
+        // given
+        MvcResult first = mockMvc.perform(get("/api/extensions/fixed"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(ApiHeaders.POLICY_VERSION))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        String version = first.getResponse().getHeader(ApiHeaders.POLICY_VERSION);
+
+        // when & then
+        assertThat(etag).isEqualTo("\"" + version + "\"");
+        mockMvc.perform(get("/api/extensions/fixed").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(ApiHeaders.POLICY_VERSION, version))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("정책 버전 헤더는 /snapshot 의 version(DB 리비전)과 같음")
+    void policyVersion_MatchesSnapshotVersion() throws Exception {
+        // given
+        extensionService.updateFixedExtensionBlockStatus(exe.getId(), !exe.isBlocked(), null);
+
+        // when
+        String version = mockMvc.perform(get("/api/extensions/fixed"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(ApiHeaders.POLICY_VERSION);
+
+        // then
+        mockMvc.perform(get("/api/extensions/snapshot"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(Long.parseLong(version)));
+    }
+
+    @Test
+    @DisplayName("확장자 변경이 커밋되면 이전 ETag로 요청해도 새 목록과 새 ETag 반환")
+    void customExtensions_ModifiedAfterChange() throws Exception {
+        // given
+        String etag = mockMvc.perform(get("/api/extensions/custom"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // when
+        extensionService.updateFixedExtensionBlockStatus(exe.getId(), !exe.isBlocked(), null);
+
+        // then
+        String newEtag = mockMvc.perform(get("/api/extensions/custom").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+}
@@ -3,8 +3,10 @@ package com.flow.fileextension.domain.extension.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flow.fileextension.domain.extension.entity.Extension;
 import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.service.ExtensionService;
 import com.flow.fileextension.domain.user.entity.User;
 import com.flow.fileextension.domain.user.repository.UserRepository;
+import com.flow.fileextension.global.constants.ErrorMessages;
 import com.flow.fileextension.global.security.SessionUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,8 +21,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -39,6 +43,9 @@ class ExtensionControllerTest {
     @Autowired
     private ExtensionRepository extensionRepository;
 
+    @Autowired
+    private ExtensionService extensionService;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -101,6 +108,51 @@ class ExtensionControllerTest {
                 .andExpect(jsonPath("$.data.length()").value(2));
     }
 
+    @Test
+    @DisplayName("GET /api/extensions/custom?size= - 커스텀 확장자 키셋 페이지 조회")
+    void getCustomExtensionPage_Success() throws Exception {
+        // given
+        extensionRepository.saveAll(List.of(
+                Extension.createCustom("pdf"), Extension.createCustom("jpg"), Extension.createCustom("zip")));
+
+        // when & then
+        mockMvc.perform(get("/api/extensions/custom")
+                        .param("size", "2")
+                        .param("cursor", "hwp")
+                        .with(user("test@test.com"))
+                        .session(session))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.items[0].extension").value("jpg"))
+                .andExpect(jsonPath("$.data.items[1].extension").value("pdf"))
+                .andExpect(jsonPath("$.data.nextCursor").value("pdf"));
+    }
+
+    @Test
+    @DisplayName("GET /api/extensions/search - 접두어로 등록된 확장자와 알려진 확장자 검색")
+    void searchExtensions_Success() throws Exception {
+        // when & then - exe 는 카탈로그에도 있지만 등록된 고정 확장자로 보임
+        mockMvc.perform(get("/api/extensions/search")
+                        .param("prefix", "EX")
+                        .session(session))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].extension").value("exe"))
+                .andExpect(jsonPath("$.data[0].kind").value("FIXED"));
+    }
+
+    @Test
+    @DisplayName("GET /api/extensions/search - 접두어 형식이 잘못되면 400")
+    void searchExtensions_InvalidPrefix_Fail() throws Exception {
+        mockMvc.perform(get("/api/extensions/search")
+                        .param("prefix", "e*")
+                        .session(session))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("PATCH /api/extensions/fixed/{id}/block - 고정 확장자 차단 상태 변경")
     void updateFixedExtensionBlockStatus_Success() throws Exception {
@@ -190,9 +242,9 @@ class ExtensionControllerTest {
     @DisplayName("POST /api/extensions/custom - 200개 초과 추가 실패")
     void addCustomExtension_ExceedsLimit_Fail() throws Exception {
         // given
+        // 개수는 카운터 행으로 관리되므로 서비스를 통해 채움
         for (int i = 0; i < 200; i++) {
-            Extension custom = Extension.createCustom("ext" + i);
-            extensionRepository.save(custom);
+            extensionService.addCustomExtension("ext" + i, (Long) null);
         }
 
         // when & then
@@ -259,4 +311,219 @@ class ExtensionControllerTest {
                 .andExpect(jsonPath("$.data").isArray());
         // 고정 차단 + 커스텀 차단 확장자들이 조회됨
     }
+
+    @Test
+    @DisplayName("PUT /api/extensions/tenant/{extension} - 조직 사용자는 조직 규칙 추가 후 조회")
+    void setTenantRule_Success() throws Exception {
+        // given
+        User tenantUser = userRepository.save(User.builder()
+                .name("조직 사용자")
+                .email("tenant@test.com")
+                .tenantId(42L)
+                .build());
+        MockHttpSession tenantSession = new MockHttpSession();
+        tenantSession.setAttribute("user", new SessionUser(tenantUser));
+        long globalVersion = extensionService.getSnapshot(null).getVersion();
+
+        // when
+        mockMvc.perform(put("/api/extensions/tenant/{extension}", "ZIP")
+                        .param("isBlocked", "true")
+                        .with(user("tenant@test.com"))
+                        .with(csrf())
+                        .session(tenantSession))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.tenantId").value(42))
+                .andExpect(jsonPath("$.data.extension").value("zip"))
+                .andExpect(jsonPath("$.data.blocked").value(true));
+
+        // then
+        mockMvc.perform(get("/api/extensions/tenant")
+                        .with(user("tenant@test.com"))
+                        .session(tenantSession))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].extension").value("zip"));
+
+        // 같은 규칙을 다시 보내면 기존 규칙을 바꾸고, 조직 규칙 변경은 전역 정책 버전을 올리지 않음
+        mockMvc.perform(put("/api/extensions/tenant/{extension}", "zip")
+                        .param("isBlocked", "false")
+                        .with(user("tenant@test.com"))
+                        .with(csrf())
+                        .session(tenantSession))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.blocked").value(false));
+        mockMvc.perform(get("/api/extensions/tenant")
+                        .with(user("tenant@test.com"))
+                        .session(tenantSession))
+                .andExpect(jsonPath("$.data.length()").value(1))
+                .andExpect(jsonPath("$.data[0].blocked").value(false));
+        assertThat(extensionService.getSnapshot(null).getVersion()).isEqualTo(globalVersion);
+    }
+
+    @Test
+    @DisplayName("PUT /api/extensions/tenant/{extension} - 조직이 없는 사용자는 실패")
+    void setTenantRule_WithoutTenant() throws Exception {
+        // when & then
+        mockMvc.perform(put("/api/extensions/tenant/{extension}", "zip")
+                        .param("isBlocked", "true")
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("조직에 속한 사용자만 조직 정책을 변경할 수 있습니다"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/extensions/policy - CSV 로 원하는 정책 전체 적용")
+    void applyPolicy_Csv_Success() throws Exception {
+        // given
+        extensionRepository.save(Extension.createCustom("rar"));
+
+        // when & then
+        mockMvc.perform(put("/api/extensions/policy")
+                        .contentType("text/csv")
+                        .content("extension,blocked\nexe,true\nzip\n")
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.dryRun").value(false))
+                .andExpect(jsonPath("$.data.added[0]").value("zip"))
+                .andExpect(jsonPath("$.data.deleted[0]").value("rar"))
+                .andExpect(jsonPath("$.data.blocked[0]").value("exe"));
+
+        assertThat(extensionRepository.findByExtension("zip")).isPresent();
+        assertThat(extensionRepository.findByExtension("rar")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("PUT /api/extensions/policy - JSON dryRun 은 반영하지 않음")
+    void applyPolicy_JsonDryRun() throws Exception {
+        // given
+        String body = objectMapper.writeValueAsString(
+                Map.of("extensions", List.of(Map.of("extension", "zip"))));
+
+        // when & then
+        mockMvc.perform(put("/api/extensions/policy")
+                        .param("dryRun", "true")
+                        .contentType("application/json")
+                        .content(body)
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.dryRun").value(true))
+                .andExpect(jsonPath("$.data.added[0]").value("zip"));
+
+        assertThat(extensionRepository.findByExtension("zip")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("PUT /api/extensions/policy - 빈 JSON 목록은 clearAll 없이 400")
+    void applyPolicy_EmptyJson_BadRequest() throws Exception {
+        // given
+        extensionRepository.save(Extension.createCustom("rar"));
+
+        // when & then
+        mockMvc.perform(put("/api/extensions/policy")
+                        .contentType("application/json")
+                        .content("{\"extensions\":[]}")
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.POLICY_ENTRIES_REQUIRED));
+
+        assertThat(extensionRepository.findByExtension("rar")).isPresent();
+    }
+
+    @Test
+    @DisplayName("PUT /api/extensions/policy - 머리글만 있는 CSV 는 400, 차단 여부가 잘못되면 400")
+    void applyPolicy_InvalidCsv_BadRequest() throws Exception {
+        mockMvc.perform(put("/api/extensions/policy")
+                        .contentType("text/csv")
+                        .content("extension,blocked\n")
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.POLICY_ENTRIES_REQUIRED));
+
+        mockMvc.perform(put("/api/extensions/policy")
+                        .contentType("text/csv")
+                        .content("exe,yes\n")
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(ErrorMessages.POLICY_INVALID_BLOCKED + ": yes"));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/extensions/fixed/block - 고정 확장자 차단 상태 일괄 변경")
+    void updateBlockStatuses_Success() throws Exception {
+        // given
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+        Extension bat = extensionRepository.findByExtension("bat").orElseThrow();
+
+        // when & then
+        mockMvc.perform(patch("/api/extensions/fixed/block")
+                        .param("ids", exe.getId() + "," + bat.getId())
+                        .param("isBlocked", "true")
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.count").value(2))
+                .andExpect(jsonPath("$.data.version").isNumber());
+
+        assertThat(extensionRepository.findByIsBlockedTrue())
+                .extracting(Extension::getExtension)
+                .contains("exe", "bat");
+    }
+
+    @Test
+    @DisplayName("DELETE /api/extensions/custom - 로그인하지 않으면 일괄 삭제 불가")
+    void deleteCustomExtensions_Unauthenticated() throws Exception {
+        // given
+        Extension zip = extensionRepository.save(Extension.createCustom("zip"));
+
+        // when & then
+        mockMvc.perform(delete("/api/extensions/custom")
+                        .param("ids", String.valueOf(zip.getId()))
+                        .with(csrf()))
+                // 로그인 페이지로 보내거나 거부 (어느 쪽이든 삭제는 실행되지 않음)
+                .andExpect(result -> assertThat(result.getResponse().getStatus()).isNotEqualTo(200));
+
+        assertThat(extensionRepository.findByExtension("zip")).isPresent();
+    }
+
+    @Test
+    @DisplayName("PATCH /api/extensions/fixed/{id}/block - 이전 버전으로 변경하면 409와 현재 상태")
+    void updateFixedExtensionBlockStatus_StaleVersion_Conflict() throws Exception {
+        // given
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+        long readVersion = exe.getVersion();
+        mockMvc.perform(patch("/api/extensions/fixed/{id}/block", exe.getId())
+                        .param("isBlocked", "true")
+                        .param("version", String.valueOf(readVersion))
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(readVersion + 1));
+
+        // when & then
+        mockMvc.perform(patch("/api/extensions/fixed/{id}/block", exe.getId())
+                        .param("isBlocked", "false")
+                        .param("version", String.valueOf(readVersion))
+                        .with(user("test@test.com"))
+                        .with(csrf())
+                        .session(session))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.data.blocked").value(true))
+                .andExpect(jsonPath("$.data.version").value(readVersion + 1));
+    }
 }
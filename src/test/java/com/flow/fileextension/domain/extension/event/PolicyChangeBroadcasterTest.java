@@ -0,0 +1,223 @@
+package com.flow.fileextension.domain.extension.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.policy.BlockPolicyHolder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("정책 변경 스트림 전송 테스트")
+class PolicyChangeBroadcasterTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final int MAX_PER_CLIENT = 2;
+    private static final String CLIENT = "addr:10.0.0.1";
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PolicyChangeBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (broadcaster != null) {
+            broadcaster.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("구독자는 접속 직후 버전 이벤트와 이후 변경 이벤트를 순서대로 받음")
+    void subscriber_ReceivesVersionThenChanges() throws Exception {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster = broadcaster(10, () -> emitter);
+        broadcaster.subscribe(CLIENT);
+
+        // when
+        broadcaster.onPolicyChanged(PolicyChangedEvent.added(Extension.createCustom("zip")));
+        broadcaster.onPolicyChanged(PolicyChangedEvent.blockChanged(Extension.createFixed("exe")));
+
+        // then
+        emitter.awaitSent(3);
+        assertThat(emitter.sent.get(0)).contains("event:version", "\"version\":\"7\"");
+        assertThat(emitter.sent.get(1)).contains("event:policy", "\"type\":\"ADDED\"", "\"extension\":\"zip\"");
+        assertThat(emitter.sent.get(2)).contains("\"type\":\"BLOCK_CHANGED\"", "\"extension\":\"exe\"");
+    }
+
+    @Test
+    @DisplayName("전송이 막힌 구독자는 큐가 가득 차면 끊고, 다른 구독자는 계속 받음")
+    void slowSubscriber_Shed() throws Exception {
+        // given
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>(List.of(slow, fast));
+        broadcaster = broadcaster(10, () -> emitters.remove(0));
+        broadcaster.subscribe(CLIENT);
+        broadcaster.subscribe(CLIENT);
+        slow.awaitBlocked();
+        fast.awaitSent(1);
+
+        // when (빠른 구독자는 이벤트마다 전송을 마치도록 기다려 큐가 쌓이지 않게 함)
+        for (int i = 0; i < QUEUE_CAPACITY + 1; i++) {
+            broadcaster.onPolicyChanged(PolicyChangedEvent.added(Extension.createCustom("ext" + i)));
+            fast.awaitSent(i + 2);
+        }
+
+        // then
+        assertThat(broadcaster.getShedCount()).isEqualTo(1);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        assertThat(fast.sent.get(QUEUE_CAPACITY + 1)).contains("\"extension\":\"ext" + QUEUE_CAPACITY + "\"");
+    }
+
+    @Test
+    @DisplayName("구독자 수 한도를 넘으면 503")
+    void subscribe_OverLimit() {
+        // given
+        broadcaster = broadcaster(1, () -> new RecordingEmitter(null));
+        broadcaster.subscribe(CLIENT);
+
+        // when & then
+        assertThatThrownBy(() -> broadcaster.subscribe("addr:10.0.0.2"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("503");
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 클라이언트의 연결 수 한도를 넘으면 429, 연결이 끊기면 다시 구독 가능")
+    void subscribe_OverPerClientLimit() throws Exception {
+        // given - 첫 연결은 전송이 막혀 있음
+        RecordingEmitter slow = new RecordingEmitter(release);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        RecordingEmitter other = new RecordingEmitter(null);
+        List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>(List.of(slow, fast, other));
+        broadcaster = broadcaster(10, () -> emitters.isEmpty() ? new RecordingEmitter(null) : emitters.remove(0));
+        for (int i = 0; i < MAX_PER_CLIENT; i++) {
+            broadcaster.subscribe(CLIENT);
+        }
+        slow.awaitBlocked();
+
+        // when & then - 다른 클라이언트는 영향 없음
+        assertThatThrownBy(() -> broadcaster.subscribe(CLIENT))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("429");
+        broadcaster.subscribe("addr:10.0.0.2");
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(MAX_PER_CLIENT + 1);
+        fast.awaitSent(1);
+        other.awaitSent(1);
+
+        // 막힌 연결이 큐가 가득 차 끊기면 자리가 반환됨
+        for (int i = 0; i < QUEUE_CAPACITY + 1; i++) {
+            broadcaster.onPolicyChanged(PolicyChangedEvent.added(Extension.createCustom("ext" + i)));
+            fast.awaitSent(i + 2);
+            other.awaitSent(i + 2);
+        }
+        assertThat(broadcaster.getShedCount()).isEqualTo(1);
+        broadcaster.subscribe(CLIENT);
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(MAX_PER_CLIENT + 1);
+    }
+
+    @Test
+    @DisplayName("동시에 구독해도 전체 연결 수 한도를 넘지 않음")
+    void concurrentSubscribe_NeverExceedsLimit() throws Exception {
+        // given
+        broadcaster = broadcaster(10, () -> new RecordingEmitter(null));
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        for (int i = 0; i < 32; i++) {
+            String client = "addr:10.0.1." + i;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    broadcaster.subscribe(client);
+                } catch (ResponseStatusException e) {
+                    rejected.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(10);
+        assertThat(rejected.get()).isEqualTo(22);
+    }
+
+    private PolicyChangeBroadcaster broadcaster(int maxSubscribers, Supplier<SseEmitter> emitters) {
+        BlockPolicyHolder holder = mock(BlockPolicyHolder.class);
+        given(holder.versionTag()).willReturn("7");
+        return new PolicyChangeBroadcaster(holder, new ObjectMapper(), new SimpleMeterRegistry(),
+                maxSubscribers, MAX_PER_CLIENT, QUEUE_CAPACITY, 60_000, 60_000) {
+            @Override
+            SseEmitter createEmitter() {
+                return emitters.get();
+            }
+        };
+    }
+
+    /**
+     * 보낸 이벤트를 문자열로 모으는 emitter (release 가 있으면 첫 전송에서 막힘)
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (release != null) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            builder.build().forEach(item -> text.append(item.getData()));
+            sent.add(text.toString());
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void awaitSent(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (sent.size() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(sent).hasSize(count);
+        }
+    }
+}
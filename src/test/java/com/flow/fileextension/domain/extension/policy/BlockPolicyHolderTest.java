@@ -0,0 +1,72 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.service.ExtensionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷은 커밋 이후에 교체되므로 트랜잭션 롤백 없이 실제 커밋으로 검증하고, 종료 시 원래 상태로 되돌린다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("차단 정책 스냅샷 테스트")
+class BlockPolicyHolderTest {
+
+    @Autowired
+    private BlockPolicyHolder blockPolicyHolder;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private ExtensionRepository extensionRepository;
+
+    private Extension scr;
+
+    @BeforeEach
+    void setUp() {
+        scr = extensionRepository.findByExtension("scr").orElseThrow();
+        extensionService.updateFixedExtensionBlockStatus(scr.getId(), false, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        extensionService.updateFixedExtensionBlockStatus(scr.getId(), scr.isBlocked(), null);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 스냅샷을 재사용")
+    void current_WithoutChange_ReusesSnapshot() {
+        // when
+        BlockPolicy first = blockPolicyHolder.current();
+        BlockPolicy second = blockPolicyHolder.current();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("차단 상태 변경 커밋 후 새 버전의 스냅샷으로 교체")
+    void current_AfterBlockStatusChange_SwapsSnapshot() {
+        // given
+        BlockPolicy before = blockPolicyHolder.current();
+        assertThat(before.findBlockedExtension("screen.scr")).isNull();
+
+        // when
+        extensionService.updateFixedExtensionBlockStatus(scr.getId(), true, null);
+        BlockPolicy after = blockPolicyHolder.current();
+
+        // then
+        assertThat(after.getVersion()).isGreaterThan(before.getVersion());
+        assertThat(after.findBlockedExtension("screen.SCR.txt")).isEqualTo("scr");
+    }
+}
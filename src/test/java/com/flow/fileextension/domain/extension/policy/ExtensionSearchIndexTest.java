@@ -0,0 +1,115 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.domain.extension.dto.ExtensionSearchHitDto;
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.event.PolicyChangedEvent;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("확장자 접두어 검색 색인 테스트")
+class ExtensionSearchIndexTest {
+
+    private final ExtensionRepository extensionRepository = mock(ExtensionRepository.class);
+    private ExtensionSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Extension exe = Extension.createFixed("exe");
+        exe.block();
+        given(extensionRepository.findAllWithoutUsers()).willReturn(List.of(
+                exe, Extension.createFixed("bat"), Extension.createCustom("pdf")));
+        index = new ExtensionSearchIndex(extensionRepository, List.of("exe", "epub", "pdf", "png"));
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 확장자를 이름 순으로, 등록 여부와 차단 여부와 함께 반환")
+    void search_ReturnsKindAndBlocked() {
+        // when
+        List<ExtensionSearchHitDto> hits = index.search("e", 10);
+
+        // then - exe 는 카탈로그에도 있지만 등록된 고정 확장자로 보임
+        assertThat(hits).extracting(ExtensionSearchHitDto::getExtension, ExtensionSearchHitDto::getKind, ExtensionSearchHitDto::isBlocked)
+                .containsExactly(
+                        tuple("epub", ExtensionSearchHitDto.Kind.KNOWN, false),
+                        tuple("exe", ExtensionSearchHitDto.Kind.FIXED, true));
+        assertThat(index.search("p", 10)).extracting(ExtensionSearchHitDto::getKind)
+                .containsExactly(ExtensionSearchHitDto.Kind.CUSTOM, ExtensionSearchHitDto.Kind.KNOWN);
+        assertThat(index.search("z", 10)).isEmpty();
+        assertThat(index.search("p", 1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("커밋된 변경 이벤트로 해당 항목만 반영 (삭제된 카탈로그 확장자는 미등록으로 돌아감)")
+    void onPolicyChanged_UpdatesIncrementally() {
+        // when
+        index.onPolicyChanged(PolicyChangedEvent.added(Extension.createCustom("zip")));
+        index.onPolicyChanged(PolicyChangedEvent.deleted(Extension.createCustom("pdf")));
+        index.onPolicyChanged(PolicyChangedEvent.of(PolicyChangedEvent.Type.BLOCK_CHANGED, 1L, "bat", true, true, null));
+        index.onPolicyChanged(PolicyChangedEvent.of(PolicyChangedEvent.Type.TENANT_RULE_CHANGED, 2L, "tmp", false, true, 7L));
+
+        // then
+        assertThat(index.search("zip", 10)).extracting(ExtensionSearchHitDto::getKind)
+                .containsExactly(ExtensionSearchHitDto.Kind.CUSTOM);
+        assertThat(index.search("pdf", 10)).extracting(ExtensionSearchHitDto::getKind)
+                .containsExactly(ExtensionSearchHitDto.Kind.KNOWN);
+        assertThat(index.search("bat", 10)).extracting(ExtensionSearchHitDto::isBlocked).containsExactly(true);
+        assertThat(index.search("tmp", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 리비전 이벤트는 더 새로운 상태를 덮어쓰거나 삭제된 확장자를 되살리지 않음")
+    void onPolicyChanged_IgnoresStaleRevisions() {
+        // given - zip 은 리비전 5에 추가, 6에 삭제 / bat 은 리비전 8에 차단
+        index.onPolicyChanged(PolicyChangedEvent.added(Extension.createCustom("zip")).withRevision(5));
+        index.onPolicyChanged(PolicyChangedEvent.deleted(Extension.createCustom("zip")).withRevision(6));
+        index.onPolicyChanged(PolicyChangedEvent.of(PolicyChangedEvent.Type.BLOCK_CHANGED, 1L, "bat", true, true, null)
+                .withRevision(8));
+
+        // when - 이전 리비전의 이벤트가 늦게 도착
+        index.onPolicyChanged(PolicyChangedEvent.added(Extension.createCustom("zip")).withRevision(5));
+        index.onPolicyChanged(PolicyChangedEvent.of(PolicyChangedEvent.Type.BLOCK_CHANGED, 1L, "bat", true, false, null)
+                .withRevision(7));
+
+        // then
+        assertThat(index.search("zip", 10)).isEmpty();
+        assertThat(index.search("bat", 10)).extracting(ExtensionSearchHitDto::isBlocked).containsExactly(true);
+        assertThat(index.size()).isEqualTo(5);
+
+        // 삭제 이후 리비전으로 다시 추가되면 반영
+        index.onPolicyChanged(PolicyChangedEvent.added(Extension.createCustom("zip")).withRevision(9));
+        assertThat(index.search("zip", 10)).extracting(ExtensionSearchHitDto::getKind)
+                .containsExactly(ExtensionSearchHitDto.Kind.CUSTOM);
+    }
+
+    @Test
+    @DisplayName("10만 개에서도 접두어 검색은 일치하는 구간만 읽음")
+    void search_LargeIndex() {
+        // given
+        List<Extension> extensions = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            extensions.add(Extension.createCustom("x" + i));
+        }
+        given(extensionRepository.findAllWithoutUsers()).willReturn(extensions);
+        index.rebuild();
+
+        // when
+        List<ExtensionSearchHitDto> hits = index.search("x9999", 20);
+
+        // then - x9999, x99990 ~ x99999 (이름 순)
+        assertThat(index.size()).isEqualTo(100_000 + 4);
+        assertThat(hits).hasSize(11);
+        assertThat(hits.get(0).getExtension()).isEqualTo("x9999");
+        assertThat(hits).allMatch(hit -> hit.getExtension().startsWith("x9999"));
+    }
+}
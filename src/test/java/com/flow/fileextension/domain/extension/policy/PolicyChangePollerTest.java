@@ -0,0 +1,94 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.FileExtensionBlockerApplication;
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.service.ExtensionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 H2 DB를 쓰는 애플리케이션 컨텍스트 두 개를 띄워, 한쪽의 정책 변경이 policy_change 기록을 통해
+ * 다른 쪽의 정책 캐시에 반영되는지 확인 (메시지 브로커 없이 DB만 공유)
+ */
+@DisplayName("인스턴스 간 정책 동기화 테스트")
+class PolicyChangePollerTest {
+
+    private static ConfigurableApplicationContext first;
+    private static ConfigurableApplicationContext second;
+
+    @BeforeAll
+    static void startInstances() {
+        first = start("create-drop");
+        // 두 번째 인스턴스는 첫 번째가 만든 스키마를 그대로 사용
+        second = start("none");
+    }
+
+    @AfterAll
+    static void stopInstances() {
+        if (second != null) {
+            second.close();
+        }
+        if (first != null) {
+            first.close();
+        }
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 차단 상태를 바꾸면 다른 인스턴스의 캐시된 정책이 갱신")
+    void blockChange_PropagatesToOtherInstance() throws Exception {
+        // given - 두 번째 인스턴스는 cmd 허용 정책을 캐시하고 있음
+        BlockPolicyHolder remoteHolder = second.getBean(BlockPolicyHolder.class);
+        ExtensionService extensionService = first.getBean(ExtensionService.class);
+        Extension cmd = first.getBean(ExtensionRepository.class).findByExtension("cmd").orElseThrow();
+        assertThat(remoteHolder.current().findBlockedExtension("run.cmd")).isNull();
+        long remoteVersion = remoteHolder.currentVersion();
+
+        // when
+        extensionService.updateFixedExtensionBlockStatus(cmd.getId(), true, null);
+
+        try {
+            // then
+            awaitBlocked(remoteHolder, "run.cmd", true);
+            assertThat(remoteHolder.currentVersion()).isGreaterThan(remoteVersion);
+            assertThat(second.getBean(PolicyChangePoller.class).getAppliedCount()).isGreaterThanOrEqualTo(1);
+            assertThat(second.getBean(MeterRegistry.class).get("policy.sync.lag").timer().count()).isGreaterThanOrEqualTo(1);
+            // 자기 인스턴스의 변경은 커밋 시점에 이미 반영했으므로 다시 반영하지 않음
+            assertThat(first.getBean(PolicyChangePoller.class).getAppliedCount()).isZero();
+        } finally {
+            extensionService.updateFixedExtensionBlockStatus(cmd.getId(), false, null);
+        }
+        awaitBlocked(remoteHolder, "run.cmd", false);
+    }
+
+    private static void awaitBlocked(BlockPolicyHolder holder, String filename, boolean blocked) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while ((holder.current().findBlockedExtension(filename) != null) != blocked
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(holder.current().findBlockedExtension(filename) != null).isEqualTo(blocked);
+    }
+
+    private static ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(FileExtensionBlockerApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:policy-sync;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "policy-sync.enabled=true",
+                        "policy-sync.poll-interval-ms=50",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")
+                .run();
+    }
+}
@@ -0,0 +1,135 @@
+package com.flow.fileextension.domain.extension.policy;
+
+import com.flow.fileextension.domain.extension.entity.TenantExtensionRule;
+import com.flow.fileextension.domain.extension.repository.TenantExtensionRuleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("조직별 차단 정책 테스트")
+class TenantPolicyRegistryTest {
+
+    private static final List<String> GLOBAL_BLOCKED = List.of("exe", "bat");
+
+    private final ExtensionCatalog catalog = new ExtensionCatalog();
+    private final BlockPolicyHolder holder = mock(BlockPolicyHolder.class);
+    private final TenantExtensionRuleRepository ruleRepository = mock(TenantExtensionRuleRepository.class);
+    private TenantPolicyRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        globalVersion(1);
+        given(ruleRepository.findByTenantId(1L)).willReturn(List.of(
+                TenantExtensionRule.of(1L, "exe", false),
+                TenantExtensionRule.of(1L, "zip", true)));
+        given(ruleRepository.findByTenantId(2L)).willReturn(List.of(TenantExtensionRule.of(2L, "rar", true)));
+        given(ruleRepository.findByTenantId(3L)).willReturn(List.of());
+        registry = new TenantPolicyRegistry(holder, catalog, ruleRepository, new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    @DisplayName("조직 규칙은 전역 정책 위에 덮어쓰고 다른 조직이나 전역 정책에는 영향 없음")
+    void tenantRules_OverrideGlobalPolicy() {
+        // when
+        BlockPolicy tenant = registry.current(1L);
+        BlockPolicy global = registry.current(null);
+
+        // then
+        assertThat(tenant.findBlockedExtension("setup.exe")).isNull();
+        assertThat(tenant.findBlockedExtension("backup.tar.zip")).isEqualTo("zip");
+        assertThat(tenant.findBlockedExtension("run.bat")).isEqualTo("bat");
+        assertThat(global.findBlockedExtension("setup.exe")).isEqualTo("exe");
+        assertThat(global.findBlockedExtension("backup.zip")).isNull();
+        assertThat(registry.current(2L).findBlockedExtension("backup.zip")).isNull();
+        // 조직 정책 하나는 카탈로그 id 비트셋 (문자열 집합이 아님)
+        assertThat(tenant.sizeInBytes()).isLessThanOrEqualTo(Long.BYTES);
+    }
+
+    @Test
+    @DisplayName("컴파일한 조직 정책은 전역 버전이 바뀔 때까지 재사용")
+    void compiledPolicy_ReusedUntilVersionChanges() {
+        // when
+        BlockPolicy first = registry.current(1L);
+        BlockPolicy second = registry.current(1L);
+        globalVersion(2);
+        BlockPolicy afterChange = registry.current(1L);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(afterChange).isNotSameAs(first);
+        assertThat(afterChange.getVersion()).isEqualTo(2);
+        verify(ruleRepository, times(2)).findByTenantId(1L);
+    }
+
+    @Test
+    @DisplayName("cache-size 를 넘으면 가장 오래 쓰지 않은 조직 정책부터 제거")
+    void leastRecentlyUsedTenant_Evicted() {
+        // when - 용량 2: 1, 2 보관 → 1 사용 → 3 추가 시 2 제거
+        registry.current(1L);
+        registry.current(2L);
+        registry.current(1L);
+        registry.current(3L);
+        registry.current(2L);
+
+        // then
+        assertThat(registry.getCachedCount()).isEqualTo(2);
+        verify(ruleRepository, times(1)).findByTenantId(1L);
+        verify(ruleRepository, times(2)).findByTenantId(2L);
+    }
+
+    @Test
+    @DisplayName("조직 규칙 변경은 그 조직의 정책만 다시 컴파일하고 전역 버전과 다른 조직은 그대로")
+    void invalidateTenant_EvictsOnlyThatTenant() {
+        // given
+        BlockPolicy tenant1 = registry.current(1L);
+        BlockPolicy tenant2 = registry.current(2L);
+        given(ruleRepository.findByTenantId(1L)).willReturn(List.of(TenantExtensionRule.of(1L, "exe", false)));
+
+        // when
+        registry.invalidate(1L);
+
+        // then
+        BlockPolicy recompiled = registry.current(1L);
+        assertThat(recompiled).isNotSameAs(tenant1);
+        assertThat(recompiled.findBlockedExtension("backup.zip")).isNull();
+        assertThat(recompiled.getVersion()).isEqualTo(1);
+        assertThat(registry.tenantVersion(1L)).isEqualTo(1);
+        assertThat(registry.current(2L)).isSameAs(tenant2);
+        verify(holder, never()).invalidate();
+    }
+
+    @Test
+    @DisplayName("카탈로그가 압축된 뒤에도 이전 카탈로그의 전역 정책 위에 조직 규칙을 올바르게 덮어씀")
+    void compactedCatalog_TenantPolicyStillCorrect() {
+        // given - 전역 정책은 압축 전 카탈로그(exe, bat, 그리고 더는 쓰이지 않는 old)로 컴파일됨
+        catalog.intern(List.of("old"));
+        globalVersion(2);
+
+        // when - 전역 정책 재로딩 때처럼 살아 있는 확장자만 남기고, 순서도 바뀜
+        ExtensionCatalog.Snapshot compacted = catalog.compact(List.of("zip", "bat"));
+        BlockPolicy tenant = registry.current(1L);
+
+        // then
+        assertThat(compacted.idOf("old")).isEqualTo(-1);
+        assertThat(tenant.findBlockedExtension("setup.exe")).isNull();
+        assertThat(tenant.findBlockedExtension("run.bat")).isEqualTo("bat");
+        assertThat(tenant.findBlockedExtension("backup.zip")).isEqualTo("zip");
+        assertThat(catalog.compact(List.of("bat", "zip", "exe"))).isSameAs(catalog.snapshot());
+    }
+
+    private void globalVersion(long version) {
+        BlockPolicy global = BlockPolicy.compile(version, catalog.intern(GLOBAL_BLOCKED), GLOBAL_BLOCKED);
+        given(holder.current()).willReturn(global);
+        given(holder.currentVersion()).willReturn(version);
+    }
+}
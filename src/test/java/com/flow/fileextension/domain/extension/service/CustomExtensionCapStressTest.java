@@ -0,0 +1,218 @@
+package com.flow.fileextension.domain.extension.service;
+
+import com.flow.fileextension.domain.extension.dto.PolicyApplyRequestDto;
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.global.constants.ErrorMessages;
+import com.flow.fileextension.global.exception.ConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 동시에 커스텀 확장자를 추가해도 최대 개수와 중복 제약이 지켜지는지 실제 커밋으로 검증하고, 종료 시 테스트에서 추가한 확장자를 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("커스텀 확장자 최대 개수 동시성 테스트")
+class CustomExtensionCapStressTest {
+
+    private static final int WRITERS = 64;
+    private static final int FREE_SLOTS = 10;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private ExtensionRepository extensionRepository;
+
+    @Autowired
+    private CustomExtensionQuota customExtensionQuota;
+
+    private Set<Long> existingIds;
+
+    @BeforeEach
+    void setUp() {
+        existingIds = extensionRepository.findByIsFixedFalse().stream()
+                .map(Extension::getId)
+                .collect(Collectors.toSet());
+    }
+
+    @AfterEach
+    void tearDown() {
+        List<Long> ids = extensionRepository.findByIsFixedFalse().stream()
+                .map(Extension::getId)
+                .filter(id -> !existingIds.contains(id))
+                .collect(Collectors.toList());
+        if (!ids.isEmpty()) {
+            extensionService.deleteCustomExtensions(ids, null);
+        }
+    }
+
+    @Test
+    @DisplayName("남은 자리보다 많은 요청이 동시에 추가해도 정확히 최대 개수까지만 추가됨")
+    void concurrentAdds_NeverExceedLimit() throws Exception {
+        // given - 최대 개수보다 FREE_SLOTS 개 적게 채움
+        long existing = extensionRepository.countByIsFixedFalse();
+        for (int i = 0; i < customExtensionQuota.getMaxCount() - FREE_SLOTS - existing; i++) {
+            extensionService.addCustomExtension("pre" + i, (Long) null);
+        }
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // when - 서로 다른 이름으로 동시에 추가
+        Queue<Throwable> errors = runConcurrently(index -> {
+            try {
+                extensionService.addCustomExtension("cap" + index, (Long) null);
+                successes.incrementAndGet();
+            } catch (IllegalStateException e) {
+                assertThat(e).hasMessage(customExtensionQuota.exceeded().getMessage());
+                rejected.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(errors).isEmpty();
+        assertThat(successes.get()).isEqualTo(FREE_SLOTS);
+        assertThat(rejected.get()).isEqualTo(WRITERS - FREE_SLOTS);
+        assertThat(extensionRepository.countByIsFixedFalse()).isEqualTo(customExtensionQuota.getMaxCount());
+    }
+
+    @Test
+    @DisplayName("같은 확장자를 동시에 추가하면 하나만 성공하고 나머지는 중복 예외")
+    void concurrentDuplicateAdds_OnlyOneSucceeds() throws Exception {
+        // given
+        long existing = extensionRepository.countByIsFixedFalse();
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+
+        // when
+        Queue<Throwable> errors = runConcurrently(index -> {
+            try {
+                extensionService.addCustomExtension("race", (Long) null);
+                successes.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage()).startsWith(ErrorMessages.EXTENSION_DUPLICATE);
+                duplicates.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(errors).isEmpty();
+        assertThat(successes.get()).isEqualTo(1);
+        assertThat(duplicates.get()).isEqualTo(WRITERS - 1);
+        assertThat(extensionRepository.countByIsFixedFalse()).isEqualTo(existing + 1);
+        // 실패한 추가가 확보한 자리는 롤백으로 함께 반환되어 남은 자리를 모두 쓸 수 있음
+        for (long i = existing + 1; i < customExtensionQuota.getMaxCount(); i++) {
+            extensionService.addCustomExtension("fill" + i, (Long) null);
+        }
+        assertThat(extensionRepository.countByIsFixedFalse()).isEqualTo(customExtensionQuota.getMaxCount());
+    }
+
+    @Test
+    @DisplayName("같은 확장자들을 동시에 일괄 삭제하면 하나만 성공하고 카운터는 실제 개수와 같음")
+    void concurrentBulkDeletes_CounterStaysExact() throws Exception {
+        // given
+        long existing = extensionRepository.countByIsFixedFalse();
+        long counterBefore = customExtensionQuota.currentCount();
+        List<Long> ids = List.of(
+                extensionService.addCustomExtension("bulk0", (Long) null).getId(),
+                extensionService.addCustomExtension("bulk1", (Long) null).getId(),
+                extensionService.addCustomExtension("bulk2", (Long) null).getId());
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // when
+        Queue<Throwable> errors = runConcurrently(index -> {
+            try {
+                extensionService.deleteCustomExtensions(ids, null);
+                successes.incrementAndGet();
+            } catch (ConflictException e) {
+                conflicts.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                // 앞선 삭제가 커밋된 뒤 조회하면 대상이 없음
+                assertThat(e.getMessage()).startsWith(ErrorMessages.EXTENSION_NOT_FOUND);
+                conflicts.incrementAndGet();
+            }
+        });
+
+        // then
+        assertThat(errors).isEmpty();
+        assertThat(successes.get()).isEqualTo(1);
+        assertThat(conflicts.get()).isEqualTo(WRITERS - 1);
+        assertThat(extensionRepository.countByIsFixedFalse()).isEqualTo(existing);
+        assertThat(customExtensionQuota.currentCount()).isEqualTo(counterBefore);
+    }
+
+    @Test
+    @DisplayName("정책 일괄 적용과 단건 추가가 동시에 실행되어도 카운터는 실제 개수와 같게 유지됨")
+    void concurrentApplyAndAdd_CounterStaysExact() throws Exception {
+        // given - 현재 상태 그대로에 applied 를 더하거나 뺀 두 가지 원하는 상태
+        long existing = extensionRepository.countByIsFixedFalse();
+        long counterBefore = customExtensionQuota.currentCount();
+        List<PolicyApplyRequestDto.Entry> current = new ArrayList<>();
+        extensionRepository.findAll().forEach(extension ->
+                current.add(new PolicyApplyRequestDto.Entry(extension.getExtension(), extension.isBlocked())));
+        List<PolicyApplyRequestDto.Entry> withApplied = new ArrayList<>(current);
+        withApplied.add(new PolicyApplyRequestDto.Entry("applied", true));
+
+        // when
+        Queue<Throwable> errors = runConcurrently(index -> {
+            try {
+                if (index % 2 == 1) {
+                    extensionService.addCustomExtension("solo" + index, (Long) null);
+                } else {
+                    List<PolicyApplyRequestDto.Entry> desired = index % 4 == 0 ? withApplied : current;
+                    extensionService.applyPolicy(new PolicyApplyRequestDto(desired), false, false, null);
+                }
+            } catch (ConflictException | IllegalArgumentException | IllegalStateException e) {
+                // 먼저 커밋된 변경과 겹친 요청은 롤백됨
+            }
+        });
+
+        // then
+        assertThat(errors).isEmpty();
+        assertThat(customExtensionQuota.currentCount() - counterBefore)
+                .isEqualTo(extensionRepository.countByIsFixedFalse() - existing);
+    }
+
+    private Queue<Throwable> runConcurrently(IntConsumer task) throws InterruptedException {
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        for (int t = 0; t < WRITERS; t++) {
+            int index = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    task.accept(index);
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        return errors;
+    }
+}
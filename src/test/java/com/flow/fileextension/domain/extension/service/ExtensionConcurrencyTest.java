@@ -0,0 +1,106 @@
+package com.flow.fileextension.domain.extension.service;
+
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.global.exception.ConflictException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 스레드가 같은 행을 동시에 토글해도 갱신이 사라지지 않는지 실제 커밋으로 검증하고, 종료 시 원래 상태로 되돌린다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("확장자 동시 수정 테스트")
+class ExtensionConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int ATTEMPTS_PER_THREAD = 20;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private ExtensionRepository extensionRepository;
+
+    private List<Extension> targets;
+
+    @BeforeEach
+    void setUp() {
+        targets = List.of(
+                extensionRepository.findByExtension("com").orElseThrow(),
+                extensionRepository.findByExtension("cpl").orElseThrow());
+    }
+
+    @AfterEach
+    void tearDown() {
+        targets.forEach(target -> extensionService.updateBlockStatus(target.getId(), target.isBlocked(), null, null));
+    }
+
+    @Test
+    @DisplayName("같은 버전으로 동시에 바꾸면 하나만 성공하고 나머지는 충돌, 성공한 변경은 모두 반영")
+    void concurrentToggles_NoLostUpdates() throws Exception {
+        // given
+        Map<Long, AtomicInteger> successes = new ConcurrentHashMap<>();
+        targets.forEach(target -> successes.put(target.getId(), new AtomicInteger()));
+        AtomicInteger conflicts = new AtomicInteger();
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // when - 각 스레드가 현재 상태를 읽고 그 버전 기준으로 반대 상태로 바꿈
+        for (int t = 0; t < THREADS; t++) {
+            Extension target = targets.get(t % targets.size());
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+                        Extension current = extensionRepository.findById(target.getId()).orElseThrow();
+                        try {
+                            extensionService.updateBlockStatus(
+                                    current.getId(), !current.isBlocked(), current.getVersion(), null);
+                            successes.get(target.getId()).incrementAndGet();
+                        } catch (ConflictException e) {
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        // then - 성공 횟수만큼 버전이 오르고, 차단 상태는 성공 횟수의 홀짝으로 결정됨
+        assertThat(errors).isEmpty();
+        int total = successes.values().stream().mapToInt(AtomicInteger::get).sum();
+        assertThat(total + conflicts.get()).isEqualTo(THREADS * ATTEMPTS_PER_THREAD);
+        for (Extension target : targets) {
+            int applied = successes.get(target.getId()).get();
+            Extension result = extensionRepository.findById(target.getId()).orElseThrow();
+            assertThat(applied).isPositive();
+            assertThat(result.getVersion()).isEqualTo(target.getVersion() + applied);
+            assertThat(result.isBlocked()).isEqualTo(target.isBlocked() ^ (applied % 2 == 1));
+        }
+    }
+}
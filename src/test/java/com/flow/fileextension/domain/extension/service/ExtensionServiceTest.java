@@ -1,8 +1,20 @@
 package com.flow.fileextension.domain.extension.service;
 
+import com.flow.fileextension.domain.extension.dto.BulkMutationResponseDto;
+import com.flow.fileextension.domain.extension.dto.CustomExtensionPageDto;
+import com.flow.fileextension.domain.extension.dto.ExtensionResponseDto;
+import com.flow.fileextension.domain.extension.dto.PolicyApplyRequestDto;
+import com.flow.fileextension.domain.extension.dto.PolicyDiffDto;
+import com.flow.fileextension.domain.extension.dto.PolicySnapshotDto;
+import com.flow.fileextension.domain.extension.entity.CustomExtensionCounter;
 import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.CustomExtensionCounterRepository;
 import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
 import com.flow.fileextension.global.constants.ErrorMessages;
+import com.flow.fileextension.global.exception.ConflictException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +23,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -27,6 +40,12 @@ class ExtensionServiceTest {
     @Autowired
     private ExtensionRepository extensionRepository;
 
+    @Autowired
+    private CustomExtensionCounterRepository customExtensionCounterRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     @BeforeEach
     void setUp() {
         // 커스텀 확장자만 삭제 (고정 확장자는 유지)
@@ -124,9 +143,9 @@ class ExtensionServiceTest {
     @DisplayName("커스텀 확장자 200개 제한 검증")
     void addCustomExtension_ExceedsLimit_ThrowsException() {
         // given
+        // 개수는 카운터 행으로 관리되므로 서비스를 통해 채움
         for (int i = 0; i < 200; i++) {
-            Extension custom = Extension.createCustom("ext" + i);
-            extensionRepository.save(custom);
+            extensionService.addCustomExtension("ext" + i, (Long) null);
         }
         Long userId = 1L;
 
@@ -200,4 +219,342 @@ class ExtensionServiceTest {
         extensionRepository.save(result2);
         assertThat(result2.getExtension()).isEqualTo("jpg");
     }
+
+    @Test
+    @DisplayName("정책 스냅샷 - sinceVersion 없으면 전체 목록")
+    void getSnapshot_Full() {
+        // given
+        extensionService.addCustomExtension("zip", (Long) null);
+
+        // when
+        PolicySnapshotDto snapshot = extensionService.getSnapshot(null);
+
+        // then
+        assertThat(snapshot.isFull()).isTrue();
+        assertThat(snapshot.getDeleted()).isEmpty();
+        assertThat(snapshot.getExtensions())
+                .extracting(ExtensionResponseDto::getExtension)
+                .contains("exe", "zip");
+    }
+
+    @Test
+    @DisplayName("정책 스냅샷 - sinceVersion 이후 추가/변경/삭제분만 반환")
+    void getSnapshot_Delta() {
+        // given
+        Extension removed = extensionService.addCustomExtension("rar", (Long) null);
+        long since = extensionService.getSnapshot(null).getVersion();
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+
+        // when
+        extensionService.addCustomExtension("zip", (Long) null);
+        extensionService.updateFixedExtensionBlockStatus(exe.getId(), true, null);
+        extensionService.deleteCustomExtension(removed.getId());
+        PolicySnapshotDto delta = extensionService.getSnapshot(since);
+
+        // then
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(since + 3);
+        assertThat(delta.getExtensions())
+                .extracting(ExtensionResponseDto::getExtension)
+                .containsExactlyInAnyOrder("zip", "exe");
+        assertThat(delta.getDeleted())
+                .extracting(PolicySnapshotDto.DeletedExtension::getId)
+                .containsExactly(removed.getId());
+    }
+
+    @Test
+    @DisplayName("정책 스냅샷 - 최신 버전이면 빈 변경분, 알 수 없는 버전이면 전체 목록")
+    void getSnapshot_UpToDateOrUnknownVersion() {
+        // given
+        long version = extensionService.getSnapshot(null).getVersion();
+
+        // when
+        PolicySnapshotDto upToDate = extensionService.getSnapshot(version);
+        PolicySnapshotDto unknown = extensionService.getSnapshot(version + 100);
+
+        // then
+        assertThat(upToDate.isFull()).isFalse();
+        assertThat(upToDate.getExtensions()).isEmpty();
+        assertThat(upToDate.getDeleted()).isEmpty();
+        assertThat(unknown.isFull()).isTrue();
+        assertThat(unknown.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("정책 스냅샷 - 삭제 기록이 정리된 리비전보다 오래된 버전이면 전체 목록")
+    void getSnapshot_AfterTombstonePurge() {
+        // given
+        long since = extensionService.getSnapshot(null).getVersion();
+        Extension removed = extensionService.addCustomExtension("rar", (Long) null);
+        extensionService.deleteCustomExtension(removed.getId());
+        long version = extensionService.getSnapshot(null).getVersion();
+
+        // when
+        int purged = extensionService.purgeTombstones(LocalDateTime.now().plusMinutes(1));
+        PolicySnapshotDto stale = extensionService.getSnapshot(since);
+        PolicySnapshotDto upToDate = extensionService.getSnapshot(version);
+
+        // then
+        assertThat(purged).isGreaterThanOrEqualTo(1);
+        assertThat(stale.isFull()).isTrue();
+        assertThat(stale.getExtensions())
+                .extracting(ExtensionResponseDto::getExtension)
+                .doesNotContain("rar");
+        assertThat(upToDate.isFull()).isFalse();
+    }
+
+    @Test
+    @DisplayName("정책 일괄 적용 - 차이만 반영하고 리비전 하나로 기록")
+    void applyPolicy_AppliesMinimalDiff() {
+        // given - 커스텀 rar, pdf 가 있고 고정 확장자는 모두 허용
+        Extension rar = extensionService.addCustomExtension("rar", (Long) null);
+        extensionService.addCustomExtension("pdf", (Long) null);
+        long since = extensionService.getSnapshot(null).getVersion();
+        PolicyApplyRequestDto request = new PolicyApplyRequestDto(List.of(
+                new PolicyApplyRequestDto.Entry("EXE", true),
+                new PolicyApplyRequestDto.Entry("pdf", null),
+                new PolicyApplyRequestDto.Entry("zip", null)));
+
+        // when
+        PolicyDiffDto diff = extensionService.applyPolicy(request, false, false, null);
+
+        // then
+        assertThat(diff.getAdded()).containsExactly("zip");
+        assertThat(diff.getDeleted()).containsExactly("rar");
+        assertThat(diff.getBlocked()).containsExactly("exe");
+        assertThat(diff.getUnblocked()).isEmpty();
+        assertThat(diff.getVersion()).isEqualTo(since + 1);
+        assertThat(extensionRepository.findByExtension("exe").orElseThrow().isBlocked()).isTrue();
+        assertThat(extensionRepository.findByExtension("rar")).isEmpty();
+        assertThat(extensionRepository.findByExtension("zip").orElseThrow().isBlocked()).isTrue();
+
+        PolicySnapshotDto delta = extensionService.getSnapshot(since);
+        assertThat(delta.getExtensions())
+                .extracting(ExtensionResponseDto::getExtension)
+                .containsExactlyInAnyOrder("exe", "zip");
+        assertThat(delta.getDeleted())
+                .extracting(PolicySnapshotDto.DeletedExtension::getId)
+                .containsExactly(rar.getId());
+    }
+
+    @Test
+    @DisplayName("정책 일괄 적용 - dryRun 이면 차이만 계산하고 반영하지 않음")
+    void applyPolicy_DryRun() {
+        // given
+        extensionService.addCustomExtension("rar", (Long) null);
+        long version = extensionService.getSnapshot(null).getVersion();
+        PolicyApplyRequestDto request = PolicyApplyRequestDto.fromCsv("extension,blocked\nexe,true\n# 주석\nzip\n");
+
+        // when
+        PolicyDiffDto diff = extensionService.applyPolicy(request, true, false, null);
+
+        // then
+        assertThat(diff.isDryRun()).isTrue();
+        assertThat(diff.getVersion()).isEqualTo(version);
+        assertThat(diff.getAdded()).containsExactly("zip");
+        assertThat(diff.getDeleted()).containsExactly("rar");
+        assertThat(diff.getBlocked()).containsExactly("exe");
+        assertThat(extensionRepository.findByExtension("rar")).isPresent();
+        assertThat(extensionRepository.findByExtension("zip")).isEmpty();
+        assertThat(extensionService.getSnapshot(null).getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    @DisplayName("정책 일괄 적용 - 같은 확장자가 두 번 있으면 예외")
+    void applyPolicy_DuplicateEntry_ThrowsException() {
+        // given
+        PolicyApplyRequestDto request = PolicyApplyRequestDto.fromCsv("zip\nZIP,false");
+
+        // when & then
+        assertThatThrownBy(() -> extensionService.applyPolicy(request, false, false, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ErrorMessages.POLICY_DUPLICATE_ENTRY);
+    }
+
+    @Test
+    @DisplayName("정책 일괄 적용 - 빈 목록은 clearAll 없이는 예외, clearAll 이면 커스텀 확장자 전체 삭제")
+    void applyPolicy_EmptyEntries_RequiresClearAll() {
+        // given
+        extensionRepository.save(Extension.createCustom("rar"));
+        PolicyApplyRequestDto request = PolicyApplyRequestDto.fromCsv("extension,blocked\n");
+
+        // when & then
+        assertThat(request.getExtensions()).isEmpty();
+        assertThatThrownBy(() -> extensionService.applyPolicy(request, false, false, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.POLICY_ENTRIES_REQUIRED);
+        assertThat(extensionRepository.findByExtension("rar")).isPresent();
+
+        PolicyDiffDto diff = extensionService.applyPolicy(request, false, true, null);
+        assertThat(diff.getDeleted()).contains("rar");
+        assertThat(extensionRepository.countByIsFixedFalse()).isZero();
+    }
+
+    @Test
+    @DisplayName("고정 확장자 차단 상태 일괄 변경 - 바뀌는 확장자만 리비전 하나로 반영")
+    void updateBlockStatuses_Success() {
+        // given
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+        Extension bat = extensionRepository.findByExtension("bat").orElseThrow();
+        extensionService.updateFixedExtensionBlockStatus(bat.getId(), true, null);
+        long version = extensionService.getSnapshot(null).getVersion();
+
+        // when
+        BulkMutationResponseDto result = extensionService.updateBlockStatuses(List.of(exe.getId(), bat.getId()), true, null);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(version + 1);
+        assertThat(result.getCount()).isEqualTo(1);
+        assertThat(extensionRepository.findById(exe.getId()).orElseThrow().isBlocked()).isTrue();
+        assertThat(extensionService.getSnapshot(version).getExtensions())
+                .extracting(ExtensionResponseDto::getExtension)
+                .containsExactly("exe");
+    }
+
+    @Test
+    @DisplayName("고정 확장자 차단 상태 일괄 변경 - 커스텀이나 없는 id 가 섞이면 예외")
+    void updateBlockStatuses_InvalidIds_ThrowsException() {
+        // given
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+        Extension zip = extensionService.addCustomExtension("zip", (Long) null);
+
+        // when & then
+        assertThatThrownBy(() -> extensionService.updateBlockStatuses(List.of(exe.getId(), zip.getId()), true, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(ErrorMessages.EXTENSION_FIXED_ONLY);
+        assertThatThrownBy(() -> extensionService.updateBlockStatuses(List.of(exe.getId(), 999_999L), true, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(ErrorMessages.EXTENSION_NOT_FOUND);
+        assertThat(extensionRepository.findById(exe.getId()).orElseThrow().isBlocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("커스텀 확장자 일괄 삭제 - DELETE 한 번에 삭제 기록까지 남김")
+    void deleteCustomExtensions_Success() {
+        // given
+        Extension zip = extensionService.addCustomExtension("zip", (Long) null);
+        Extension rar = extensionService.addCustomExtension("rar", (Long) null);
+        extensionService.addCustomExtension("pdf", (Long) null);
+        long version = extensionService.getSnapshot(null).getVersion();
+
+        // when
+        BulkMutationResponseDto result = extensionService.deleteCustomExtensions(List.of(zip.getId(), rar.getId()), null);
+
+        // then
+        assertThat(result.getVersion()).isEqualTo(version + 1);
+        assertThat(result.getCount()).isEqualTo(2);
+        assertThat(extensionService.getCustomExtensions())
+                .extracting(Extension::getExtension)
+                .containsExactly("pdf");
+        assertThat(extensionService.getSnapshot(version).getDeleted())
+                .extracting(PolicySnapshotDto.DeletedExtension::getId)
+                .containsExactlyInAnyOrder(zip.getId(), rar.getId());
+    }
+
+    @Test
+    @DisplayName("고정 확장자 차단 상태 변경 - 읽은 버전이 이미 바뀌었으면 현재 상태와 함께 충돌")
+    void updateBlockStatus_StaleVersion_ThrowsConflict() {
+        // given
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+        long readVersion = exe.getVersion();
+        ExtensionResponseDto first = extensionService.updateBlockStatus(exe.getId(), true, readVersion, null);
+
+        // when & then - 같은 버전을 기준으로 한 두 번째 변경은 반영되지 않음
+        assertThat(first.getVersion()).isEqualTo(readVersion + 1);
+        assertThatThrownBy(() -> extensionService.updateBlockStatus(exe.getId(), false, readVersion, null))
+                .isInstanceOf(ConflictException.class)
+                .satisfies(e -> {
+                    ExtensionResponseDto current = (ExtensionResponseDto) ((ConflictException) e).getCurrent();
+                    assertThat(current.isBlocked()).isTrue();
+                    assertThat(current.getVersion()).isEqualTo(readVersion + 1);
+                });
+    }
+
+    @Test
+    @DisplayName("고정 확장자 차단 상태 변경 - 확장자 행은 조건부 UPDATE 와 결과 조회 두 문장")
+    void updateBlockStatus_StatementCount() {
+        // given
+        Extension exe = extensionRepository.findByExtension("exe").orElseThrow();
+        entityManager.flush();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            // when
+            extensionService.updateBlockStatus(exe.getId(), true, exe.getVersion(), null);
+
+            // then - 리비전 UPDATE/SELECT 2개 + 확장자 조건부 UPDATE/SELECT 2개 + 변경 기록 INSERT 1개
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(5);
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    @DisplayName("커스텀 확장자 키셋 페이지 - cursor 로 이어서 끝까지 조회")
+    void getCustomExtensionPage_WalksAllPages() {
+        // given
+        long before = extensionService.getCustomExtensionPage(null, null, null, 1).getCustomCount();
+        List.of("pdf", "zip", "hwp", "png", "txt").forEach(name -> extensionService.addCustomExtension(name, (Long) null));
+
+        // when
+        CustomExtensionPageDto first = extensionService.getCustomExtensionPage(null, null, null, 2);
+        CustomExtensionPageDto second = extensionService.getCustomExtensionPage(first.getNextCursor(), null, null, 2);
+        CustomExtensionPageDto last = extensionService.getCustomExtensionPage(second.getNextCursor(), null, null, 2);
+
+        // then - 확장자명 순, 마지막 페이지는 nextCursor 없음
+        assertThat(first.getItems()).extracting(ExtensionResponseDto::getExtension).containsExactly("hwp", "pdf");
+        assertThat(second.getItems()).extracting(ExtensionResponseDto::getExtension).containsExactly("png", "txt");
+        assertThat(last.getItems()).extracting(ExtensionResponseDto::getExtension).containsExactly("zip");
+        assertThat(first.getNextCursor()).isEqualTo("pdf");
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(first.getCustomCount()).isEqualTo(before + 5);
+        assertThat(first.getMaxCount()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("커스텀 확장자 키셋 페이지 - 접두어와 차단 여부로 필터")
+    void getCustomExtensionPage_Filters() {
+        // given
+        extensionRepository.save(Extension.createCustom("xls"));
+        extensionRepository.save(Extension.createCustomUnblocked("xlsx"));
+        extensionRepository.save(Extension.createCustom("doc"));
+
+        // when
+        CustomExtensionPageDto byPrefix = extensionService.getCustomExtensionPage(null, "XL", null, 10);
+        CustomExtensionPageDto unblocked = extensionService.getCustomExtensionPage(null, null, false, 10);
+
+        // then - 고정 확장자(exe 등)는 포함되지 않음
+        assertThat(byPrefix.getItems()).extracting(ExtensionResponseDto::getExtension).containsExactly("xls", "xlsx");
+        assertThat(unblocked.getItems()).extracting(ExtensionResponseDto::getExtension).containsExactly("xlsx");
+    }
+
+    @Test
+    @DisplayName("커스텀 확장자 키셋 페이지 - 페이지 크기 범위 밖이면 예외")
+    void getCustomExtensionPage_InvalidSize_ThrowsException() {
+        assertThatThrownBy(() -> extensionService.getCustomExtensionPage(null, null, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> extensionService.getCustomExtensionPage(null, null, null, 501))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("카운터가 실제 개수보다 작게 어긋나 있으면 삭제 시 음수로 내리지 않고 실제 개수로 다시 맞춤")
+    void deleteCustomExtension_CounterDrift_Reconciles() {
+        // given - 카운터를 거치지 않고 2개 추가해 카운터(0)가 실제 개수(2)보다 작음
+        customExtensionCounterRepository.reset(CustomExtensionCounter.ID, 0);
+        Extension pdf = extensionRepository.save(Extension.createCustom("pdf"));
+        extensionRepository.save(Extension.createCustom("jpg"));
+
+        // when
+        extensionService.deleteCustomExtension(pdf.getId(), null);
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(extensionRepository.countByIsFixedFalse()).isEqualTo(1);
+        assertThat(customExtensionCounterRepository.findById(CustomExtensionCounter.ID))
+                .get().extracting(CustomExtensionCounter::getCustomCount).isEqualTo(1L);
+    }
 }
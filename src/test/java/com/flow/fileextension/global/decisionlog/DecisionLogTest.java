@@ -0,0 +1,155 @@
+package com.flow.fileextension.global.decisionlog;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("판정 기록 테스트")
+class DecisionLogTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @TempDir
+    Path directory;
+
+    private DecisionLog decisionLog;
+
+    @AfterEach
+    void tearDown() {
+        if (decisionLog != null) {
+            decisionLog.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("drop: 버퍼가 가득 차면 버리고 dropped 카운터 증가")
+    void dropWhenFull() throws Exception {
+        // given (기록 스레드를 시작하지 않아 버퍼가 비워지지 않음)
+        decisionLog = create(4, FullPolicy.DROP, 1L << 20, 1);
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            decisionLog.record(FileCheckResultDto.allowed("file" + i + ".txt"), 1);
+        }
+        decisionLog.start();
+        decisionLog.stop();
+
+        // then
+        assertThat(decisionLog.getDroppedCount()).isEqualTo(2);
+        assertThat(registry.get("decision.log.dropped").functionCounter().count()).isEqualTo(2);
+        assertThat(lines(directory.resolve("decisions.jsonl")))
+                .extracting(node -> node.get("filename").asText())
+                .containsExactly("file0.txt", "file1.txt", "file2.txt", "file3.txt");
+    }
+
+    @Test
+    @DisplayName("block: 여러 스레드가 동시에 기록해도 유실 없이 모두 기록")
+    void blockWhenFull_NoLoss() throws Exception {
+        // given
+        decisionLog = create(8, FullPolicy.BLOCK, 1L << 20, 1);
+        decisionLog.start();
+
+        // when
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(producers.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        decisionLog.record(FileCheckResultDto.blocked("t" + thread + "-" + i + ".exe", "exe"), 7);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            producers.shutdown();
+        }
+        decisionLog.stop();
+
+        // then
+        assertThat(decisionLog.getDroppedCount()).isZero();
+        assertThat(decisionLog.getWrittenCount()).isEqualTo(2000);
+        List<JsonNode> lines = lines(directory.resolve("decisions.jsonl"));
+        assertThat(lines).hasSize(2000);
+        assertThat(lines).allSatisfy(node -> {
+            assertThat(node.get("blocked").asBoolean()).isTrue();
+            assertThat(node.get("matchedExtension").asText()).isEqualTo("exe");
+            assertThat(node.get("policyVersion").asLong()).isEqualTo(7);
+        });
+    }
+
+    @Test
+    @DisplayName("특수 문자가 들어간 파일명도 올바른 JSON 한 줄로 기록")
+    void escapesFilename() throws Exception {
+        // given
+        decisionLog = create(4, FullPolicy.DROP, 1L << 20, 1);
+        String filename = "a\"b\\c\nd\u0001.zip";
+
+        // when
+        decisionLog.record(FileCheckResultDto.blockedInArchive(filename, "exe", "inner/setup.exe", "blocked-entry"), 3);
+        decisionLog.start();
+        decisionLog.stop();
+
+        // then
+        List<JsonNode> lines = lines(directory.resolve("decisions.jsonl"));
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0).get("filename").asText()).isEqualTo(filename);
+        assertThat(lines.get(0).get("blockedEntry").asText()).isEqualTo("inner/setup.exe");
+        assertThat(lines.get(0).has("ts")).isTrue();
+    }
+
+    @Test
+    @DisplayName("파일 크기를 넘으면 밀어내고 max-history 개까지만 보관")
+    void rollsBySize() throws Exception {
+        // given
+        decisionLog = create(256, FullPolicy.DROP, 300, 2);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            decisionLog.record(FileCheckResultDto.allowed("file" + i + ".txt"), 1);
+        }
+        decisionLog.start();
+        decisionLog.stop();
+
+        // then
+        Path current = directory.resolve("decisions.jsonl");
+        assertThat(current).exists();
+        assertThat(directory.resolve("decisions.jsonl.1")).exists();
+        assertThat(directory.resolve("decisions.jsonl.2")).exists();
+        assertThat(directory.resolve("decisions.jsonl.3")).doesNotExist();
+        assertThat(Files.size(current)).isLessThanOrEqualTo(300);
+        assertThat(lines(current)).last().satisfies(node -> assertThat(node.get("filename").asText()).isEqualTo("file99.txt"));
+    }
+
+    private DecisionLog create(int capacity, FullPolicy whenFull, long maxFileSize, int maxHistory) {
+        return new DecisionLog(true, directory.resolve("decisions.jsonl").toString(), capacity, whenFull.name(),
+                maxFileSize, maxHistory, registry);
+    }
+
+    private List<JsonNode> lines(Path path) throws Exception {
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : Files.readAllLines(path)) {
+            nodes.add(objectMapper.readTree(line));
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,174 @@
+package com.flow.fileextension.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.fileextension.domain.audit.service.CheckEventWriter;
+import com.flow.fileextension.domain.extension.policy.BlockPolicy;
+import com.flow.fileextension.domain.extension.policy.BlockPolicyHolder;
+import com.flow.fileextension.domain.extension.policy.TenantPolicyRegistry;
+import com.flow.fileextension.global.decisionlog.DecisionLog;
+import com.flow.fileextension.global.metrics.FileCheckMetrics;
+import com.flow.fileextension.service.ArchiveInspector;
+import com.flow.fileextension.service.CheckStatistics;
+import com.flow.fileextension.service.ContentSignatureInspector;
+import com.flow.fileextension.service.FileCheckExecutor;
+import com.flow.fileextension.service.FileCheckService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.DelegatingServletInputStream;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("스트리밍 파일 검사 필터 테스트")
+class StreamingFileCheckFilterTest {
+
+    private static final String BOUNDARY = "----streamingBoundary7MA4YWxk";
+    private static final long TWO_GIGABYTES = 2L * 1024 * 1024 * 1024;
+
+    private StreamingFileCheckFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        BlockPolicyHolder blockPolicyHolder = mock(BlockPolicyHolder.class);
+        given(blockPolicyHolder.current()).willReturn(BlockPolicy.of(1, Set.of("exe")));
+        ContentSignatureInspector inspector = new ContentSignatureInspector(true, 4096);
+        ArchiveInspector archiveInspector = new ArchiveInspector(inspector, true, 3, 10000, 100, 1L << 30, true);
+        FileCheckService fileCheckService = new FileCheckService(TenantPolicyRegistry.globalOnly(blockPolicyHolder), inspector, archiveInspector,
+                new FileCheckExecutor(1, false), new FileCheckMetrics(new SimpleMeterRegistry(), blockPolicyHolder, 50),
+                DecisionLog.disabled(), CheckEventWriter.disabled(), new CheckStatistics(256));
+        filter = new StreamingFileCheckFilter(fileCheckService, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("2GB 차단 파일은 파트 헤더만 읽고 즉시 차단 (수신량 고정 버퍼 이내)")
+    void hugeBlockedUpload_RejectedAfterHeaders() throws Exception {
+        // given
+        MultipartBodyStream body = new MultipartBodyStream("setup.tar.exe", TWO_GIGABYTES);
+        MockHttpServletRequest request = streamingRequest(body);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).contains("\"data\":true");
+        assertThat(response.getHeader("Connection")).isEqualTo("close");
+        assertThat(chain.getRequest()).isNull(); // 컨트롤러(멀티파트 파싱)까지 가지 않음
+        assertThat(body.served).isLessThanOrEqualTo(64 * 1024);
+    }
+
+    @Test
+    @DisplayName("허용된 대용량 파일은 고정 버퍼로 흘려 읽고 허용 응답")
+    void largeAllowedUpload_StreamedThroughWithoutBuffering() throws Exception {
+        // given
+        long size = 64L * 1024 * 1024;
+        MultipartBodyStream body = new MultipartBodyStream("backup.tar.gz", size);
+        MockHttpServletRequest request = streamingRequest(body);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        long heapBefore = usedHeap();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).contains("\"data\":false");
+        assertThat(body.served).isGreaterThan(size);
+        assertThat(usedHeap() - heapBefore).isLessThan(size / 2);
+    }
+
+    @Test
+    @DisplayName("multipart가 아닌 요청은 그대로 다음 필터로 전달")
+    void nonMultipartRequest_PassesThrough() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/files/check/batch");
+        request.setContentType("application/json");
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // then
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private MockHttpServletRequest streamingRequest(InputStream body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/files/check") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new DelegatingServletInputStream(body);
+            }
+        };
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        return request;
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 실제 바이트를 메모리에 두지 않고 지정한 크기의 multipart 본문을 생성하는 스트림
+     */
+    private static class MultipartBodyStream extends InputStream {
+
+        private final byte[] prefix;
+        private final byte[] suffix;
+        private final long contentSize;
+        private long position;
+        private long served;
+
+        MultipartBodyStream(String filename, long contentSize) {
+            this.prefix = ("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"" + filename + "\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n").getBytes(StandardCharsets.UTF_8);
+            this.suffix = ("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8);
+            this.contentSize = contentSize;
+        }
+
+        @Override
+        public int read() {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            long total = prefix.length + contentSize + suffix.length;
+            if (position >= total) {
+                return -1;
+            }
+            int count = (int) Math.min(length, total - position);
+            for (int i = 0; i < count; i++) {
+                long p = position + i;
+                if (p < prefix.length) {
+                    target[offset + i] = prefix[(int) p];
+                } else if (p < prefix.length + contentSize) {
+                    target[offset + i] = 'A';
+                } else {
+                    target[offset + i] = suffix[(int) (p - prefix.length - contentSize)];
+                }
+            }
+            position += count;
+            served += count;
+            return count;
+        }
+    }
+}
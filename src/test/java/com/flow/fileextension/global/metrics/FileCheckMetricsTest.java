@@ -0,0 +1,70 @@
+package com.flow.fileextension.global.metrics;
+
+import com.flow.fileextension.domain.extension.policy.BlockPolicyHolder;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("파일 검사 지표 테스트")
+class FileCheckMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private FileCheckMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        metrics = new FileCheckMetrics(registry, mock(BlockPolicyHolder.class), 3);
+    }
+
+    @Test
+    @DisplayName("판정 결과별 지연과 차단 확장자별 판정 수 기록")
+    void recordCheck_ByOutcomeAndExtension() {
+        // when
+        metrics.recordCheck(FileCheckResultDto.allowed("a.pdf"), 1_000);
+        metrics.recordCheck(FileCheckResultDto.blocked("b.exe", "exe"), 2_000);
+        metrics.recordCheck(FileCheckResultDto.blocked("c.exe", "exe"), 3_000);
+
+        // then
+        assertThat(registry.get("file.check").tag("outcome", "allowed").timer().count()).isEqualTo(1);
+        assertThat(registry.get("file.check").tag("outcome", "blocked").timer().count()).isEqualTo(2);
+        assertThat(registry.get("file.check.verdicts").tag("outcome", "blocked").tag("extension", "exe").counter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("file.check.verdicts").tag("outcome", "allowed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확장자 태그는 한도까지만 만들고 나머지는 other로 집계")
+    void recordCheck_BoundedExtensionTags() {
+        // when
+        for (int i = 0; i < 100; i++) {
+            metrics.recordCheck(FileCheckResultDto.blocked("f.ext" + i, "ext" + i), 1_000);
+        }
+
+        // then
+        assertThat(registry.find("file.check.verdicts").tag("outcome", "blocked").counters()).hasSize(3 + 1);
+        assertThat(registry.get("file.check.verdicts").tag("extension", FileCheckMetrics.OTHER).counter().count())
+                .isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("일괄 검사는 요청 단위 지연과 이름별 판정을 기록")
+    void recordBatch() {
+        // when
+        metrics.recordBatch(List.of(
+                FileCheckResultDto.allowed("a.pdf"),
+                FileCheckResultDto.blocked("b.sh", "sh")), 5_000);
+
+        // then
+        assertThat(registry.get("file.check.batch").timer().count()).isEqualTo(1);
+        assertThat(registry.get("file.check.batch.size").summary().totalAmount()).isEqualTo(2);
+        assertThat(registry.get("file.check.verdicts").tag("extension", "sh").counter().count()).isEqualTo(1);
+    }
+}
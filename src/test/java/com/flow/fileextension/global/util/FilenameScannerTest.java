@@ -0,0 +1,66 @@
+package com.flow.fileextension.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("파일명 스캐너 테스트")
+class FilenameScannerTest {
+
+    private static final Set<String> BLOCKED = Set.of("exe", "bat", "sh", "gz", "verylongextension20");
+    private static final ExtensionMatcher MATCHER = ExtensionMatcher.of(BLOCKED);
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "virus.exe", "virus.EXE", "report.tar.gz.exe", "virus.exe.txt", "document.pdf",
+            "README", ".exe", ".gitignore", "file.", "a..exe", "...", "name. Exe .txt",
+            "my.document.v1.0.pdf", "파일.exe", "archive.tar.GZ", "x.verylongextension20",
+            "x.verylongextension201", "x.ex e", "x.eKe"
+    })
+    @DisplayName("split + normalize 방식과 같은 확장자를 찾음")
+    void findFirst_MatchesLegacySemantics(String filename) {
+        // when
+        String matched = FilenameScanner.findFirst(filename, MATCHER);
+
+        // then
+        assertThat(matched).isEqualTo(legacyFindFirst(filename));
+    }
+
+    @Test
+    @DisplayName("빈 정책이나 null 파일명은 일치하지 않음")
+    void findFirst_EmptyPolicyOrNullFilename_ReturnsNull() {
+        assertThat(FilenameScanner.findFirst("virus.exe", ExtensionMatcher.of(List.of()))).isNull();
+        assertThat(FilenameScanner.findFirst(null, MATCHER)).isNull();
+    }
+
+    @Test
+    @DisplayName("이중 확장자에서는 앞쪽 확장자부터 반환")
+    void findFirst_DoubleExtension_ReturnsFirstBlocked() {
+        assertThat(FilenameScanner.findFirst("malware.bat.exe.txt", MATCHER)).isEqualTo("bat");
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서도 같은 결과")
+    void findFirst_OnVirtualThread() throws Exception {
+        AtomicReference<String> matched = new AtomicReference<>();
+        Thread.ofVirtual().start(() -> matched.set(FilenameScanner.findFirst("name. Exe .txt", MATCHER))).join();
+
+        assertThat(matched.get()).isEqualTo("exe");
+    }
+
+    private static String legacyFindFirst(String filename) {
+        return Arrays.stream(ExtensionValidator.extractAllExtensions(filename))
+                .map(ExtensionValidator::normalize)
+                .filter(BLOCKED::contains)
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.flow.fileextension.loadtest;
+
+import com.flow.fileextension.domain.user.entity.User;
+import com.flow.fileextension.domain.user.repository.UserRepository;
+import com.flow.fileextension.global.response.ApiResponse;
+import com.flow.fileextension.global.security.SessionUser;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 부하 테스트 전용 로그인 (loadtest 프로필에서만 등록)
+ * OAuth2 로그인 성공 시와 같은 상태를 만든다: 세션의 "user" 속성(SessionUser)과 세션에 저장된 SecurityContext.
+ * CSRF 검증은 그대로 거치므로 클라이언트는 XSRF-TOKEN 쿠키 값을 X-XSRF-TOKEN 헤더로 보내야 한다.
+ */
+@Profile("loadtest")
+@RestController
+@RequestMapping("/api/loadtest")
+@RequiredArgsConstructor
+public class LoadTestLoginController {
+
+    private final UserRepository userRepository;
+    private final SecurityContextRepository securityContextRepository = new HttpSessionSecurityContextRepository();
+
+    @PostMapping("/login")
+    public ResponseEntity<ApiResponse<Long>> login(@RequestParam String email,
+                                                   HttpServletRequest request, HttpServletResponse response) {
+        User user = userRepository.findByEmail(email)
+                .orElseGet(() -> userRepository.save(User.builder()
+                        .email(email)
+                        .name(email.substring(0, email.indexOf('@')))
+                        .build()));
+
+        request.getSession().setAttribute("user", new SessionUser(user));
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        SecurityContextHolder.setContext(context);
+        securityContextRepository.saveContext(context, request, response);
+
+        return ResponseEntity.ok(ApiResponse.success(user.getId()));
+    }
+}
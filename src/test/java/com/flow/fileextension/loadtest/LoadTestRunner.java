@@ -0,0 +1,210 @@
+package com.flow.fileextension.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.flow.fileextension.FileExtensionBlockerApplication;
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP 부하 테스트 실행기
+ * test 프로필(H2 메모리 DB)로 애플리케이션을 실제 포트에 띄운 뒤, 가상 사용자들이 설정한 비율대로
+ * 파일 검사, 확장자 조회, 로그인이 필요한 변경 요청을 보낸다. 외부 네트워크나 DB 없이 한 대에서 실행된다.
+ * execution-mode 시나리오는 같은 부하를 플랫폼 스레드와 가상 스레드 모드로 각각 띄운 애플리케이션에 차례로 보내 비교한다.
+ *
+ * <p>실행: ./gradlew loadTest -Dload.users=64 -Dload.durationSeconds=60
+ * <br>모드 비교: ./gradlew loadTest -Dload.scenario=execution-mode
+ */
+public class LoadTestRunner {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        System.out.println("부하 테스트 설정: " + settings);
+
+        List<Boolean> modes = settings.getScenario() == Scenario.EXECUTION_MODE
+                ? List.of(false, true)
+                : List.of(settings.isVirtualThreads());
+        Map<String, Object> operationsByMode = new LinkedHashMap<>();
+        for (boolean virtualThreads : modes) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            try (ConfigurableApplicationContext context = start(virtualThreads)) {
+                String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                List<Long> fixedExtensionIds = context.getBean(ExtensionRepository.class).findByIsFixedTrue().stream()
+                        .map(Extension::getId)
+                        .toList();
+
+                OperationStats total = run(settings, baseUrl, fixedExtensionIds);
+                operationsByMode.put(mode, summarize(settings, total));
+                System.out.printf("%n[%s 스레드]", mode);
+                print(settings, total);
+            }
+        }
+
+        if (settings.getOutput() != null) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("settings", settings.toString());
+            if (operationsByMode.size() == 1) {
+                summary.put("operations", operationsByMode.values().iterator().next());
+            } else {
+                summary.put("modes", operationsByMode);
+            }
+            write(summary, new File(settings.getOutput()));
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        String mode = virtualThreads ? "virtual" : "platform";
+        return new SpringApplicationBuilder(FileExtensionBlockerApplication.class)
+                .profiles("test", "loadtest")
+                .properties(
+                        "server.port=0",
+                        // 세션 쿠키를 host-only로 (Domain=localhost 쿠키는 HTTP 클라이언트마다 처리가 다름)
+                        "server.servlet.session.cookie.domain=",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        // 모드마다 독립된 DB (앞서 실행한 모드의 변경이 다음 모드에 남지 않도록)
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode
+                                + ";MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=10000",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.com.flow.fileextension=WARN")
+                .run();
+    }
+
+    private static OperationStats run(LoadTestSettings settings, String baseUrl, List<Long> fixedExtensionIds) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        byte[][] uploadBodies = VirtualUser.uploadBodies(settings.getFileSizeKb());
+        Phase phase = new Phase();
+
+        List<VirtualUser> users = new ArrayList<>(settings.getUsers());
+        for (int i = 0; i < settings.getUsers(); i++) {
+            VirtualUser user = new VirtualUser(i, baseUrl, settings.getMix(), uploadBodies, fixedExtensionIds, objectMapper, phase);
+            user.login();
+            users.add(user);
+        }
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().name("load-user-", 0).factory())) {
+            List<Future<?>> futures = new ArrayList<>(users.size());
+            users.forEach(user -> futures.add(executor.submit(user)));
+
+            TimeUnit.SECONDS.sleep(settings.getWarmupSeconds());
+            phase.startMeasurement();
+            TimeUnit.SECONDS.sleep(settings.getDurationSeconds());
+            phase.finish();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        OperationStats total = new OperationStats();
+        users.forEach(user -> total.add(user.getStats()));
+        return total;
+    }
+
+    private static void print(LoadTestSettings settings, OperationStats total) {
+        int seconds = settings.getDurationSeconds();
+        System.out.printf("%n%-40s %10s %8s %9s %9s %9s %9s %9s%n",
+                "operation", "req/s", "error%", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+        long allCount = 0;
+        long allErrors = 0;
+        for (Operation operation : settings.getMix().keySet()) {
+            Histogram histogram = total.histogram(operation);
+            long errors = total.errors(operation);
+            allCount += histogram.getTotalCount();
+            allErrors += errors;
+            System.out.printf("%-40s %,10.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    operation.getDescription(),
+                    (double) histogram.getTotalCount() / seconds,
+                    errorRate(histogram.getTotalCount(), errors),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+        System.out.printf("%-40s %,10.1f %7.2f%%%n", "total", (double) allCount / seconds, errorRate(allCount, allErrors));
+    }
+
+    private static Map<String, Object> summarize(LoadTestSettings settings, OperationStats total) {
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation operation : settings.getMix().keySet()) {
+            Histogram histogram = total.histogram(operation);
+            Map<String, Object> latency = new LinkedHashMap<>();
+            for (double percentile : PERCENTILES) {
+                latency.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                        millis(histogram.getValueAtPercentile(percentile)));
+            }
+            latency.put("max", millis(histogram.getMaxValue()));
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("endpoint", operation.getDescription());
+            result.put("count", histogram.getTotalCount());
+            result.put("errors", total.errors(operation));
+            result.put("throughputPerSecond", (double) histogram.getTotalCount() / settings.getDurationSeconds());
+            result.put("errorRatePercent", errorRate(histogram.getTotalCount(), total.errors(operation)));
+            result.put("latencyMillis", latency);
+            operations.put(operation.getKey(), result);
+        }
+        return operations;
+    }
+
+    private static void write(Map<String, Object> summary, File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, summary);
+        System.out.println("\n요약 저장: " + file.getAbsolutePath());
+    }
+
+    private static double errorRate(long successes, long errors) {
+        long requests = successes + errors;
+        return requests == 0 ? 0 : errors * 100.0 / requests;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * 예열/측정/종료 단계 (generation이 바뀌면 사용자별 기록을 초기화)
+     */
+    static class Phase {
+
+        private volatile int generation;
+        private volatile boolean finished;
+
+        int generation() {
+            return generation;
+        }
+
+        boolean isFinished() {
+            return finished;
+        }
+
+        void startMeasurement() {
+            generation++;
+        }
+
+        void finish() {
+            finished = true;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.flow.fileextension.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (모두 -Dload.* 시스템 프로퍼티로 변경)
+ *
+ * <pre>
+ * load.scenario         mix: 한 번 실행, execution-mode: 플랫폼/가상 스레드 모드를 차례로 실행해 비교 (기본 mix)
+ * load.users            동시 가상 사용자 수 (기본 32)
+ * load.warmupSeconds    측정 전 예열 시간 (기본 5)
+ * load.durationSeconds  측정 시간 (기본 30)
+ * load.mix              작업 비율 (기본 check=50,fixed=10,custom=10,blocked=10,toggle=10,custom-cycle=10)
+ * load.fileSizeKb       /api/files/check 업로드 크기 (기본 16)
+ * load.virtualThreads   서버를 가상 스레드 모드로 실행 (기본 false, execution-mode 시나리오에서는 무시)
+ * load.output           JSON 요약 파일 경로 (없으면 출력만)
+ * </pre>
+ */
+public class LoadTestSettings {
+
+    private static final String DEFAULT_MIX = "check=50,fixed=10,custom=10,blocked=10,toggle=10,custom-cycle=10";
+
+    private final Scenario scenario;
+    private final int users;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final Map<Operation, Integer> mix;
+    private final int fileSizeKb;
+    private final boolean virtualThreads;
+    private final String output;
+
+    private LoadTestSettings(Scenario scenario, int users, int warmupSeconds, int durationSeconds, Map<Operation, Integer> mix,
+                             int fileSizeKb, boolean virtualThreads, String output) {
+        this.scenario = scenario;
+        this.users = users;
+        this.warmupSeconds = warmupSeconds;
+        this.durationSeconds = durationSeconds;
+        this.mix = mix;
+        this.fileSizeKb = fileSizeKb;
+        this.virtualThreads = virtualThreads;
+        this.output = output;
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Scenario.fromKey(System.getProperty("load.scenario", Scenario.MIX.getKey())),
+                Integer.getInteger("load.users", 32),
+                Integer.getInteger("load.warmupSeconds", 5),
+                Integer.getInteger("load.durationSeconds", 30),
+                parseMix(System.getProperty("load.mix", DEFAULT_MIX)),
+                Integer.getInteger("load.fileSizeKb", 16),
+                Boolean.getBoolean("load.virtualThreads"),
+                System.getProperty("load.output"));
+    }
+
+    /**
+     * "check=50,fixed=10" 형식 파싱
+     */
+    static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("load.mix 형식이 올바르지 않습니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("load.mix에 실행할 작업이 없습니다");
+        }
+        return mix;
+    }
+
+    public Scenario getScenario() {
+        return scenario;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public int getFileSizeKb() {
+        return fileSizeKb;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+
+    @Override
+    public String toString() {
+        return "scenario=" + scenario.getKey() + ", users=" + users + ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s, mix=" + mix
+                + ", fileSize=" + fileSizeKb + "KB, virtualThreads=" + virtualThreads;
+    }
+}
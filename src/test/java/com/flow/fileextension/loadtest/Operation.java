@@ -0,0 +1,41 @@
+package com.flow.fileextension.loadtest;
+
+/**
+ * 부하 테스트 작업 종류
+ */
+public enum Operation {
+
+    CHECK("check", "POST /api/files/check"),
+    FIXED("fixed", "GET /api/extensions/fixed"),
+    CUSTOM("custom", "GET /api/extensions/custom"),
+    BLOCKED("blocked", "GET /api/extensions/blocked"),
+    // 고정 확장자 차단 상태 변경 (로그인 + CSRF 필요)
+    TOGGLE("toggle", "PATCH /api/extensions/fixed/{id}/block"),
+    // 커스텀 확장자 추가 후 삭제 (로그인 + CSRF 필요, 요청 2개)
+    CUSTOM_CYCLE("custom-cycle", "POST+DELETE /api/extensions/custom");
+
+    private final String key;
+    private final String description;
+
+    Operation(String key, String description) {
+        this.key = key;
+        this.description = description;
+    }
+
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 작업입니다: " + key);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,46 @@
+package com.flow.fileextension.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 사용자 한 명의 작업별 지연 히스토그램과 오류 수 (사용자 스레드 안에서만 기록하고, 끝난 뒤 합산)
+ */
+public class OperationStats {
+
+    // 1us ~ 60s 범위, 유효 숫자 3자리
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+    public void recordSuccess(Operation operation, long elapsedNanos) {
+        long micros = Math.min(Math.max(1, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)), HIGHEST_TRACKABLE_MICROS);
+        histogram(operation).recordValue(micros);
+    }
+
+    public void recordError(Operation operation) {
+        errors.merge(operation, 1L, Long::sum);
+    }
+
+    public void add(OperationStats other) {
+        other.latencies.forEach((operation, histogram) -> histogram(operation).add(histogram));
+        other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+    }
+
+    public Histogram histogram(Operation operation) {
+        return latencies.computeIfAbsent(operation, key -> new Histogram(HIGHEST_TRACKABLE_MICROS, 3));
+    }
+
+    public long errors(Operation operation) {
+        return errors.getOrDefault(operation, 0L);
+    }
+
+    public void reset() {
+        latencies.clear();
+        errors.clear();
+    }
+}
@@ -0,0 +1,31 @@
+package com.flow.fileextension.loadtest;
+
+/**
+ * 부하 테스트 시나리오
+ */
+public enum Scenario {
+
+    // 설정한 실행 모드(load.virtualThreads)로 한 번 실행
+    MIX("mix"),
+    // 같은 작업 비율로 플랫폼 스레드(Tomcat 기본 풀)와 가상 스레드 모드를 차례로 실행해 비교
+    EXECUTION_MODE("execution-mode");
+
+    private final String key;
+
+    Scenario(String key) {
+        this.key = key;
+    }
+
+    public static Scenario fromKey(String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + key);
+    }
+
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,213 @@
+package com.flow.fileextension.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * 자기 세션(쿠키)을 가진 가상 사용자 한 명
+ * 브라우저와 같은 순서로 동작한다: 조회 요청으로 XSRF-TOKEN 쿠키를 받고, 로그인한 뒤,
+ * 상태를 바꾸는 요청에는 쿠키 값을 X-XSRF-TOKEN 헤더로 함께 보낸다.
+ */
+public class VirtualUser implements Runnable {
+
+    private static final String CSRF_COOKIE = "XSRF-TOKEN";
+    private static final String CSRF_HEADER = "X-XSRF-TOKEN";
+    private static final String BOUNDARY = "----loadTestBoundary";
+    private static final String[] FILENAMES = {"report.pdf", "photo.jpeg", "setup.exe", "backup.tar.gz", "virus.exe.txt", "README"};
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final int index;
+    private final String baseUrl;
+    private final Map<Operation, Integer> mix;
+    private final int totalWeight;
+    private final byte[][] uploadBodies;
+    private final List<Long> fixedExtensionIds;
+    private final ObjectMapper objectMapper;
+    private final LoadTestRunner.Phase phase;
+
+    // 쿠키 이름 → 값 (세션 쿠키, CSRF 쿠키). 도메인 규칙 없이 이 서버 하나에만 보냄
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private final HttpClient client;
+    private final Random random;
+    private final OperationStats stats = new OperationStats();
+    private int sequence;
+    private int seenGeneration;
+
+    VirtualUser(int index, String baseUrl, Map<Operation, Integer> mix, byte[][] uploadBodies,
+                List<Long> fixedExtensionIds, ObjectMapper objectMapper, LoadTestRunner.Phase phase) {
+        this.index = index;
+        this.baseUrl = baseUrl;
+        this.mix = mix;
+        this.totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.uploadBodies = uploadBodies;
+        this.fixedExtensionIds = fixedExtensionIds;
+        this.objectMapper = objectMapper;
+        this.phase = phase;
+        this.random = new Random(index);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * 세션 준비: 조회로 CSRF 쿠키를 받고 테스트 전용 로그인
+     */
+    void login() throws IOException, InterruptedException {
+        send(get("/api/extensions/fixed"));
+        HttpResponse<String> response = send(withCsrf(HttpRequest.newBuilder(uri(
+                "/api/loadtest/login?email=loadtest-" + index + "@example.com")))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("부하 테스트 로그인 실패: " + response.statusCode() + " " + response.body());
+        }
+    }
+
+    @Override
+    public void run() {
+        while (!phase.isFinished()) {
+            // 예열이 끝나면 그때까지의 기록을 버림
+            int generation = phase.generation();
+            if (generation != seenGeneration) {
+                stats.reset();
+                seenGeneration = generation;
+            }
+            Operation operation = nextOperation();
+            try {
+                execute(operation);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                stats.recordError(operation);
+            }
+        }
+    }
+
+    OperationStats getStats() {
+        return stats;
+    }
+
+    private void execute(Operation operation) throws IOException, InterruptedException {
+        switch (operation) {
+            case CHECK -> timed(operation, withCsrf(HttpRequest.newBuilder(uri("/api/files/check")))
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(uploadBodies[random.nextInt(uploadBodies.length)])));
+            case FIXED -> timed(operation, get("/api/extensions/fixed"));
+            case CUSTOM -> timed(operation, get("/api/extensions/custom"));
+            case BLOCKED -> timed(operation, get("/api/extensions/blocked"));
+            case TOGGLE -> {
+                long id = fixedExtensionIds.get(random.nextInt(fixedExtensionIds.size()));
+                timed(operation, withCsrf(HttpRequest.newBuilder(uri(
+                        "/api/extensions/fixed/" + id + "/block?isBlocked=" + random.nextBoolean())))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+            }
+            case CUSTOM_CYCLE -> customCycle(operation);
+        }
+    }
+
+    /**
+     * 커스텀 확장자 추가 후 바로 삭제 (사용자마다 이름이 달라 중복이 생기지 않고, 200개 한도도 넘지 않음)
+     */
+    private void customCycle(Operation operation) throws IOException, InterruptedException {
+        String extension = "lt" + index + "x" + (sequence++ % 100_000);
+        long start = System.nanoTime();
+        HttpResponse<String> created = send(withCsrf(HttpRequest.newBuilder(uri("/api/extensions/custom?extension=" + extension)))
+                .POST(HttpRequest.BodyPublishers.noBody()));
+        if (created.statusCode() != 201) {
+            stats.recordError(operation);
+            return;
+        }
+        JsonNode id = objectMapper.readTree(created.body()).path("data").path("id");
+        HttpResponse<String> deleted = send(withCsrf(HttpRequest.newBuilder(uri("/api/extensions/custom/" + id.asLong())))
+                .DELETE());
+        if (deleted.statusCode() != 200) {
+            stats.recordError(operation);
+            return;
+        }
+        stats.recordSuccess(operation, System.nanoTime() - start);
+    }
+
+    private void timed(Operation operation, HttpRequest.Builder request) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        HttpResponse<String> response = send(request);
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() / 100 == 2) {
+            stats.recordSuccess(operation, elapsed);
+        } else {
+            stats.recordError(operation);
+        }
+    }
+
+    private Operation nextOperation() {
+        int pick = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        if (!cookies.isEmpty()) {
+            request.header("Cookie", cookies.entrySet().stream()
+                    .map(cookie -> cookie.getKey() + "=" + cookie.getValue())
+                    .collect(Collectors.joining("; ")));
+        }
+        HttpResponse<String> response = client.send(request.timeout(TIMEOUT).build(), HttpResponse.BodyHandlers.ofString());
+        for (String setCookie : response.headers().allValues("Set-Cookie")) {
+            String pair = setCookie.split(";", 2)[0];
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                cookies.put(pair.substring(0, separator).trim(), pair.substring(separator + 1).trim());
+            }
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private HttpRequest.Builder withCsrf(HttpRequest.Builder request) {
+        String token = cookies.get(CSRF_COOKIE);
+        return token != null ? request.header(CSRF_HEADER, token) : request;
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    static byte[][] uploadBodies(int fileSizeKb) {
+        Random random = new Random(42);
+        byte[][] bodies = new byte[FILENAMES.length][];
+        for (int i = 0; i < FILENAMES.length; i++) {
+            byte[] content = new byte[fileSizeKb * 1024];
+            random.nextBytes(content);
+            byte[] head = ("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"" + FILENAMES[i] + "\"\r\n"
+                    + "Content-Type: application/octet-stream\r\n\r\n").getBytes();
+            byte[] tail = ("\r\n--" + BOUNDARY + "--\r\n").getBytes();
+            byte[] body = new byte[head.length + content.length + tail.length];
+            System.arraycopy(head, 0, body, 0, head.length);
+            System.arraycopy(content, 0, body, head.length, content.length);
+            System.arraycopy(tail, 0, body, head.length + content.length, tail.length);
+            bodies[i] = body;
+        }
+        return bodies;
+    }
+}
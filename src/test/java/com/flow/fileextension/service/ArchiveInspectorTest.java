@@ -0,0 +1,226 @@
+package com.flow.fileextension.service;
+
+import com.flow.fileextension.domain.extension.policy.BlockPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("압축 파일 검사기 테스트")
+class ArchiveInspectorTest {
+
+    private final ContentSignatureInspector contentSignatureInspector = new ContentSignatureInspector(true, 4096);
+    private final ArchiveInspector archiveInspector =
+            new ArchiveInspector(contentSignatureInspector, true, 3, 100, 100, 64L * 1024 * 1024, true);
+    private final BlockPolicy policy = BlockPolicy.of(1, Set.of("exe", "bat"));
+
+    @Test
+    @DisplayName("내부에 차단 확장자 항목이 있으면 차단")
+    void scan_BlockedEntry() throws IOException {
+        // given
+        byte[] zip = zip(Map.of(
+                "docs/readme.txt", "hello".getBytes(StandardCharsets.UTF_8),
+                "bin/payload.exe", "data".getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        ArchiveScanResult result = archiveInspector.scan(new ByteArrayInputStream(zip), policy);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getEntry()).isEqualTo("bin/payload.exe");
+        assertThat(result.getMatchedExtension()).isEqualTo("exe");
+    }
+
+    @Test
+    @DisplayName("중첩 압축 안의 차단 항목은 전체 경로로 보고")
+    void scan_NestedArchive() throws IOException {
+        // given
+        byte[] inner = zip(Map.of("run.bat", "echo".getBytes(StandardCharsets.UTF_8)));
+        byte[] outer = zip(Map.of("inner.zip", inner));
+
+        // when
+        ArchiveScanResult result = archiveInspector.scan(new ByteArrayInputStream(outer), policy);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getEntry()).isEqualTo("inner.zip!/run.bat");
+        assertThat(result.getMatchedExtension()).isEqualTo("bat");
+    }
+
+    @Test
+    @DisplayName("허용된 이름이라도 내용이 실행 파일이면 차단")
+    void scan_ExecutableContentInEntry() throws IOException {
+        // given
+        byte[] pe = new byte[512];
+        pe[0] = 'M';
+        pe[1] = 'Z';
+        pe[0x3C] = (byte) 0x80;
+        pe[0x80] = 'P';
+        pe[0x81] = 'E';
+        byte[] zip = zip(Map.of("report.pdf", pe));
+
+        // when
+        ArchiveScanResult result = archiveInspector.scan(new ByteArrayInputStream(zip), policy);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getEntry()).isEqualTo("report.pdf");
+        assertThat(result.getMatchedExtension()).isEqualTo("exe");
+    }
+
+    @Test
+    @DisplayName("문제 없는 압축 파일은 통과")
+    void scan_CleanArchive() throws IOException {
+        // given
+        byte[] zip = zip(Map.of(
+                "a.txt", "a".getBytes(StandardCharsets.UTF_8),
+                "b/c.pdf", "%PDF-1.7".getBytes(StandardCharsets.UTF_8)));
+
+        // when & then
+        assertThat(archiveInspector.scan(new ByteArrayInputStream(zip), policy)).isNull();
+    }
+
+    @Test
+    @DisplayName("항목 수 한도를 넘으면 차단")
+    void scan_TooManyEntries() throws IOException {
+        // given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < 101; i++) {
+                out.putNextEntry(new ZipEntry("file" + i + ".txt"));
+                out.closeEntry();
+            }
+        }
+
+        // when
+        ArchiveScanResult result = archiveInspector.scan(new ByteArrayInputStream(bytes.toByteArray()), policy);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getKind()).isEqualTo(ArchiveScanResult.Kind.LIMIT_EXCEEDED);
+        assertThat(result.getMatchedExtension()).isNull();
+        assertThat(result.getReason()).contains("항목 수");
+    }
+
+    @Test
+    @DisplayName("압축률이 한도를 넘는 항목(압축 폭탄)은 끝까지 풀지 않고 차단")
+    void scan_CompressionBomb() throws IOException {
+        // given - 0으로 채운 32MB는 수십 KB로 압축됨
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            out.putNextEntry(new ZipEntry("zeros.txt"));
+            byte[] chunk = new byte[1024 * 1024];
+            for (int i = 0; i < 32; i++) {
+                out.write(chunk);
+            }
+            out.closeEntry();
+        }
+
+        // when
+        ArchiveScanResult result = archiveInspector.scan(new ByteArrayInputStream(bytes.toByteArray()), policy);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getEntry()).isEqualTo("zeros.txt");
+        assertThat(result.getReason()).contains("압축률");
+    }
+
+    @Test
+    @DisplayName("중첩 깊이 한도를 넘으면 차단")
+    void scan_TooDeep() throws IOException {
+        // given
+        byte[] archive = zip(Map.of("note.txt", "x".getBytes(StandardCharsets.UTF_8)));
+        for (int i = 0; i < 3; i++) {
+            archive = zip(Map.of("level" + i + ".zip", archive));
+        }
+
+        // when
+        ArchiveScanResult result = archiveInspector.scan(new ByteArrayInputStream(archive), policy);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(result.getReason()).contains("깊이");
+    }
+
+    @Test
+    @DisplayName("손상되거나 잘린 압축 파일은 한도 초과와 구분해 해석 불가로 차단 (기본)")
+    void scan_Unparseable_FailClosed() throws IOException {
+        // given
+        byte[] zip = zip(Map.of("a.txt", "hello hello hello".getBytes(StandardCharsets.UTF_8)));
+        byte[] corrupted = zip.clone();
+        Arrays.fill(corrupted, dataOffset(zip), dataOffset(zip) + 4, (byte) 0xFF);
+        byte[] truncated = Arrays.copyOf(zip, dataOffset(zip) + 3);
+
+        // when
+        ArchiveScanResult corruptedResult = archiveInspector.scan(new ByteArrayInputStream(corrupted), policy);
+        ArchiveScanResult truncatedResult = archiveInspector.scan(new ByteArrayInputStream(truncated), policy);
+
+        // then
+        assertThat(corruptedResult).isNotNull();
+        assertThat(corruptedResult.getKind()).isEqualTo(ArchiveScanResult.Kind.UNPARSEABLE);
+        assertThat(corruptedResult.getEntry()).isEqualTo("a.txt");
+        assertThat(corruptedResult.getMatchedExtension()).isNull();
+        assertThat(corruptedResult.getReason()).startsWith("압축 파일을 해석할 수 없습니다");
+        assertThat(truncatedResult).isNotNull();
+        assertThat(truncatedResult.getKind()).isEqualTo(ArchiveScanResult.Kind.UNPARSEABLE);
+    }
+
+    @Test
+    @DisplayName("block-unparseable 이 false 이면 해석할 수 없는 압축 파일은 통과")
+    void scan_Unparseable_FailOpen() throws IOException {
+        // given
+        ArchiveInspector failOpen = new ArchiveInspector(contentSignatureInspector, true, 3, 100, 100, 64L * 1024 * 1024, false);
+        byte[] zip = zip(Map.of("a.txt", "hello hello hello".getBytes(StandardCharsets.UTF_8)));
+        byte[] corrupted = zip.clone();
+        Arrays.fill(corrupted, dataOffset(zip), dataOffset(zip) + 4, (byte) 0xFF);
+
+        // when & then
+        assertThat(failOpen.scan(new ByteArrayInputStream(corrupted), policy)).isNull();
+    }
+
+    @Test
+    @DisplayName("block-unparseable 이 false 여도 한도 초과와 손상 이전의 차단 항목은 그대로 차단")
+    void scan_Unparseable_FailOpenKeepsOtherBlocks() throws IOException {
+        // given
+        ArchiveInspector failOpen = new ArchiveInspector(contentSignatureInspector, true, 3, 100, 100, 64L * 1024 * 1024, false);
+        byte[] zip = zip(Map.of("payload.exe", "data".getBytes(StandardCharsets.UTF_8)));
+        byte[] truncated = Arrays.copyOf(zip, dataOffset(zip) + 1);
+
+        // when
+        ArchiveScanResult result = failOpen.scan(new ByteArrayInputStream(truncated), policy);
+
+        // then - 이름만으로 차단되는 항목은 내용을 읽기 전에 판정됨
+        assertThat(result).isNotNull();
+        assertThat(result.getKind()).isEqualTo(ArchiveScanResult.Kind.BLOCKED);
+        assertThat(result.getMatchedExtension()).isEqualTo("exe");
+    }
+
+    // 첫 로컬 파일 헤더 뒤 압축 데이터가 시작하는 위치 (헤더 30바이트 + 이름 길이 + 추가 필드 길이)
+    private static int dataOffset(byte[] zip) {
+        int nameLength = (zip[26] & 0xFF) | (zip[27] & 0xFF) << 8;
+        int extraLength = (zip[28] & 0xFF) | (zip[29] & 0xFF) << 8;
+        return 30 + nameLength + extraLength;
+    }
+
+    private static byte[] zip(Map<String, byte[]> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
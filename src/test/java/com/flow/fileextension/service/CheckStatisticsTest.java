@@ -0,0 +1,183 @@
+package com.flow.fileextension.service;
+
+import com.flow.fileextension.dto.CheckStatsDto;
+import com.flow.fileextension.dto.FileCheckResultDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("검사 통계 테스트")
+class CheckStatisticsTest {
+
+    private final AtomicLong now = new AtomicLong(TimeUnit.DAYS.toMillis(20_000));
+    private CheckStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new CheckStatistics(3, now::get);
+    }
+
+    @Test
+    @DisplayName("판정별 수와 차단 상위 확장자를 윈도마다 집계")
+    void snapshot_ByVerdictAndExtension() {
+        // given
+        record(FileCheckResultDto.allowed("a.pdf"), 4);
+        record(FileCheckResultDto.blocked("b.exe", "exe"), 3);
+        record(FileCheckResultDto.blocked("c.sh", "sh"), 1);
+
+        // when
+        List<CheckStatsDto> windows = statistics.snapshot(10);
+
+        // then
+        assertThat(windows).extracting(CheckStatsDto::getWindow).containsExactly("1m", "1h", "24h");
+        CheckStatsDto minute = windows.get(0);
+        assertThat(minute.getTotal()).isEqualTo(8);
+        assertThat(minute.getAllowed()).isEqualTo(4);
+        assertThat(minute.getBlocked()).isEqualTo(4);
+        assertThat(minute.getBlockedPerSecond()).isEqualTo(4 / 60.0);
+        assertThat(minute.getTopBlocked()).extracting(CheckStatsDto.ExtensionCount::getExtension).containsExactly("exe", "sh");
+        assertThat(minute.getTopBlocked()).extracting(CheckStatsDto.ExtensionCount::getCount).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("윈도가 지난 기록은 짧은 윈도부터 빠짐")
+    void snapshot_OldBucketsExpire() {
+        // given
+        record(FileCheckResultDto.blocked("b.exe", "exe"), 5);
+
+        // when
+        now.addAndGet(TimeUnit.MINUTES.toMillis(2));
+        List<CheckStatsDto> afterTwoMinutes = statistics.snapshot(10);
+        now.addAndGet(TimeUnit.HOURS.toMillis(2));
+        List<CheckStatsDto> afterTwoHours = statistics.snapshot(10);
+        now.addAndGet(TimeUnit.DAYS.toMillis(1));
+        List<CheckStatsDto> afterOneDay = statistics.snapshot(10);
+
+        // then
+        assertThat(afterTwoMinutes).extracting(CheckStatsDto::getBlocked).containsExactly(0L, 5L, 5L);
+        assertThat(afterTwoHours).extracting(CheckStatsDto::getBlocked).containsExactly(0L, 0L, 5L);
+        assertThat(afterOneDay).extracting(CheckStatsDto::getBlocked).containsExactly(0L, 0L, 0L);
+        assertThat(afterOneDay.get(2).getTopBlocked()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("확장자 카운터는 한도까지만 만들고 나머지는 other로 집계")
+    void record_BoundedExtensions() {
+        // when
+        for (int i = 0; i < 100; i++) {
+            statistics.record(FileCheckResultDto.blocked("f.ext" + i, "ext" + i));
+        }
+
+        // then
+        CheckStatsDto minute = statistics.snapshot(CheckStatistics.MAX_TOP).get(0);
+        assertThat(minute.getBlocked()).isEqualTo(100);
+        assertThat(minute.getTopBlocked()).hasSize(3 + 1);
+        assertThat(minute.getTopBlocked().get(0).getExtension()).isEqualTo(CheckStatistics.OTHER);
+        assertThat(minute.getTopBlocked().get(0).getCount()).isEqualTo(97);
+    }
+
+    @Test
+    @DisplayName("24시간 기록이 없는 확장자 카운터는 조회 때 회수되어 새 확장자가 슬롯을 씀")
+    void snapshot_ReclaimsIdleExtensions() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            statistics.record(FileCheckResultDto.blocked("f.old" + i, "old" + i));
+        }
+        now.addAndGet(TimeUnit.DAYS.toMillis(1) + TimeUnit.HOURS.toMillis(1));
+        statistics.snapshot(10);
+
+        // when
+        record(FileCheckResultDto.blocked("a.exe", "exe"), 2);
+
+        // then
+        CheckStatsDto minute = statistics.snapshot(10).get(0);
+        assertThat(minute.getTopBlocked()).extracting(CheckStatsDto.ExtensionCount::getExtension).containsExactly("exe");
+        assertThat(minute.getTopBlocked()).extracting(CheckStatsDto.ExtensionCount::getCount).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("회수와 기록이 동시에 일어나도 누락 없이 집계")
+    void record_ConcurrentWithReclaim() throws Exception {
+        // given
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread sweeper = new Thread(() -> {
+            while (running.get()) {
+                statistics.snapshot(10);
+            }
+        });
+        sweeper.start();
+
+        // when
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    statistics.record(FileCheckResultDto.blocked("a.exe", "exe"));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        running.set(false);
+        sweeper.join();
+
+        // then
+        CheckStatsDto minute = statistics.snapshot(10).get(0);
+        assertThat(minute.getTopBlocked()).extracting(CheckStatsDto.ExtensionCount::getCount).containsExactly(40_000L);
+    }
+
+    @Test
+    @DisplayName("top 개수만큼만 반환하고 검사하지 않은 결과는 집계하지 않음")
+    void snapshot_TopLimitAndSkipped() {
+        // given
+        record(FileCheckResultDto.blocked("a.exe", "exe"), 3);
+        record(FileCheckResultDto.blocked("b.sh", "sh"), 2);
+        record(FileCheckResultDto.skipped("c.pdf"), 10);
+
+        // when
+        CheckStatsDto minute = statistics.snapshot(1).get(0);
+
+        // then
+        assertThat(minute.getTotal()).isEqualTo(5);
+        assertThat(minute.getTopBlocked()).extracting(CheckStatsDto.ExtensionCount::getExtension).containsExactly("exe");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 누락 없이 집계")
+    void record_Concurrent() throws Exception {
+        // when
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    statistics.record(FileCheckResultDto.blocked("a.exe", "exe"));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(statistics.snapshot(10).get(0).getBlocked()).isEqualTo(80_000);
+    }
+
+    private void record(FileCheckResultDto result, int times) {
+        for (int i = 0; i < times; i++) {
+            statistics.record(result);
+        }
+    }
+}
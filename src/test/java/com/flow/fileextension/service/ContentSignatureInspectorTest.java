@@ -0,0 +1,160 @@
+package com.flow.fileextension.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("파일 내용 서명 검사기 테스트")
+class ContentSignatureInspectorTest {
+
+    private final ContentSignatureInspector inspector = new ContentSignatureInspector(true, 4096);
+
+    @Test
+    @DisplayName("MZ 헤더와 PE 서명이 있으면 Windows 실행 파일")
+    void inspect_PortableExecutable() throws IOException {
+        // given
+        byte[] content = new byte[512];
+        content[0] = 'M';
+        content[1] = 'Z';
+        content[0x3C] = (byte) 0x80;
+        content[0x80] = 'P';
+        content[0x81] = 'E';
+        MockMultipartFile file = new MockMultipartFile("file", "invoice.pdf", "application/pdf", content);
+
+        // when & then
+        assertThat(inspector.inspect(file)).isEqualTo(ContentSignature.PE_EXECUTABLE);
+    }
+
+    @Test
+    @DisplayName("MZ로 시작해도 PE 서명이 다른 위치에 없으면 실행 파일 아님")
+    void inspect_MzWithoutPeSignature_NotDetected() {
+        // given
+        byte[] content = new byte[512];
+        content[0] = 'M';
+        content[1] = 'Z';
+        content[0x3C] = (byte) 0x80;
+
+        // when & then
+        assertThat(inspector.detect(content, content.length)).isNull();
+    }
+
+    @Test
+    @DisplayName("MZ로 시작하는 텍스트 파일은 실행 파일 아님 (e_lfanew가 검사 범위 밖)")
+    void inspect_MzPrefixedText_NotDetected() throws IOException {
+        // given - 0x3C 위치의 ASCII 글자가 아주 큰 오프셋으로 읽힘
+        String csv = "MZ-2024-001,Mazda,Zoom-Zoom,2024-01-15,regular customer record\n"
+                + "MZ-2024-002,Mazda,Zoom-Zoom,2024-01-16,regular customer record\n";
+        MockMultipartFile file = new MockMultipartFile("file", "orders.csv", "text/csv",
+                csv.getBytes(StandardCharsets.US_ASCII));
+
+        // when & then
+        assertThat(inspector.inspect(file)).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "'#!/bin/sh', SHELL_SCRIPT",
+            "'#!/usr/bin/env bash', SHELL_SCRIPT",
+            "'#!/usr/bin/env python3', PYTHON_SCRIPT",
+            "'#!/usr/bin/perl -w', PERL_SCRIPT",
+            "'#!/usr/bin/env node', NODE_SCRIPT"
+    })
+    @DisplayName("shebang 인터프리터로 스크립트 종류 판별")
+    void detect_Shebang(String firstLine, ContentSignature expected) {
+        // given
+        byte[] content = (firstLine + "\necho hello\n").getBytes(StandardCharsets.US_ASCII);
+
+        // when & then
+        assertThat(inspector.detect(content, content.length)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("ELF, CAB, LNK 매직 바이트 판별")
+    void detect_MagicNumbers() {
+        byte[] elf = {0x7F, 'E', 'L', 'F', 2, 1, 1, 0};
+        byte[] cab = {'M', 'S', 'C', 'F', 0, 0, 0, 0, 1, 2};
+        byte[] lnk = {0x4C, 0, 0, 0, 0x01, 0x14, 0x02, 0x00, 0, 0};
+
+        assertThat(inspector.detect(elf, elf.length)).isEqualTo(ContentSignature.ELF);
+        assertThat(inspector.detect(cab, cab.length)).isEqualTo(ContentSignature.CABINET);
+        assertThat(inspector.detect(lnk, lnk.length)).isEqualTo(ContentSignature.WINDOWS_SHORTCUT);
+    }
+
+    @Test
+    @DisplayName("OLE 복합 문서는 루트 CLSID가 MSI일 때만 설치 패키지로 판별")
+    void detect_CompoundFile_OnlyMsi() {
+        // given - 512바이트 섹터, 디렉터리 시작 섹터 0 → 루트 엔트리는 512 오프셋
+        byte[] msi = compoundFile(new byte[]{(byte) 0x84, 0x10, 0x0C, 0, 0, 0, 0, 0, (byte) 0xC0, 0, 0, 0, 0, 0, 0, 0x46});
+        byte[] doc = compoundFile(new byte[16]);
+
+        // when & then
+        assertThat(inspector.detect(msi, msi.length)).isEqualTo(ContentSignature.WINDOWS_INSTALLER);
+        assertThat(inspector.detect(doc, doc.length)).isNull();
+    }
+
+    @Test
+    @DisplayName("일반 텍스트는 판별되지 않음")
+    void detect_PlainText_NotDetected() {
+        byte[] text = "hello world".getBytes(StandardCharsets.UTF_8);
+        assertThat(inspector.detect(text, text.length)).isNull();
+    }
+
+    @Test
+    @DisplayName("대용량 스트림에서도 max-bytes 만큼만 읽음")
+    void inspect_ReadsOnlyByteBudget() throws IOException {
+        // given
+        CountingInputStream in = new CountingInputStream(new ByteArrayInputStream(new byte[10 * 1024 * 1024]));
+
+        // when
+        inspector.inspect(in);
+
+        // then
+        assertThat(in.count).isEqualTo(inspector.getMaxBytes());
+    }
+
+    private static byte[] compoundFile(byte[] rootClsid) {
+        byte[] content = new byte[1024];
+        byte[] magic = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0, (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+        System.arraycopy(magic, 0, content, 0, magic.length);
+        content[0x1E] = 9;
+        System.arraycopy(rootClsid, 0, content, 512 + 0x50, rootClsid.length);
+        return content;
+    }
+
+    private static class CountingInputStream extends InputStream {
+
+        private final InputStream delegate;
+        private long count;
+
+        CountingInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = delegate.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
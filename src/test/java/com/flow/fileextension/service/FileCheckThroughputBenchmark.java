@@ -0,0 +1,120 @@
+package com.flow.fileextension.service;
+
+import com.flow.fileextension.domain.extension.entity.Extension;
+import com.flow.fileextension.domain.extension.repository.ExtensionRepository;
+import com.flow.fileextension.domain.extension.service.ExtensionService;
+import com.flow.fileextension.global.util.ExtensionValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파일 확장자 검사 처리량 벤치마크 (H2)
+ * 기존 방식(확장자마다 findByExtension 조회)과 정책 스냅샷 방식을 같은 파일명 집합으로 비교한다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.flow.fileextension=WARN"
+})
+@ActiveProfiles("test")
+@DisplayName("파일 검사 처리량 벤치마크")
+class FileCheckThroughputBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 200_000;
+
+    private static final List<String> FILENAMES = List.of(
+            "report.tar.gz.exe",
+            "virus.exe.txt",
+            "document.pdf",
+            "my.document.v1.0.pdf",
+            "README",
+            "backup.2024.01.01.tar.gz",
+            "script.SH",
+            "photo.jpeg"
+    );
+
+    @Autowired
+    private FileCheckService fileCheckService;
+
+    @Autowired
+    private ExtensionService extensionService;
+
+    @Autowired
+    private ExtensionRepository extensionRepository;
+
+    private Extension exe;
+
+    @BeforeEach
+    void setUp() {
+        exe = extensionRepository.findByExtension("exe").orElseThrow();
+        extensionService.updateFixedExtensionBlockStatus(exe.getId(), true, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        extensionService.updateFixedExtensionBlockStatus(exe.getId(), exe.isBlocked(), null);
+    }
+
+    @Test
+    @DisplayName("확장자별 DB 조회 대비 정책 스냅샷 처리량")
+    void compareThroughput() {
+        List<MultipartFile> files = FILENAMES.stream()
+                .map(name -> (MultipartFile) new MockMultipartFile("file", name, "application/octet-stream", new byte[0]))
+                .toList();
+
+        double before = measure("before: 확장자별 findByExtension", files, this::isBlockedByRepository);
+        double after = measure("after: 정책 스냅샷", files, fileCheckService::isFileExtensionBlocked);
+
+        System.out.printf("speedup: %.1fx%n", after / before);
+        assertThat(after).isGreaterThan(before);
+    }
+
+    /**
+     * 스냅샷 도입 이전 FileCheckService의 조회 방식
+     */
+    private boolean isBlockedByRepository(MultipartFile file) {
+        for (String ext : ExtensionValidator.extractAllExtensions(file.getOriginalFilename())) {
+            boolean blocked = extensionRepository.findByExtension(ExtensionValidator.normalize(ext))
+                    .map(Extension::isBlocked)
+                    .orElse(false);
+            if (blocked) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private double measure(String label, List<MultipartFile> files, Predicate<MultipartFile> check) {
+        int blocked = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            blocked += check.test(files.get(i % files.size())) ? 1 : 0;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            blocked += check.test(files.get(i % files.size())) ? 1 : 0;
+        }
+        long elapsed = System.nanoTime() - start;
+
+        double checksPerSecond = MEASURE_ITERATIONS / (elapsed / 1_000_000_000.0);
+        System.out.printf("%-32s %,12.0f checks/sec (blocked=%d)%n", label, checksPerSecond, blocked);
+        return checksPerSecond;
+    }
+}
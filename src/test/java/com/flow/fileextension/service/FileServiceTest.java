@@ -246,4 +246,28 @@ class FileServiceTest {
         // then
         assertThat(result).isFalse(); // 허용됨
     }
+
+    @Test
+    @DisplayName("허용된 확장자라도 내용이 차단된 실행 파일이면 검증 실패")
+    void checkFileExtension_ExecutableContentWithAllowedName_ReturnsTrue() {
+        // given - exe가 차단된 상태에서 PE 실행 파일을 pdf 이름으로 업로드
+        byte[] content = new byte[512];
+        content[0] = 'M';
+        content[1] = 'Z';
+        content[0x3C] = (byte) 0x80;
+        content[0x80] = 'P';
+        content[0x81] = 'E';
+        MockMultipartFile file = new MockMultipartFile(
+                "file",
+                "invoice.pdf",
+                "application/pdf",
+                content
+        );
+
+        // when
+        boolean result = fileService.checkFileExtension(file);
+
+        // then
+        assertThat(result).isTrue(); // 차단됨 (내용이 PE 실행 파일)
+    }
 }